@@ -0,0 +1,80 @@
+package com.hexagonal.todo.benchmarks;
+
+import com.hexagonal.todo.benchmarks.load.ExternalServiceStub;
+import com.hexagonal.todo.domain.models.AdditionalTaskInfo;
+import com.hexagonal.todo.infrastructure.adapters.ExternalServiceAdapter;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookups per second through the external service adapter when a burst of requests is queued at once on a pool of
+ * 50 keep-alive connections to a local stub, as the batch info route does. Measures the client, pool and callback
+ * path, not the network.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExternalServiceAdapterBenchmark {
+
+    private static final int BURST = 2000;
+    private static final int MAX_CONNECTIONS = 50;
+
+    private ExternalServiceStub stub;
+    private ExecutorService callbackExecutor;
+    private CloseableHttpAsyncClient httpClient;
+    private ExternalServiceAdapter adapter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stub = new ExternalServiceStub();
+        callbackExecutor = Executors.newFixedThreadPool(4);
+        httpClient = ExternalServiceAdapter.createHttpClient(Duration.ofSeconds(10), Duration.ofSeconds(10),
+                MAX_CONNECTIONS);
+        adapter = new ExternalServiceAdapter(httpClient, stub.uri(), JsonMapper.builder().build(), MAX_CONNECTIONS,
+                callbackExecutor);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        httpClient.close();
+        callbackExecutor.shutdownNow();
+        stub.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BURST)
+    public List<CompletableFuture<Optional<AdditionalTaskInfo>>> burstOfLookups() {
+        List<CompletableFuture<Optional<AdditionalTaskInfo>>> calls = new ArrayList<>(BURST);
+        for (int i = 0; i < BURST; i++) {
+            calls.add(adapter.getAdditionalTaskInfoAsync((long) i));
+        }
+        CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).join();
+        return calls;
+    }
+}
@@ -0,0 +1,80 @@
+package com.hexagonal.todo.benchmarks;
+
+import com.hexagonal.todo.domain.models.Task;
+import com.hexagonal.todo.infrastructure.controllers.dto.TaskRequest;
+import com.hexagonal.todo.infrastructure.controllers.dto.TaskResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON encoding of single tasks and of 10k-task lists, and decoding of a create request, with a mapper
+ * configured like the application's (Jackson 3 defaults: ISO-8601 dates). Run with -prof gc for allocation rates.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class TaskJsonBenchmark {
+
+    private static final int LIST_SIZE = 10_000;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private TaskResponse response;
+    private List<Task> tasks;
+    private List<TaskResponse> responses;
+    private byte[] requestJson;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime creationDate = LocalDateTime.of(2024, 3, 1, 12, 0);
+        tasks = new ArrayList<>(LIST_SIZE);
+        for (long id = 1; id <= LIST_SIZE; id++) {
+            tasks.add(new Task(id, "Task " + id, "Description of task " + id, creationDate.plusSeconds(id), id % 3 == 0));
+        }
+        responses = tasks.stream().map(TaskResponse::fromDomainModel).toList();
+        response = responses.get(0);
+        requestJson = "{\"title\":\"Buy milk\",\"description\":\"Two litres\",\"completed\":false}"
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] encodeTask() {
+        return jsonMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public TaskRequest decodeTaskRequest() {
+        return jsonMapper.readValue(requestJson, TaskRequest.class);
+    }
+
+    @Benchmark
+    public byte[] encodeTaskList() {
+        return jsonMapper.writeValueAsBytes(responses);
+    }
+
+    /**
+     * What a list endpoint does with the tasks it got from the service: map each to a response, then encode.
+     */
+    @Benchmark
+    public byte[] mapAndEncodeTaskList() {
+        return jsonMapper.writeValueAsBytes(tasks.stream().map(TaskResponse::fromDomainModel).toList());
+    }
+}
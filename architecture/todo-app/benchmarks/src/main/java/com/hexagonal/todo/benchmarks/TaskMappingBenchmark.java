@@ -0,0 +1,74 @@
+package com.hexagonal.todo.benchmarks;
+
+import com.hexagonal.todo.domain.models.Task;
+import com.hexagonal.todo.infrastructure.controllers.dto.TaskRequest;
+import com.hexagonal.todo.infrastructure.controllers.dto.TaskResponse;
+import com.hexagonal.todo.infrastructure.entities.TaskEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The copies a task goes through on one request: request DTO to domain, domain to entity and back,
+ * domain to response DTO. Run with -prof gc to see the bytes allocated per operation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class TaskMappingBenchmark {
+
+    private TaskRequest request;
+    private Task task;
+    private TaskEntity entity;
+
+    @Setup
+    public void setUp() {
+        request = new TaskRequest("Buy milk", "Two litres of semi-skimmed from the corner shop", false);
+        task = new Task(42L, request.getTitle(), request.getDescription(), LocalDateTime.of(2024, 3, 1, 12, 0), false);
+        entity = TaskEntity.fromDomainModel(task);
+    }
+
+    @Benchmark
+    public Task requestToDomain() {
+        return request.toDomainModel();
+    }
+
+    @Benchmark
+    public TaskEntity domainToEntity() {
+        return TaskEntity.fromDomainModel(task);
+    }
+
+    @Benchmark
+    public Task entityToDomain() {
+        return entity.toDomainModel();
+    }
+
+    @Benchmark
+    public TaskResponse domainToResponse() {
+        return TaskResponse.fromDomainModel(task);
+    }
+
+    /**
+     * Every conversion a create request makes, in order.
+     */
+    @Benchmark
+    public TaskResponse createRequestPath() {
+        Task created = request.toDomainModel();
+        created.setId(task.getId());
+        Task saved = TaskEntity.fromDomainModel(created).toDomainModel();
+        return TaskResponse.fromDomainModel(saved);
+    }
+}
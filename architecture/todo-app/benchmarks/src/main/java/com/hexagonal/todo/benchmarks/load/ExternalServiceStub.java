@@ -0,0 +1,65 @@
+package com.hexagonal.todo.benchmarks.load;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Answers GET /tasks/{id}/info for the app under test, so the info routes measure the app and not a timeout.
+ * An optional delay stands in for a slow remote service.
+ */
+public class ExternalServiceStub implements AutoCloseable {
+
+    private static final byte[] INFO = "{\"userId\":1,\"userName\":\"Load Test\",\"userEmail\":\"load@example.com\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    public ExternalServiceStub() {
+        this(Duration.ZERO);
+    }
+
+    public ExternalServiceStub(Duration delay) {
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot start the external service stub", e);
+        }
+        server.createContext("/tasks/", exchange -> {
+            if (!delay.isZero()) {
+                try {
+                    Thread.sleep(delay.toMillis());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, INFO.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(INFO);
+            }
+        });
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public URI uri() {
+        return URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/");
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
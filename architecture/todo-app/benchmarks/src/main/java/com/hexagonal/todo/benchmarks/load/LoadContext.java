@@ -0,0 +1,69 @@
+package com.hexagonal.todo.benchmarks.load;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * State shared by the load workers: the target URL, recently created task ids and the batch counter.
+ * Ids are kept in a fixed ring, so picking one is O(1); an id may have been deleted since, which shows up as a 404.
+ */
+class LoadContext {
+
+    static final int TITLE_GROUPS = 1000;
+
+    private static final int RECENT_IDS = 1 << 16;
+    private static final List<String> WORDS = List.of(
+            "milk", "report", "invoice", "garden", "meeting", "release", "dentist", "groceries",
+            "backup", "review", "deploy", "budget", "travel", "laundry", "taxes", "birthday");
+
+    private final URI baseUri;
+    private final AtomicLongArray recentIds = new AtomicLongArray(RECENT_IDS);
+    private final AtomicLong createdIds = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+
+    LoadContext(URI baseUri) {
+        this.baseUri = baseUri;
+    }
+
+    URI uri(String pathAndQuery) {
+        return baseUri.resolve(pathAndQuery);
+    }
+
+    void addId(long id) {
+        recentIds.set((int) (createdIds.getAndIncrement() & (RECENT_IDS - 1)), id);
+    }
+
+    long randomId() {
+        long known = Math.min(createdIds.get(), RECENT_IDS);
+        return known == 0 ? 1 : recentIds.get(random().nextInt((int) known));
+    }
+
+    long nextBatch() {
+        return batches.incrementAndGet();
+    }
+
+    /**
+     * A batch created earlier, or 1 when none has been created yet.
+     */
+    long randomBatch() {
+        return 1 + random().nextLong(Math.max(1, batches.get()));
+    }
+
+    String randomWord() {
+        return WORDS.get(random().nextInt(WORDS.size()));
+    }
+
+    /**
+     * Title prefix shared by about 1/{@value #TITLE_GROUPS} of the single-created and seeded tasks.
+     */
+    String randomGroup() {
+        return String.format("task-%04d", random().nextInt(TITLE_GROUPS));
+    }
+
+    ThreadLocalRandom random() {
+        return ThreadLocalRandom.current();
+    }
+}
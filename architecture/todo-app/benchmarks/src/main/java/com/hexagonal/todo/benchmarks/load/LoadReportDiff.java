@@ -0,0 +1,81 @@
+package com.hexagonal.todo.benchmarks.load;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares two {@link LoadTest} reports route by route: throughput, p99 and p99.9 of the candidate relative
+ * to the baseline. With --threshold=N it exits with status 1 when any mix as a whole lost more than N percent
+ * of its throughput or its p99 grew by more than N percent, so it can gate a build.
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar com.hexagonal.todo.benchmarks.load.LoadReportDiff \
+ *     baseline.json candidate.json [--threshold=10]
+ * </pre>
+ */
+public class LoadReportDiff {
+
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+
+    public static void main(String[] args) throws Exception {
+        List<String> files = new ArrayList<>();
+        List<String> options = new ArrayList<>();
+        for (String arg : args) {
+            (arg.startsWith("--") ? options : files).add(arg);
+        }
+        if (files.size() != 2) {
+            throw new IllegalArgumentException("Expected a baseline and a candidate report");
+        }
+        Map<String, String> parsed = LoadTest.parse(options.toArray(String[]::new));
+        double threshold = Double.parseDouble(parsed.getOrDefault("threshold", "Infinity"));
+        JsonNode baseline = JSON.readTree(Files.readAllBytes(Path.of(files.get(0))));
+        JsonNode candidate = JSON.readTree(Files.readAllBytes(Path.of(files.get(1))));
+
+        List<String> regressions = new ArrayList<>();
+        for (Map.Entry<String, JsonNode> mix : baseline.get("mixes").properties()) {
+            JsonNode other = candidate.path("mixes").path(mix.getKey());
+            if (other.isMissingNode()) {
+                continue;
+            }
+            System.out.printf("%n%s%n%-32s %12s %12s %12s%n", mix.getKey(), "route", "req/s", "p99", "p99.9");
+            for (Map.Entry<String, JsonNode> route : mix.getValue().get("routes").properties()) {
+                JsonNode otherRoute = other.path("routes").path(route.getKey());
+                if (!otherRoute.isMissingNode()) {
+                    print(route.getKey(), route.getValue(), otherRoute);
+                }
+            }
+            print("all", mix.getValue(), other);
+            double throughput = change(mix.getValue().get("throughput"), other.get("throughput"));
+            double p99 = change(latency(mix.getValue(), "p99"), latency(other, "p99"));
+            if (-throughput > threshold || p99 > threshold) {
+                regressions.add(String.format("%s: throughput %+.1f%%, p99 %+.1f%%", mix.getKey(), throughput, p99));
+            }
+        }
+        if (!regressions.isEmpty()) {
+            System.out.println();
+            regressions.forEach(regression -> System.out.println("REGRESSION " + regression));
+            System.exit(1);
+        }
+    }
+
+    private static void print(String label, JsonNode baseline, JsonNode candidate) {
+        System.out.printf("%-32s %+11.1f%% %+11.1f%% %+11.1f%%%n", label,
+                change(baseline.get("throughput"), candidate.get("throughput")),
+                change(latency(baseline, "p99"), latency(candidate, "p99")),
+                change(latency(baseline, "p999"), latency(candidate, "p999")));
+    }
+
+    private static JsonNode latency(JsonNode node, String percentile) {
+        return node.get("latencyMicros").get(percentile);
+    }
+
+    private static double change(JsonNode baseline, JsonNode candidate) {
+        double before = baseline.asDouble();
+        return before == 0 ? 0 : (candidate.asDouble() - before) / before * 100;
+    }
+}
@@ -0,0 +1,268 @@
+package com.hexagonal.todo.benchmarks.load;
+
+import org.HdrHistogram.Histogram;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Closed-loop load test of every TaskController route. Starts the app from its executable jar (embedded profile
+ * by default, so no database server is needed) or targets a running instance with --url, seeds tasks, then runs
+ * each mix: a warmup whose results are dropped, then a measured window. Prints a summary and writes throughput,
+ * status counts and HdrHistogram latency percentiles per mix and route as JSON; {@link LoadReportDiff} compares
+ * two such files.
+ * <p>
+ * Each worker waits for a response before it sends the next request, so latency is measured under the load the
+ * app sustains and queueing delay beyond that is not visible (coordinated omission); compare throughput too.
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar com.hexagonal.todo.benchmarks.load.LoadTest \
+ *     [--app-jar=target/todo-0.0.1-SNAPSHOT-exec.jar] [--profile=embedded] [--app-jvm-args="-Xmx1g"]
+ *     [--url=http://localhost:8080/] [--mixes=read-heavy,write-heavy,mixed] [--threads=32]
+ *     [--warmup=10] [--duration=30] [--seed=10000] [--output=load-report.json]
+ * </pre>
+ */
+public class LoadTest {
+
+    private static final int SEED_BATCH = 500;
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+    private static final String[] PERCENTILE_NAMES = {"p50", "p90", "p99", "p999"};
+    private static final JsonMapper JSON = JsonMapper.builder().enable(SerializationFeature.INDENT_OUTPUT).build();
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final LoadContext context;
+    private final int threads;
+    private final Duration warmup;
+    private final Duration duration;
+
+    LoadTest(URI baseUri, int threads, Duration warmup, Duration duration) {
+        this.context = new LoadContext(baseUri);
+        this.threads = threads;
+        this.warmup = warmup;
+        this.duration = duration;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        int threads = Integer.parseInt(options.getOrDefault("threads", "32"));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10")));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30")));
+        int seed = Integer.parseInt(options.getOrDefault("seed", "10000"));
+        String profile = options.getOrDefault("profile", "embedded");
+        List<Mix> mixes = Arrays.stream(options.getOrDefault("mixes", "read-heavy,write-heavy,mixed").split(","))
+                .map(Mix::fromLabel)
+                .toList();
+        Path output = Path.of(options.getOrDefault("output", "load-report.json"));
+
+        ObjectNode report = JSON.createObjectNode();
+        report.put("startedAt", Instant.now().toString());
+        if (options.containsKey("url")) {
+            report.put("target", options.get("url"));
+            run(new LoadTest(URI.create(options.get("url")), threads, warmup, duration), seed, mixes, report);
+        } else {
+            Path jar = Path.of(options.getOrDefault("app-jar", defaultJar()));
+            TodoAppProcess.checkJar(jar);
+            List<String> jvmArgs = options.containsKey("app-jvm-args")
+                    ? List.of(options.get("app-jvm-args").trim().split("\\s+")) : List.of();
+            Path dataDirectory = Files.createTempDirectory("todo-load-");
+            report.put("target", jar.getFileName().toString());
+            report.put("profile", profile);
+            report.put("appJvmArgs", String.join(" ", jvmArgs));
+            try (ExternalServiceStub externalService = new ExternalServiceStub();
+                 TodoAppProcess app = TodoAppProcess.start(jar, profile, jvmArgs, List.of(), externalService.uri(),
+                         dataDirectory)) {
+                System.out.println("App started at " + app.baseUri() + ", log in " + app.log());
+                run(new LoadTest(app.baseUri(), threads, warmup, duration), seed, mixes, report);
+            }
+        }
+        ObjectNode settings = report.putObject("settings");
+        settings.put("threads", threads);
+        settings.put("warmupSeconds", warmup.toSeconds());
+        settings.put("durationSeconds", duration.toSeconds());
+        settings.put("seedTasks", seed);
+        Files.write(output, JSON.writeValueAsBytes(report));
+        System.out.println("Report written to " + output.toAbsolutePath());
+    }
+
+    private static void run(LoadTest test, int seed, List<Mix> mixes, ObjectNode report) throws Exception {
+        test.seed(seed);
+        ObjectNode results = report.putObject("mixes");
+        for (Mix mix : mixes) {
+            results.set(mix.label(), test.run(mix));
+        }
+    }
+
+    /**
+     * Creates the starting data set through the batch route, spread over the title groups the mixes filter on.
+     */
+    void seed(int tasks) throws IOException, InterruptedException {
+        for (int start = 0; start < tasks; start += SEED_BATCH) {
+            String body = IntStream.range(start, Math.min(start + SEED_BATCH, tasks))
+                    .mapToObj(i -> Route.taskJson(context, String.format("task-%04d", i % LoadContext.TITLE_GROUPS)))
+                    .collect(Collectors.joining(",", "[", "]"));
+            HttpRequest request = HttpRequest.newBuilder(context.uri("api/tasks/batch"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() != 201 && response.statusCode() != 200) {
+                throw new IllegalStateException("Seeding failed with status " + response.statusCode());
+            }
+            Route.CREATE_BATCH.onSuccess(context, response.body());
+        }
+        System.out.println("Seeded " + tasks + " tasks");
+    }
+
+    ObjectNode run(Mix mix) throws InterruptedException {
+        Map<Route, RouteStats> stats = new EnumMap<>(Route.class);
+        for (Route route : Route.values()) {
+            stats.put(route, new RouteStats());
+        }
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            Thread worker = new Thread(() -> work(mix, stats), "load-" + mix.label() + "-" + i);
+            workers.add(worker);
+            worker.start();
+        }
+        Thread.sleep(warmup.toMillis());
+        stats.values().forEach(RouteStats::takeLatencies);
+        stats.values().forEach(RouteStats::takeStatuses);
+        long measuredFrom = System.nanoTime();
+        Thread.sleep(duration.toMillis());
+        Map<Route, Histogram> latencies = new EnumMap<>(Route.class);
+        Map<Route, Map<Integer, Long>> statuses = new EnumMap<>(Route.class);
+        stats.forEach((route, routeStats) -> {
+            latencies.put(route, routeStats.takeLatencies());
+            statuses.put(route, routeStats.takeStatuses());
+        });
+        double seconds = (System.nanoTime() - measuredFrom) / 1e9;
+        workers.forEach(Thread::interrupt);
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return summarize(mix, latencies, statuses, seconds);
+    }
+
+    private void work(Mix mix, Map<Route, RouteStats> stats) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (!Thread.currentThread().isInterrupted()) {
+            Route route = mix.pick(random);
+            HttpRequest request = route.request(context);
+            long start = System.nanoTime();
+            int status = 0;
+            try {
+                HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                status = response.statusCode();
+                if (status / 100 == 2) {
+                    route.onSuccess(context, response.body());
+                }
+            } catch (IOException e) {
+                // counted as status 0
+            } catch (InterruptedException e) {
+                return;
+            }
+            stats.get(route).record(System.nanoTime() - start, status);
+        }
+    }
+
+    private ObjectNode summarize(Mix mix, Map<Route, Histogram> latencies, Map<Route, Map<Integer, Long>> statuses,
+                                 double seconds) {
+        ObjectNode result = JSON.createObjectNode();
+        Histogram all = new Histogram(3);
+        long errors = 0;
+        ObjectNode routes = JSON.createObjectNode();
+        System.out.printf("%n%s: %.1f s measured%n%-32s %10s %10s %8s %8s %8s %8s %8s%n", mix.label(), seconds,
+                "route", "requests", "req/s", "errors", "p50 us", "p99 us", "p99.9 us", "max us");
+        for (Route route : Route.values()) {
+            Histogram histogram = latencies.get(route);
+            all.add(histogram);
+            long routeErrors = errors(statuses.get(route));
+            errors += routeErrors;
+            ObjectNode node = routes.putObject(route.label());
+            describe(node, histogram, routeErrors, seconds);
+            ObjectNode statusCounts = node.putObject("statuses");
+            statuses.get(route).forEach((status, count) -> statusCounts.put(String.valueOf(status), count));
+            print(route.label(), histogram, routeErrors, seconds);
+        }
+        print("all", all, errors, seconds);
+        describe(result, all, errors, seconds);
+        result.put("measuredSeconds", seconds);
+        result.set("routes", routes);
+        return result;
+    }
+
+    private static void describe(ObjectNode node, Histogram histogram, long errors, double seconds) {
+        node.put("requests", histogram.getTotalCount());
+        node.put("throughput", histogram.getTotalCount() / seconds);
+        node.put("errors", errors);
+        ObjectNode latency = node.putObject("latencyMicros");
+        latency.put("mean", histogram.getMean());
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            latency.put(PERCENTILE_NAMES[i], histogram.getValueAtPercentile(PERCENTILES[i]));
+        }
+        latency.put("max", histogram.getMaxValue());
+    }
+
+    private static void print(String label, Histogram histogram, long errors, double seconds) {
+        System.out.printf("%-32s %10d %10.1f %8d %8d %8d %8d %8d%n", label, histogram.getTotalCount(),
+                histogram.getTotalCount() / seconds, errors, histogram.getValueAtPercentile(50),
+                histogram.getValueAtPercentile(99), histogram.getValueAtPercentile(99.9), histogram.getMaxValue());
+    }
+
+    /**
+     * Failed requests and 5xx responses. A 404 is expected: reads pick ids that other workers may have deleted.
+     */
+    private static long errors(Map<Integer, Long> statuses) {
+        return statuses.entrySet().stream()
+                .filter(entry -> entry.getKey() == 0 || entry.getKey() >= 500)
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+    }
+
+    static String defaultJar() throws IOException {
+        Path target = Path.of("target");
+        if (Files.isDirectory(target)) {
+            try (Stream<Path> files = Files.list(target)) {
+                return files.filter(file -> file.getFileName().toString().endsWith("-exec.jar"))
+                        .findFirst()
+                        .map(Path::toString)
+                        .orElse("target/todo-0.0.1-SNAPSHOT-exec.jar");
+            }
+        }
+        return "target/todo-0.0.1-SNAPSHOT-exec.jar";
+    }
+
+    static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (!arg.startsWith("--") || equals < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            options.put(arg.substring(2, equals), arg.substring(equals + 1));
+        }
+        return options;
+    }
+}
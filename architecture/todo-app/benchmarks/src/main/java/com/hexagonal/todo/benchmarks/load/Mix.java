@@ -0,0 +1,50 @@
+package com.hexagonal.todo.benchmarks.load;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A weighted mix of every {@link Route}; the weights live next to the routes.
+ */
+enum Mix {
+
+    READ_HEAVY,
+    WRITE_HEAVY,
+    MIXED;
+
+    private final Route[] byTicket;
+
+    Mix() {
+        int total = 0;
+        for (Route route : Route.values()) {
+            total += route.weight(this);
+        }
+        byTicket = new Route[total];
+        int ticket = 0;
+        for (Route route : Route.values()) {
+            for (int i = 0; i < route.weight(this); i++) {
+                byTicket[ticket++] = route;
+            }
+        }
+    }
+
+    Route pick(ThreadLocalRandom random) {
+        return byTicket[random.nextInt(byTicket.length)];
+    }
+
+    /**
+     * Name used on the command line and in reports, e.g. read-heavy.
+     */
+    String label() {
+        return name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    static Mix fromLabel(String label) {
+        for (Mix mix : values()) {
+            if (mix.label().equals(label)) {
+                return mix;
+            }
+        }
+        throw new IllegalArgumentException("Unknown mix " + label + "; expected read-heavy, write-heavy or mixed");
+    }
+}
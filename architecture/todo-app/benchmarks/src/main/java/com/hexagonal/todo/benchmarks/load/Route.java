@@ -0,0 +1,187 @@
+package com.hexagonal.todo.benchmarks.load;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * One TaskController route, how to build a request for it, and its weight per mille in each {@link Mix}.
+ */
+enum Route {
+
+    CREATE("POST /api/tasks", 60, 300, 150) {
+        @Override
+        HttpRequest request(LoadContext context) {
+            return json(context.uri("api/tasks"), "POST", taskJson(context, context.randomGroup()));
+        }
+
+        @Override
+        void onSuccess(LoadContext context, byte[] body) {
+            context.addId(JSON.readTree(body).get("id").asLong());
+        }
+    },
+    CREATE_BATCH("POST /api/tasks/batch", 10, 60, 30) {
+        @Override
+        HttpRequest request(LoadContext context) {
+            String prefix = "batch-" + context.nextBatch() + " ";
+            String tasks = LongStream.range(0, BATCH_SIZE)
+                    .mapToObj(i -> taskJson(context, prefix + i))
+                    .collect(Collectors.joining(",", "[", "]"));
+            return json(context.uri("api/tasks/batch"), "POST", tasks);
+        }
+
+        @Override
+        void onSuccess(LoadContext context, byte[] body) {
+            for (JsonNode task : JSON.readTree(body)) {
+                context.addId(task.get("id").asLong());
+            }
+        }
+    },
+    LIST("GET /api/tasks", 200, 60, 150) {
+        @Override
+        HttpRequest request(LoadContext context) {
+            String filter = switch (context.random().nextInt(4)) {
+                case 0 -> "";
+                case 1 -> "&completed=false";
+                case 2 -> "&sort=creationDate,desc";
+                default -> "&titlePrefix=" + context.randomGroup();
+            };
+            return get(context.uri("api/tasks?limit=50" + filter));
+        }
+    },
+    SEARCH("GET /api/tasks/search", 100, 30, 70) {
+        @Override
+        HttpRequest request(LoadContext context) {
+            return get(context.uri("api/tasks/search?limit=20&q=" + context.randomWord()));
+        }
+    },
+    EXPORT("GET /api/tasks/export", 5, 2, 3) {
+        @Override
+        HttpRequest request(LoadContext context) {
+            return get(context.uri("api/tasks/export"));
+        }
+    },
+    GET("GET /api/tasks/{id}", 350, 100, 245) {
+        @Override
+        HttpRequest request(LoadContext context) {
+            return get(context.uri("api/tasks/" + context.randomId()));
+        }
+    },
+    UPDATE("PUT /api/tasks/{id}", 40, 200, 120) {
+        @Override
+        HttpRequest request(LoadContext context) {
+            return json(context.uri("api/tasks/" + context.randomId()), "PUT",
+                    taskJson(context, context.randomGroup()));
+        }
+    },
+    DELETE("DELETE /api/tasks/{id}", 10, 80, 40) {
+        @Override
+        HttpRequest request(LoadContext context) {
+            return send(context.uri("api/tasks/" + context.randomId()), "DELETE");
+        }
+    },
+    DELETE_BATCH("DELETE /api/tasks/batch", 5, 30, 15) {
+        @Override
+        HttpRequest request(LoadContext context) {
+            return send(context.uri("api/tasks/batch?ids=" + randomIds(context)), "DELETE");
+        }
+    },
+    DELETE_FILTERED("DELETE /api/tasks", 5, 20, 10) {
+        @Override
+        HttpRequest request(LoadContext context) {
+            // only ever matches the tasks of one earlier batch
+            return send(context.uri("api/tasks?titlePrefix=" + encode("batch-" + context.randomBatch() + " ")),
+                    "DELETE");
+        }
+    },
+    INFO_BATCH("GET /api/tasks/info", 40, 10, 25) {
+        @Override
+        HttpRequest request(LoadContext context) {
+            return get(context.uri("api/tasks/info?ids=" + randomIds(context)));
+        }
+    },
+    INFO("GET /api/tasks/{id}/info", 120, 40, 80) {
+        @Override
+        HttpRequest request(LoadContext context) {
+            return get(context.uri("api/tasks/" + context.randomId() + "/info"));
+        }
+    },
+    COMPLETE("PATCH /api/tasks/{id}/complete", 50, 60, 55) {
+        @Override
+        HttpRequest request(LoadContext context) {
+            return send(context.uri("api/tasks/" + context.randomId() + "/complete"), "PATCH");
+        }
+    },
+    COMPLETE_FILTERED("PATCH /api/tasks/complete", 5, 8, 7) {
+        @Override
+        HttpRequest request(LoadContext context) {
+            return send(context.uri("api/tasks/complete?completed=false&titlePrefix=" + context.randomGroup()),
+                    "PATCH");
+        }
+    };
+
+    static final int BATCH_SIZE = 10;
+
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+    private static final int IDS_PER_REQUEST = 5;
+
+    private final String label;
+    private final int[] weights;
+
+    Route(String label, int readHeavy, int writeHeavy, int mixed) {
+        this.label = label;
+        this.weights = new int[] {readHeavy, writeHeavy, mixed};
+    }
+
+    abstract HttpRequest request(LoadContext context);
+
+    /**
+     * Called with the body of a 2xx response; creates use it to learn the new ids.
+     */
+    void onSuccess(LoadContext context, byte[] body) {
+    }
+
+    String label() {
+        return label;
+    }
+
+    int weight(Mix mix) {
+        return weights[mix.ordinal()];
+    }
+
+    static String taskJson(LoadContext context, String titlePrefix) {
+        return String.format("{\"title\":\"%s %s\",\"description\":\"%s %s %s\",\"completed\":false}",
+                titlePrefix, context.randomWord(), context.randomWord(), context.randomWord(), context.randomWord());
+    }
+
+    private static String randomIds(LoadContext context) {
+        return LongStream.range(0, IDS_PER_REQUEST)
+                .mapToObj(i -> String.valueOf(context.randomId()))
+                .collect(Collectors.joining(","));
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+
+    private static HttpRequest get(URI uri) {
+        return HttpRequest.newBuilder(uri).GET().build();
+    }
+
+    private static HttpRequest send(URI uri, String method) {
+        return HttpRequest.newBuilder(uri).method(method, HttpRequest.BodyPublishers.noBody()).build();
+    }
+
+    private static HttpRequest json(URI uri, String method, String body) {
+        return HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.hexagonal.todo.benchmarks.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies in microseconds and response status counts of one route, recorded concurrently by all workers.
+ * Status 0 stands for a request that failed without a response.
+ */
+class RouteStats {
+
+    private final Recorder latencies = new Recorder(3);
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+    void record(long latencyNanos, int status) {
+        latencies.recordValue(Math.max(1, latencyNanos / 1_000));
+        statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Returns the latencies recorded since the last call and starts a new interval; the first call ends the warmup.
+     */
+    Histogram takeLatencies() {
+        return latencies.getIntervalHistogram();
+    }
+
+    Map<Integer, Long> takeStatuses() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        statuses.forEach((status, count) -> counts.put(status, count.sumThenReset()));
+        counts.values().removeIf(count -> count == 0);
+        return counts;
+    }
+}
@@ -0,0 +1,167 @@
+package com.hexagonal.todo.benchmarks.load;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compares platform and virtual request threads under concurrent GET /api/tasks/{id} and GET /api/tasks/{id}/info
+ * traffic. Starts the app from its executable jar once per mode with both caches disabled, so every request blocks
+ * on JDBC or on the (delayed) external service stub. Needs the configured Postgres and, for the virtual run, a
+ * Java 21+ runtime.
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar com.hexagonal.todo.benchmarks.load.ThreadingModeBenchmark \
+ *     [--app-jar=target/todo-0.0.1-SNAPSHOT-exec.jar] [--concurrency=400] [--requests=20000] [--delay=20]
+ * </pre>
+ * --requests is per route and mode, --delay is the external service delay in ms.
+ */
+public class ThreadingModeBenchmark {
+
+    private static final int SEEDED_TASKS = 1000;
+
+    private final int concurrency;
+    private final int requests;
+    private final HttpClient client;
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private ThreadingModeBenchmark(int concurrency, int requests) {
+        this.concurrency = concurrency;
+        this.requests = requests;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = LoadTest.parse(args);
+        Path jar = Path.of(options.getOrDefault("app-jar", LoadTest.defaultJar()));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "400"));
+        int requests = Integer.parseInt(options.getOrDefault("requests", "20000"));
+        Duration externalDelay = Duration.ofMillis(Long.parseLong(options.getOrDefault("delay", "20")));
+        TodoAppProcess.checkJar(jar);
+        if (Runtime.version().feature() < 21) {
+            System.out.println("Java " + Runtime.version().feature()
+                    + ": the virtual-threads profile has no effect, both runs use platform threads");
+        }
+
+        ThreadingModeBenchmark benchmark = new ThreadingModeBenchmark(concurrency, requests);
+        try (ExternalServiceStub externalService = new ExternalServiceStub(externalDelay)) {
+            for (String profile : List.of("default", "virtual-threads")) {
+                benchmark.run(jar, profile, externalService.uri());
+            }
+        }
+    }
+
+    private void run(Path jar, String profile, URI externalServiceUri) throws Exception {
+        List<String> appArgs = List.of(
+                "--spring.jpa.show-sql=false",
+                "--logging.level.org.hibernate.SQL=warn",
+                "--todo.cache.tasks.maximum-size=0",
+                "--todo.external-service.cache.maximum-size=0",
+                "--todo.external-service.max-connections=" + concurrency,
+                "--todo.external-service.resilience.max-concurrent-calls=" + concurrency);
+        try (TodoAppProcess app = TodoAppProcess.start(jar, profile, List.of(), appArgs, externalServiceUri,
+                Files.createTempDirectory("todo-threading-"))) {
+            URI baseUri = app.baseUri();
+            List<Long> ids = seed(baseUri);
+
+            measure(baseUri, ids, "", requests / 5);
+            report(profile, "GET /api/tasks/{id}", measure(baseUri, ids, "", requests));
+            measure(baseUri, ids, "/info", requests / 5);
+            report(profile, "GET /api/tasks/{id}/info", measure(baseUri, ids, "/info", requests));
+        }
+    }
+
+    private List<Long> seed(URI baseUri) throws Exception {
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < SEEDED_TASKS; i++) {
+            body.append(i == 0 ? "" : ",").append("{\"title\":\"benchmark ").append(i).append("\"}");
+        }
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("api/tasks/batch"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body.append("]").toString()))
+                .build();
+        JsonNode created = jsonMapper.readTree(client.send(request, HttpResponse.BodyHandlers.ofString()).body());
+        List<Long> ids = new ArrayList<>();
+        created.forEach(task -> ids.add(task.get("id").asLong()));
+        return ids;
+    }
+
+    /**
+     * Closed loop: each client thread sends its next request as soon as the previous one completes.
+     */
+    private Result measure(URI baseUri, List<Long> ids, String suffix, int total) throws InterruptedException {
+        long[] latencies = new long[total];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(concurrency);
+        long start = System.nanoTime();
+        for (int worker = 0; worker < concurrency; worker++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    for (int i = next.getAndIncrement(); i < total; i = next.getAndIncrement()) {
+                        long id = ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+                        HttpRequest request = HttpRequest.newBuilder(
+                                baseUri.resolve("api/tasks/" + id + suffix)).GET().build();
+                        long sent = System.nanoTime();
+                        try {
+                            if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies[i] = System.nanoTime() - sent;
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+            thread.start();
+        }
+        done.await();
+        return new Result(total, System.nanoTime() - start, latencies, errors.get());
+    }
+
+    private static void report(String profile, String endpoint, Result result) {
+        long[] latencies = result.latencies;
+        Arrays.sort(latencies);
+        System.out.printf("%-16s %-26s %6d requests, %7.0f req/s, p50 %7.2f ms, p99 %7.2f ms, %d errors%n",
+                profile,
+                endpoint,
+                result.requests,
+                result.requests / (result.elapsedNanos / 1e9),
+                latencies[latencies.length / 2] / 1e6,
+                latencies[(int) (latencies.length * 0.99)] / 1e6,
+                result.errors);
+    }
+
+    private static class Result {
+        final int requests;
+        final long elapsedNanos;
+        final long[] latencies;
+        final int errors;
+
+        Result(int requests, long elapsedNanos, long[] latencies, int errors) {
+            this.requests = requests;
+            this.elapsedNanos = elapsedNanos;
+            this.latencies = latencies;
+            this.errors = errors;
+        }
+    }
+}
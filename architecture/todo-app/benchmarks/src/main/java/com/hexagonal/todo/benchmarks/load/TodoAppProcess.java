@@ -0,0 +1,130 @@
+package com.hexagonal.todo.benchmarks.load;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * The application under test, started from its executable jar in a child JVM on a free port.
+ * Output goes to app.log in the data directory.
+ */
+class TodoAppProcess implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private final Process process;
+    private final URI baseUri;
+    private final Path log;
+    private final Path storeDirectory;
+
+    private TodoAppProcess(Process process, URI baseUri, Path log, Path storeDirectory) {
+        this.process = process;
+        this.baseUri = baseUri;
+        this.log = log;
+        this.storeDirectory = storeDirectory;
+    }
+
+    /**
+     * Starts the jar with the given profile and waits until it answers. With the embedded profile tasks go to
+     * a fresh directory under dataDirectory; with the default profile the app needs its usual Postgres.
+     * appArgs are extra --name=value properties for the app.
+     */
+    static TodoAppProcess start(Path jar, String profile, List<String> jvmArgs, List<String> appArgs,
+                                URI externalService, Path dataDirectory) throws IOException, InterruptedException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        command.addAll(jvmArgs);
+        command.add("-jar");
+        command.add(jar.toString());
+        command.add("--server.port=" + port);
+        command.add("--spring.profiles.active=" + profile);
+        Path storeDirectory = dataDirectory.resolve("embedded");
+        command.add("--todo.embedded.directory=" + storeDirectory);
+        command.add("--todo.external-service.base-url=" + externalService);
+        command.addAll(appArgs);
+        Path log = dataDirectory.resolve("app.log");
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        TodoAppProcess app = new TodoAppProcess(process, URI.create("http://127.0.0.1:" + port + "/"), log,
+                storeDirectory);
+        app.awaitReady();
+        return app;
+    }
+
+    URI baseUri() {
+        return baseUri;
+    }
+
+    private void awaitReady() throws InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest probe = HttpRequest.newBuilder(baseUri.resolve("api/tasks?limit=1")).build();
+        Instant deadline = Instant.now().plus(STARTUP_TIMEOUT);
+        while (Instant.now().isBefore(deadline)) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("The app exited with " + process.exitValue() + "; see " + log);
+            }
+            try {
+                if (client.send(probe, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // not listening yet
+            }
+            Thread.sleep(250);
+        }
+        close();
+        throw new IllegalStateException("The app did not start within " + STARTUP_TIMEOUT + "; see " + log);
+    }
+
+    /**
+     * Asks the app to shut down gracefully, kills it if it hangs, then deletes the embedded store. The log is kept.
+     */
+    @Override
+    public void close() {
+        process.destroy();
+        try {
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+        if (Files.isDirectory(storeDirectory)) {
+            try (Stream<Path> files = Files.walk(storeDirectory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+            } catch (IOException e) {
+                // leave it for the temp directory cleanup
+            }
+        }
+    }
+
+    Path log() {
+        return log;
+    }
+
+    static void checkJar(Path jar) {
+        if (!jar.toFile().isFile()) {
+            throw new IllegalArgumentException(
+                    "No app jar at " + jar + "; build it with ./mvnw package -DskipTests or pass --app-jar");
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.hexagonal.todo.application.services;
+
+import com.hexagonal.todo.application.usecases.CreateTaskUseCaseImpl;
+import com.hexagonal.todo.application.usecases.DeleteTaskUseCaseImpl;
+import com.hexagonal.todo.application.usecases.GetAdditionalTaskInfoUseCaseImpl;
+import com.hexagonal.todo.application.usecases.RetrieveTaskUseCaseImpl;
+import com.hexagonal.todo.application.usecases.SearchTasksUseCaseImpl;
+import com.hexagonal.todo.domain.models.AdditionalTaskInfo;
+import com.hexagonal.todo.domain.models.Task;
+import com.hexagonal.todo.domain.models.TaskCursor;
+import com.hexagonal.todo.domain.models.TaskFilter;
+import com.hexagonal.todo.domain.models.TaskInfoLookup;
+import com.hexagonal.todo.domain.models.TaskPage;
+import com.hexagonal.todo.domain.models.TaskSort;
+import com.hexagonal.todo.domain.ports.in.ReactiveTaskUseCase;
+import com.hexagonal.todo.domain.ports.out.ExternalServicePort;
+import com.hexagonal.todo.domain.ports.out.ReactiveTaskRepositoryPort;
+import com.hexagonal.todo.domain.ports.out.ReactiveTaskSearchPort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Reactive implementation of the task use cases, with the same limits and validation as the blocking ones.
+ * Nothing here blocks, so it can run on the web server's event-loop threads.
+ */
+public class ReactiveTaskService implements ReactiveTaskUseCase {
+
+    private final ReactiveTaskRepositoryPort taskRepositoryPort;
+    private final ReactiveTaskSearchPort taskSearchPort;
+    private final ExternalServicePort externalServicePort;
+
+    public ReactiveTaskService(ReactiveTaskRepositoryPort taskRepositoryPort,
+                               ReactiveTaskSearchPort taskSearchPort,
+                               ExternalServicePort externalServicePort) {
+        this.taskRepositoryPort = taskRepositoryPort;
+        this.taskSearchPort = taskSearchPort;
+        this.externalServicePort = externalServicePort;
+    }
+
+    @Override
+    public Mono<Task> createTask(Task task) {
+        return taskRepositoryPort.save(task);
+    }
+
+    @Override
+    public Flux<Task> createTasks(List<Task> tasks) {
+        if (tasks.size() > CreateTaskUseCaseImpl.MAX_BATCH_SIZE) {
+            return Flux.error(new IllegalArgumentException(
+                    "A batch may contain at most " + CreateTaskUseCaseImpl.MAX_BATCH_SIZE + " tasks"));
+        }
+        if (tasks.isEmpty()) {
+            return Flux.empty();
+        }
+        return taskRepositoryPort.saveAll(tasks);
+    }
+
+    @Override
+    public Mono<Task> getTask(Long id) {
+        return taskRepositoryPort.findById(id);
+    }
+
+    @Override
+    public Mono<TaskPage> getTasks(TaskFilter filter, String sort, String after, int limit) {
+        if (limit < 1 || limit > RetrieveTaskUseCaseImpl.MAX_PAGE_SIZE) {
+            return Mono.error(new IllegalArgumentException(
+                    "limit must be between 1 and " + RetrieveTaskUseCaseImpl.MAX_PAGE_SIZE));
+        }
+        TaskSort order;
+        TaskCursor cursor;
+        try {
+            order = RetrieveTaskUseCaseImpl.parseSort(sort);
+            cursor = RetrieveTaskUseCaseImpl.parseCursor(after, order);
+        } catch (IllegalArgumentException e) {
+            return Mono.error(e);
+        }
+        return taskRepositoryPort.findPage(filter, order, cursor, limit + 1)
+                .collectList()
+                .map(tasks -> RetrieveTaskUseCaseImpl.toPage(tasks, limit, order));
+    }
+
+    @Override
+    public Mono<TaskPage> searchTasks(String query, String after, int limit) {
+        int offset;
+        try {
+            offset = SearchTasksUseCaseImpl.validate(query, after, limit);
+        } catch (IllegalArgumentException e) {
+            return Mono.error(e);
+        }
+        return taskSearchPort.search(query, offset, limit + 1)
+                .collectList()
+                .map(tasks -> SearchTasksUseCaseImpl.toPage(tasks, offset, limit));
+    }
+
+    @Override
+    public Flux<Task> exportTasks() {
+        return taskRepositoryPort.findAll();
+    }
+
+    @Override
+    public Mono<Task> updateTask(Long id, Task task) {
+        return taskRepositoryPort.update(id, task);
+    }
+
+    @Override
+    public Mono<Task> completeTask(Long id) {
+        return taskRepositoryPort.markCompleted(id);
+    }
+
+    @Override
+    public Mono<Long> completeTasks(TaskFilter filter) {
+        if (filter.isEmpty()) {
+            return Mono.error(new IllegalArgumentException("A bulk completion needs at least one filter"));
+        }
+        return taskRepositoryPort.completeAll(filter);
+    }
+
+    @Override
+    public Mono<Boolean> deleteTask(Long id) {
+        return taskRepositoryPort.deleteById(id);
+    }
+
+    @Override
+    public Mono<Long> deleteTasksById(Collection<Long> ids) {
+        if (ids.size() > DeleteTaskUseCaseImpl.MAX_BATCH_SIZE) {
+            return Mono.error(new IllegalArgumentException(
+                    "A batch may contain at most " + DeleteTaskUseCaseImpl.MAX_BATCH_SIZE + " ids"));
+        }
+        if (ids.isEmpty()) {
+            return Mono.just(0L);
+        }
+        return taskRepositoryPort.deleteAllById(ids);
+    }
+
+    @Override
+    public Mono<Long> deleteTasks(TaskFilter filter) {
+        if (filter.isEmpty()) {
+            return Mono.error(new IllegalArgumentException("A bulk delete needs at least one filter"));
+        }
+        return taskRepositoryPort.deleteAll(filter);
+    }
+
+    /**
+     * Starts the external lookup on subscription and checks that the task exists while it is in flight.
+     * The lookup is cancelled when the task does not exist or the subscriber goes away.
+     */
+    @Override
+    public Mono<AdditionalTaskInfo> getAdditionalTaskInfo(Long id) {
+        return Mono.defer(() -> {
+            CompletableFuture<Optional<AdditionalTaskInfo>> lookup = externalServicePort.getAdditionalTaskInfoAsync(id);
+            return taskRepositoryPort.existsById(id)
+                    .flatMap(exists -> exists ? Mono.fromFuture(lookup) : Mono.just(Optional.<AdditionalTaskInfo>empty()))
+                    .flatMap(Mono::justOrEmpty)
+                    .doFinally(signal -> lookup.cancel(true));
+        });
+    }
+
+    /**
+     * Checks which tasks exist with one query, then looks up the existing ones concurrently.
+     * Unknown ids are emitted first; the rest follow in the order their lookups finish.
+     */
+    @Override
+    public Flux<TaskInfoLookup> getAdditionalTaskInfo(Collection<Long> ids) {
+        Set<Long> requestedIds = new LinkedHashSet<>(ids);
+        if (requestedIds.size() > GetAdditionalTaskInfoUseCaseImpl.MAX_BATCH_SIZE) {
+            return Flux.error(new IllegalArgumentException(
+                    "A batch may contain at most " + GetAdditionalTaskInfoUseCaseImpl.MAX_BATCH_SIZE + " ids"));
+        }
+        if (requestedIds.isEmpty()) {
+            return Flux.empty();
+        }
+        return taskRepositoryPort.findExistingIds(requestedIds).flatMapMany(existingIds -> {
+            Flux<TaskInfoLookup> missing = Flux.fromIterable(requestedIds)
+                    .filter(id -> !existingIds.contains(id))
+                    .map(id -> new TaskInfoLookup(id, TaskInfoLookup.Status.TASK_NOT_FOUND, null));
+            if (existingIds.isEmpty()) {
+                return missing;
+            }
+            return missing.concatWith(Flux.defer(() -> {
+                Map<Long, CompletableFuture<Optional<AdditionalTaskInfo>>> lookups =
+                        externalServicePort.getAdditionalTaskInfoAsync(existingIds);
+                return Flux.fromIterable(lookups.entrySet())
+                        .flatMap(entry -> Mono.fromFuture(entry.getValue())
+                                .map(info -> GetAdditionalTaskInfoUseCaseImpl.toLookup(entry.getKey(), info, null))
+                                .onErrorResume(error -> Mono.just(
+                                        GetAdditionalTaskInfoUseCaseImpl.toLookup(entry.getKey(), null, error))),
+                                lookups.size())
+                        .doFinally(signal -> lookups.values().forEach(lookup -> lookup.cancel(true)));
+            }));
+        });
+    }
+}
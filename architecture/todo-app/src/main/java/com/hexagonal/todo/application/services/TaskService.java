@@ -2,28 +2,38 @@ package com.hexagonal.todo.application.services;
 
 import com.hexagonal.todo.domain.models.AdditionalTaskInfo;
 import com.hexagonal.todo.domain.models.Task;
+import com.hexagonal.todo.domain.models.TaskFilter;
+import com.hexagonal.todo.domain.models.TaskInfoLookup;
+import com.hexagonal.todo.domain.models.TaskPage;
 import com.hexagonal.todo.domain.ports.in.*;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public class TaskService implements
         CreateTaskUseCase, DeleteTaskUseCase,
         GetAdditionalTaskInfoUseCase, RetrieveTaskUseCase,
-        UpdateTaskUseCase
+        UpdateTaskUseCase, CompleteTaskUseCase,
+        SearchTasksUseCase
 {
     private final CreateTaskUseCase createTaskUseCase;
     private final DeleteTaskUseCase deleteTaskUseCase;
     private final GetAdditionalTaskInfoUseCase getAdditionalTaskInfoUseCase;
     private final RetrieveTaskUseCase retrieveTaskUseCase;
     private final UpdateTaskUseCase updateTaskUseCase;
+    private final CompleteTaskUseCase completeTaskUseCase;
+    private final SearchTasksUseCase searchTasksUseCase;
 
-    public TaskService(CreateTaskUseCase createTaskUseCase, DeleteTaskUseCase deleteTaskUseCase, GetAdditionalTaskInfoUseCase getAdditionalTaskInfoUseCase, RetrieveTaskUseCase retrieveTaskUseCase, UpdateTaskUseCase updateTaskUseCase) {
+    public TaskService(CreateTaskUseCase createTaskUseCase, DeleteTaskUseCase deleteTaskUseCase, GetAdditionalTaskInfoUseCase getAdditionalTaskInfoUseCase, RetrieveTaskUseCase retrieveTaskUseCase, UpdateTaskUseCase updateTaskUseCase, CompleteTaskUseCase completeTaskUseCase, SearchTasksUseCase searchTasksUseCase) {
         this.createTaskUseCase = createTaskUseCase;
         this.deleteTaskUseCase = deleteTaskUseCase;
         this.getAdditionalTaskInfoUseCase = getAdditionalTaskInfoUseCase;
         this.retrieveTaskUseCase = retrieveTaskUseCase;
         this.updateTaskUseCase = updateTaskUseCase;
+        this.completeTaskUseCase = completeTaskUseCase;
+        this.searchTasksUseCase = searchTasksUseCase;
     }
 
     @Override
@@ -31,16 +41,36 @@ public class TaskService implements
         return createTaskUseCase.createTask(task);
     }
 
+    @Override
+    public List<Task> createTasks(List<Task> tasks) {
+        return createTaskUseCase.createTasks(tasks);
+    }
+
     @Override
     public Boolean deleteTask(Long id) {
         return deleteTaskUseCase.deleteTask(id);
     }
 
     @Override
-    public AdditionalTaskInfo getAdditionalTaskInfo(Long id) {
+    public long deleteTasksById(Collection<Long> ids) {
+        return deleteTaskUseCase.deleteTasksById(ids);
+    }
+
+    @Override
+    public long deleteTasks(TaskFilter filter) {
+        return deleteTaskUseCase.deleteTasks(filter);
+    }
+
+    @Override
+    public Optional<AdditionalTaskInfo> getAdditionalTaskInfo(Long id) {
         return getAdditionalTaskInfoUseCase.getAdditionalTaskInfo(id);
     }
 
+    @Override
+    public void getAdditionalTaskInfo(Collection<Long> ids, Consumer<TaskInfoLookup> consumer) {
+        getAdditionalTaskInfoUseCase.getAdditionalTaskInfo(ids, consumer);
+    }
+
     @Override
     public Optional<Task> getTask(Long id) {
         return retrieveTaskUseCase.getTask(id);
@@ -51,8 +81,33 @@ public class TaskService implements
         return retrieveTaskUseCase.getAllTasks();
     }
 
+    @Override
+    public TaskPage getTasks(TaskFilter filter, String sort, String after, int limit) {
+        return retrieveTaskUseCase.getTasks(filter, sort, after, limit);
+    }
+
+    @Override
+    public void exportTasks(Consumer<Task> consumer) {
+        retrieveTaskUseCase.exportTasks(consumer);
+    }
+
     @Override
     public Optional<Task> updateTask(Long id, Task updateTask) {
         return updateTaskUseCase.updateTask(id, updateTask);
     }
+
+    @Override
+    public Optional<Task> completeTask(Long id) {
+        return completeTaskUseCase.completeTask(id);
+    }
+
+    @Override
+    public long completeTasks(TaskFilter filter) {
+        return completeTaskUseCase.completeTasks(filter);
+    }
+
+    @Override
+    public TaskPage searchTasks(String query, String after, int limit) {
+        return searchTasksUseCase.searchTasks(query, after, limit);
+    }
 }
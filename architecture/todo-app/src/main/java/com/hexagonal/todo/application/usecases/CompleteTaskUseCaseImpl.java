@@ -0,0 +1,30 @@
+package com.hexagonal.todo.application.usecases;
+
+import com.hexagonal.todo.domain.models.Task;
+import com.hexagonal.todo.domain.models.TaskFilter;
+import com.hexagonal.todo.domain.ports.in.CompleteTaskUseCase;
+import com.hexagonal.todo.domain.ports.out.TaskRepositoryPort;
+
+import java.util.Optional;
+
+public class CompleteTaskUseCaseImpl implements CompleteTaskUseCase {
+
+    private final TaskRepositoryPort taskRepositoryPort;
+
+    public CompleteTaskUseCaseImpl(TaskRepositoryPort taskRepositoryPort) {
+        this.taskRepositoryPort = taskRepositoryPort;
+    }
+
+    @Override
+    public Optional<Task> completeTask(Long id) {
+        return taskRepositoryPort.markCompleted(id);
+    }
+
+    @Override
+    public long completeTasks(TaskFilter filter) {
+        if (filter.isEmpty()) {
+            throw new IllegalArgumentException("A bulk completion needs at least one filter");
+        }
+        return taskRepositoryPort.completeAll(filter);
+    }
+}
@@ -4,8 +4,12 @@ import com.hexagonal.todo.domain.models.Task;
 import com.hexagonal.todo.domain.ports.in.CreateTaskUseCase;
 import com.hexagonal.todo.domain.ports.out.TaskRepositoryPort;
 
+import java.util.List;
+
 public class CreateTaskUseCaseImpl implements CreateTaskUseCase {
 
+    public static final int MAX_BATCH_SIZE = 10_000;
+
     private final TaskRepositoryPort taskRepositoryPort;
 
     public CreateTaskUseCaseImpl(TaskRepositoryPort taskRepositoryPort) {
@@ -16,4 +20,15 @@ public class CreateTaskUseCaseImpl implements CreateTaskUseCase {
     public Task createTask(Task task) {
         return taskRepositoryPort.save(task);
     }
+
+    @Override
+    public List<Task> createTasks(List<Task> tasks) {
+        if (tasks.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("A batch may contain at most " + MAX_BATCH_SIZE + " tasks");
+        }
+        if (tasks.isEmpty()) {
+            return List.of();
+        }
+        return taskRepositoryPort.saveAll(tasks);
+    }
 }
@@ -1,10 +1,15 @@
 package com.hexagonal.todo.application.usecases;
 
+import com.hexagonal.todo.domain.models.TaskFilter;
 import com.hexagonal.todo.domain.ports.in.DeleteTaskUseCase;
 import com.hexagonal.todo.domain.ports.out.TaskRepositoryPort;
 
+import java.util.Collection;
+
 public class DeleteTaskUseCaseImpl implements DeleteTaskUseCase {
 
+    public static final int MAX_BATCH_SIZE = 10_000;
+
     private final TaskRepositoryPort taskRepositoryPort;
 
     public DeleteTaskUseCaseImpl(TaskRepositoryPort taskRepositoryPort) {
@@ -15,4 +20,23 @@ public class DeleteTaskUseCaseImpl implements DeleteTaskUseCase {
     public Boolean deleteTask(Long id) {
         return taskRepositoryPort.deleteById(id);
     }
+
+    @Override
+    public long deleteTasksById(Collection<Long> ids) {
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("A batch may contain at most " + MAX_BATCH_SIZE + " ids");
+        }
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return taskRepositoryPort.deleteAllById(ids);
+    }
+
+    @Override
+    public long deleteTasks(TaskFilter filter) {
+        if (filter.isEmpty()) {
+            throw new IllegalArgumentException("A bulk delete needs at least one filter");
+        }
+        return taskRepositoryPort.deleteAll(filter);
+    }
 }
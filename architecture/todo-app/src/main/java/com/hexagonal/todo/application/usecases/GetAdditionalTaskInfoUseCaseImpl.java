@@ -1,19 +1,109 @@
 package com.hexagonal.todo.application.usecases;
 
 import com.hexagonal.todo.domain.models.AdditionalTaskInfo;
+import com.hexagonal.todo.domain.models.TaskInfoLookup;
 import com.hexagonal.todo.domain.ports.in.GetAdditionalTaskInfoUseCase;
 import com.hexagonal.todo.domain.ports.out.ExternalServicePort;
+import com.hexagonal.todo.domain.ports.out.TaskRepositoryPort;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
 
 public class GetAdditionalTaskInfoUseCaseImpl implements GetAdditionalTaskInfoUseCase {
 
+    public static final int MAX_BATCH_SIZE = 1000;
+
     private final ExternalServicePort externalServicePort;
+    private final TaskRepositoryPort taskRepositoryPort;
 
-    public GetAdditionalTaskInfoUseCaseImpl(ExternalServicePort externalServicePort) {
+    public GetAdditionalTaskInfoUseCaseImpl(ExternalServicePort externalServicePort,
+                                            TaskRepositoryPort taskRepositoryPort) {
         this.externalServicePort = externalServicePort;
+        this.taskRepositoryPort = taskRepositoryPort;
+    }
+
+    /**
+     * Starts the external lookup first and checks that the task exists while it is in flight,
+     * so the latency is that of the slower call rather than their sum.
+     * The lookup is cancelled when the task does not exist.
+     */
+    @Override
+    public Optional<AdditionalTaskInfo> getAdditionalTaskInfo(Long id) {
+        CompletableFuture<Optional<AdditionalTaskInfo>> lookup = externalServicePort.getAdditionalTaskInfoAsync(id);
+        boolean exists;
+        try {
+            exists = taskRepositoryPort.existsById(id);
+        } catch (RuntimeException e) {
+            lookup.cancel(true);
+            throw e;
+        }
+        if (!exists) {
+            lookup.cancel(true);
+            return Optional.empty();
+        }
+        try {
+            return lookup.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
     }
 
+    /**
+     * Checks which tasks exist with one query, then looks up the existing ones concurrently.
+     * Unknown ids are reported first; the rest are handed to the consumer, on the calling thread,
+     * in the order their lookups finish.
+     */
     @Override
-    public AdditionalTaskInfo getAdditionalTaskInfo(Long id) {
-        return externalServicePort.getAdditionalTaskInfo(id);
+    public void getAdditionalTaskInfo(Collection<Long> ids, Consumer<TaskInfoLookup> consumer) {
+        Set<Long> requestedIds = new LinkedHashSet<>(ids);
+        if (requestedIds.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("A batch may contain at most " + MAX_BATCH_SIZE + " ids");
+        }
+        if (requestedIds.isEmpty()) {
+            return;
+        }
+        Set<Long> existingIds = taskRepositoryPort.findExistingIds(requestedIds);
+        for (Long id : requestedIds) {
+            if (!existingIds.contains(id)) {
+                consumer.accept(new TaskInfoLookup(id, TaskInfoLookup.Status.TASK_NOT_FOUND, null));
+            }
+        }
+        if (existingIds.isEmpty()) {
+            return;
+        }
+
+        BlockingQueue<TaskInfoLookup> finished = new LinkedBlockingQueue<>();
+        Map<Long, CompletableFuture<Optional<AdditionalTaskInfo>>> lookups =
+                externalServicePort.getAdditionalTaskInfoAsync(existingIds);
+        lookups.forEach((id, lookup) -> lookup.whenComplete((info, error) -> finished.add(toLookup(id, info, error))));
+        try {
+            for (int i = 0; i < lookups.size(); i++) {
+                consumer.accept(finished.take());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for task info lookups", e);
+        } finally {
+            lookups.values().forEach(lookup -> lookup.cancel(true));
+        }
+    }
+
+    public static TaskInfoLookup toLookup(Long id, Optional<AdditionalTaskInfo> info, Throwable error) {
+        if (error != null) {
+            return new TaskInfoLookup(id, TaskInfoLookup.Status.FAILED, null);
+        }
+        return info.map(found -> new TaskInfoLookup(id, TaskInfoLookup.Status.FOUND, found))
+                .orElseGet(() -> new TaskInfoLookup(id, TaskInfoLookup.Status.NO_INFO, null));
     }
 }
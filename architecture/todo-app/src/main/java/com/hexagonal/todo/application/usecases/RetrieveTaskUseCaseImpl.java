@@ -1,14 +1,23 @@
 package com.hexagonal.todo.application.usecases;
 
 import com.hexagonal.todo.domain.models.Task;
+import com.hexagonal.todo.domain.models.TaskCursor;
+import com.hexagonal.todo.domain.models.TaskFilter;
+import com.hexagonal.todo.domain.models.TaskPage;
+import com.hexagonal.todo.domain.models.TaskSort;
 import com.hexagonal.todo.domain.ports.in.RetrieveTaskUseCase;
 import com.hexagonal.todo.domain.ports.out.TaskRepositoryPort;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public class RetrieveTaskUseCaseImpl implements RetrieveTaskUseCase {
 
+    public static final int MAX_PAGE_SIZE = 1000;
+
     private final TaskRepositoryPort taskRepositoryPort;
 
     public RetrieveTaskUseCaseImpl(TaskRepositoryPort taskRepositoryPort) {
@@ -24,4 +33,80 @@ public class RetrieveTaskUseCaseImpl implements RetrieveTaskUseCase {
     public List<Task> getAllTasks() {
         return taskRepositoryPort.findAll();
     }
+
+    /**
+     * Reads one page of matching tasks in the requested order, starting after the given cursor.
+     * One extra row is requested to find out whether another page exists.
+     */
+    @Override
+    public TaskPage getTasks(TaskFilter filter, String sort, String after, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        TaskSort order = parseSort(sort);
+        return toPage(taskRepositoryPort.findPage(filter, order, parseCursor(after, order), limit + 1), limit, order);
+    }
+
+    @Override
+    public void exportTasks(Consumer<Task> consumer) {
+        taskRepositoryPort.streamAll(consumer);
+    }
+
+    /**
+     * Turns the up to limit + 1 rows read for a page into the page and the cursor of the next one.
+     * Orders by creation date need the date and the id in the cursor; id orders only the id.
+     */
+    public static TaskPage toPage(List<Task> tasks, int limit, TaskSort sort) {
+        if (tasks.size() <= limit) {
+            return new TaskPage(tasks, null);
+        }
+        List<Task> page = tasks.subList(0, limit);
+        Task last = page.get(limit - 1);
+        String cursor = sort.isByCreationDate()
+                ? last.getCreationDate() + "_" + last.getId()
+                : String.valueOf(last.getId());
+        return new TaskPage(page, cursor);
+    }
+
+    /**
+     * Parses sort=field[,asc|desc] where field is id or creationDate. No sort means id ascending.
+     */
+    public static TaskSort parseSort(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return TaskSort.ID_ASC;
+        }
+        String[] parts = sort.split(",", -1);
+        if (parts.length > 2 || (parts.length == 2
+                && !parts[1].equalsIgnoreCase("asc") && !parts[1].equalsIgnoreCase("desc"))) {
+            throw new IllegalArgumentException("Invalid sort: " + sort);
+        }
+        boolean descending = parts.length == 2 && parts[1].equalsIgnoreCase("desc");
+        switch (parts[0]) {
+            case "id":
+                return descending ? TaskSort.ID_DESC : TaskSort.ID_ASC;
+            case "creationDate":
+                return descending ? TaskSort.CREATION_DATE_DESC : TaskSort.CREATION_DATE_ASC;
+            default:
+                throw new IllegalArgumentException("Invalid sort: " + sort);
+        }
+    }
+
+    public static TaskCursor parseCursor(String after, TaskSort sort) {
+        if (after == null || after.isBlank()) {
+            return null;
+        }
+        try {
+            if (!sort.isByCreationDate()) {
+                return new TaskCursor(null, Long.valueOf(after));
+            }
+            int separator = after.lastIndexOf('_');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + after);
+            }
+            return new TaskCursor(LocalDateTime.parse(after.substring(0, separator)),
+                    Long.valueOf(after.substring(separator + 1)));
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + after);
+        }
+    }
 }
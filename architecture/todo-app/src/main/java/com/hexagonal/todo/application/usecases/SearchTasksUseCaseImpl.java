@@ -0,0 +1,72 @@
+package com.hexagonal.todo.application.usecases;
+
+import com.hexagonal.todo.domain.models.Task;
+import com.hexagonal.todo.domain.models.TaskPage;
+import com.hexagonal.todo.domain.ports.in.SearchTasksUseCase;
+import com.hexagonal.todo.domain.ports.out.TaskSearchPort;
+
+import java.util.List;
+
+public class SearchTasksUseCaseImpl implements SearchTasksUseCase {
+
+    public static final int MAX_PAGE_SIZE = 100;
+    /**
+     * Pages stop here: ranking deeper results costs more than anyone reading them gains.
+     */
+    public static final int MAX_RESULTS = 1000;
+
+    private final TaskSearchPort taskSearchPort;
+
+    public SearchTasksUseCaseImpl(TaskSearchPort taskSearchPort) {
+        this.taskSearchPort = taskSearchPort;
+    }
+
+    /**
+     * Reads one page of ranked matches. The cursor is the offset of the page within the ranking,
+     * and one extra row is requested to find out whether another page exists.
+     */
+    @Override
+    public TaskPage searchTasks(String query, String after, int limit) {
+        int offset = validate(query, after, limit);
+        return toPage(taskSearchPort.search(query, offset, limit + 1), offset, limit);
+    }
+
+    /**
+     * Checks the request and returns the offset the cursor points at.
+     */
+    public static int validate(String query, String after, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("q must not be blank");
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        int offset = parseCursor(after);
+        if (offset + limit > MAX_RESULTS) {
+            throw new IllegalArgumentException("Search results are limited to the first " + MAX_RESULTS + " matches");
+        }
+        return offset;
+    }
+
+    public static TaskPage toPage(List<Task> tasks, int offset, int limit) {
+        if (tasks.size() <= limit || offset + limit >= MAX_RESULTS) {
+            return new TaskPage(tasks.subList(0, Math.min(tasks.size(), limit)), null);
+        }
+        return new TaskPage(tasks.subList(0, limit), String.valueOf(offset + limit));
+    }
+
+    private static int parseCursor(String after) {
+        if (after == null || after.isBlank()) {
+            return 0;
+        }
+        try {
+            int offset = Integer.parseInt(after);
+            if (offset < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + after);
+            }
+            return offset;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + after);
+        }
+    }
+}
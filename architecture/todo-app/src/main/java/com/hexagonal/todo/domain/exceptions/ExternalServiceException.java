@@ -0,0 +1,15 @@
+package com.hexagonal.todo.domain.exceptions;
+
+/**
+ * Raised when the external service cannot be reached or answers with an unusable response.
+ */
+public class ExternalServiceException extends RuntimeException {
+
+    public ExternalServiceException(String message) {
+        super(message);
+    }
+
+    public ExternalServiceException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,11 @@
+package com.hexagonal.todo.domain.exceptions;
+
+/**
+ * Raised without calling the external service when it is known to be unhealthy or saturated.
+ */
+public class ExternalServiceUnavailableException extends ExternalServiceException {
+
+    public ExternalServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.hexagonal.todo.domain.exceptions;
+
+/**
+ * Raised when task writes cannot be accepted because too many are already waiting for the database.
+ */
+public class TaskStoreOverloadedException extends RuntimeException {
+
+    public TaskStoreOverloadedException(String message) {
+        super(message);
+    }
+}
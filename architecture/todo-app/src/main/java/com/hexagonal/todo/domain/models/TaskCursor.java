@@ -0,0 +1,25 @@
+package com.hexagonal.todo.domain.models;
+
+import java.time.LocalDateTime;
+
+/**
+ * Position of the last task of a page in its {@link TaskSort} order; the next page starts right after it.
+ * The creation date is only set for orders by creation date.
+ */
+public class TaskCursor {
+    private final LocalDateTime creationDate;
+    private final Long id;
+
+    public TaskCursor(LocalDateTime creationDate, Long id) {
+        this.creationDate = creationDate;
+        this.id = id;
+    }
+
+    public LocalDateTime getCreationDate() {
+        return creationDate;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,54 @@
+package com.hexagonal.todo.domain.models;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Criteria selecting a set of tasks. Every criterion is optional; a null value does not filter.
+ * The creation date range includes createdFrom and excludes createdBefore.
+ * A blank title prefix is treated as no prefix, so it can never turn a bulk operation into one over every task.
+ */
+public class TaskFilter {
+    private final Boolean completed;
+    private final LocalDateTime createdFrom;
+    private final LocalDateTime createdBefore;
+    private final String titlePrefix;
+    private final Collection<Long> ids;
+
+    public TaskFilter(Boolean completed, LocalDateTime createdFrom, LocalDateTime createdBefore,
+                      String titlePrefix, Collection<Long> ids) {
+        this.completed = completed;
+        this.createdFrom = createdFrom;
+        this.createdBefore = createdBefore;
+        this.titlePrefix = titlePrefix == null || titlePrefix.isEmpty() ? null : titlePrefix;
+        this.ids = ids;
+    }
+
+    /**
+     * Returns true when no criterion is set, i.e. the filter would match every task.
+     */
+    public boolean isEmpty() {
+        return completed == null && createdFrom == null && createdBefore == null && titlePrefix == null
+                && ids == null;
+    }
+
+    public Boolean getCompleted() {
+        return completed;
+    }
+
+    public LocalDateTime getCreatedFrom() {
+        return createdFrom;
+    }
+
+    public LocalDateTime getCreatedBefore() {
+        return createdBefore;
+    }
+
+    public String getTitlePrefix() {
+        return titlePrefix;
+    }
+
+    public Collection<Long> getIds() {
+        return ids;
+    }
+}
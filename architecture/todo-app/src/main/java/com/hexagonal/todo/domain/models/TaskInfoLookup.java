@@ -0,0 +1,34 @@
+package com.hexagonal.todo.domain.models;
+
+/**
+ * Outcome of looking up additional info for one task as part of a batch.
+ * The info is only set when the status is FOUND.
+ */
+public class TaskInfoLookup {
+
+    public enum Status {
+        FOUND, NO_INFO, TASK_NOT_FOUND, FAILED
+    }
+
+    private final Long taskId;
+    private final Status status;
+    private final AdditionalTaskInfo info;
+
+    public TaskInfoLookup(Long taskId, Status status, AdditionalTaskInfo info) {
+        this.taskId = taskId;
+        this.status = status;
+        this.info = info;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public AdditionalTaskInfo getInfo() {
+        return info;
+    }
+}
@@ -0,0 +1,25 @@
+package com.hexagonal.todo.domain.models;
+
+import java.util.List;
+
+/**
+ * A slice of tasks returned by a keyset-paginated listing.
+ * The next cursor is null when there are no more tasks to read.
+ */
+public class TaskPage {
+    private final List<Task> tasks;
+    private final String nextCursor;
+
+    public TaskPage(List<Task> tasks, String nextCursor) {
+        this.tasks = tasks;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<Task> getTasks() {
+        return tasks;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
@@ -0,0 +1,27 @@
+package com.hexagonal.todo.domain.models;
+
+/**
+ * Orders in which tasks can be listed. Ties on creation date are broken by id, so every order is total.
+ */
+public enum TaskSort {
+    ID_ASC(false, false),
+    ID_DESC(false, true),
+    CREATION_DATE_ASC(true, false),
+    CREATION_DATE_DESC(true, true);
+
+    private final boolean byCreationDate;
+    private final boolean descending;
+
+    TaskSort(boolean byCreationDate, boolean descending) {
+        this.byCreationDate = byCreationDate;
+        this.descending = descending;
+    }
+
+    public boolean isByCreationDate() {
+        return byCreationDate;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+}
@@ -0,0 +1,11 @@
+package com.hexagonal.todo.domain.ports.in;
+
+import com.hexagonal.todo.domain.models.Task;
+import com.hexagonal.todo.domain.models.TaskFilter;
+
+import java.util.Optional;
+
+public interface CompleteTaskUseCase {
+    Optional<Task> completeTask(Long id);
+    long completeTasks(TaskFilter filter);
+}
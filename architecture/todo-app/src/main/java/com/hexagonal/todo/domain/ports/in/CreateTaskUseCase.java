@@ -2,6 +2,9 @@ package com.hexagonal.todo.domain.ports.in;
 
 import com.hexagonal.todo.domain.models.Task;
 
+import java.util.List;
+
 public interface CreateTaskUseCase {
     Task createTask(Task task);
+    List<Task> createTasks(List<Task> tasks);
 }
@@ -1,5 +1,11 @@
 package com.hexagonal.todo.domain.ports.in;
 
+import com.hexagonal.todo.domain.models.TaskFilter;
+
+import java.util.Collection;
+
 public interface DeleteTaskUseCase {
     Boolean deleteTask(Long id);
+    long deleteTasksById(Collection<Long> ids);
+    long deleteTasks(TaskFilter filter);
 }
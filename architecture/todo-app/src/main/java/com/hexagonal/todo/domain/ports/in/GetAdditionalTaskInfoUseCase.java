@@ -1,7 +1,13 @@
 package com.hexagonal.todo.domain.ports.in;
 
 import com.hexagonal.todo.domain.models.AdditionalTaskInfo;
+import com.hexagonal.todo.domain.models.TaskInfoLookup;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface GetAdditionalTaskInfoUseCase {
-    AdditionalTaskInfo getAdditionalTaskInfo(Long id);
+    Optional<AdditionalTaskInfo> getAdditionalTaskInfo(Long id);
+    void getAdditionalTaskInfo(Collection<Long> ids, Consumer<TaskInfoLookup> consumer);
 }
@@ -0,0 +1,32 @@
+package com.hexagonal.todo.domain.ports.in;
+
+import com.hexagonal.todo.domain.models.AdditionalTaskInfo;
+import com.hexagonal.todo.domain.models.Task;
+import com.hexagonal.todo.domain.models.TaskFilter;
+import com.hexagonal.todo.domain.models.TaskInfoLookup;
+import com.hexagonal.todo.domain.models.TaskPage;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Non-blocking counterpart of the task use cases, for the reactive driving adapters.
+ */
+public interface ReactiveTaskUseCase {
+    Mono<Task> createTask(Task task);
+    Flux<Task> createTasks(List<Task> tasks);
+    Mono<Task> getTask(Long id);
+    Mono<TaskPage> getTasks(TaskFilter filter, String sort, String after, int limit);
+    Mono<TaskPage> searchTasks(String query, String after, int limit);
+    Flux<Task> exportTasks();
+    Mono<Task> updateTask(Long id, Task task);
+    Mono<Task> completeTask(Long id);
+    Mono<Long> completeTasks(TaskFilter filter);
+    Mono<Boolean> deleteTask(Long id);
+    Mono<Long> deleteTasksById(Collection<Long> ids);
+    Mono<Long> deleteTasks(TaskFilter filter);
+    Mono<AdditionalTaskInfo> getAdditionalTaskInfo(Long id);
+    Flux<TaskInfoLookup> getAdditionalTaskInfo(Collection<Long> ids);
+}
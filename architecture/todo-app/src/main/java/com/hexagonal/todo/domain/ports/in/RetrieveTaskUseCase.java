@@ -1,11 +1,16 @@
 package com.hexagonal.todo.domain.ports.in;
 
 import com.hexagonal.todo.domain.models.Task;
+import com.hexagonal.todo.domain.models.TaskFilter;
+import com.hexagonal.todo.domain.models.TaskPage;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface RetrieveTaskUseCase {
     Optional<Task> getTask(Long id);
     List<Task> getAllTasks();
+    TaskPage getTasks(TaskFilter filter, String sort, String after, int limit);
+    void exportTasks(Consumer<Task> consumer);
 }
@@ -0,0 +1,7 @@
+package com.hexagonal.todo.domain.ports.in;
+
+import com.hexagonal.todo.domain.models.TaskPage;
+
+public interface SearchTasksUseCase {
+    TaskPage searchTasks(String query, String after, int limit);
+}
@@ -2,6 +2,40 @@ package com.hexagonal.todo.domain.ports.out;
 
 import com.hexagonal.todo.domain.models.AdditionalTaskInfo;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 public interface ExternalServicePort {
-    AdditionalTaskInfo getAdditionalTaskInfo(Long taskId);
+    CompletableFuture<Optional<AdditionalTaskInfo>> getAdditionalTaskInfoAsync(Long taskId);
+
+    /**
+     * Starts lookups for many tasks; each future completes on its own as soon as its answer arrives.
+     * Adapters may bound how many lookups are in flight at once.
+     */
+    default Map<Long, CompletableFuture<Optional<AdditionalTaskInfo>>> getAdditionalTaskInfoAsync(
+            Collection<Long> taskIds) {
+        Map<Long, CompletableFuture<Optional<AdditionalTaskInfo>>> lookups = new LinkedHashMap<>();
+        for (Long taskId : taskIds) {
+            lookups.put(taskId, getAdditionalTaskInfoAsync(taskId));
+        }
+        return lookups;
+    }
+
+    /**
+     * Blocking variant of {@link #getAdditionalTaskInfoAsync(Long)} that rethrows the original failure.
+     */
+    default Optional<AdditionalTaskInfo> getAdditionalTaskInfo(Long taskId) {
+        try {
+            return getAdditionalTaskInfoAsync(taskId).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
 }
@@ -0,0 +1,31 @@
+package com.hexagonal.todo.domain.ports.out;
+
+import com.hexagonal.todo.domain.models.Task;
+import com.hexagonal.todo.domain.models.TaskCursor;
+import com.hexagonal.todo.domain.models.TaskFilter;
+import com.hexagonal.todo.domain.models.TaskSort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Non-blocking counterpart of {@link TaskRepositoryPort}; an absent task is an empty {@link Mono}.
+ */
+public interface ReactiveTaskRepositoryPort {
+    Mono<Task> save(Task task);
+    Flux<Task> saveAll(List<Task> tasks);
+    Mono<Task> findById(Long id);
+    Mono<Boolean> existsById(Long id);
+    Mono<Set<Long>> findExistingIds(Collection<Long> ids);
+    Flux<Task> findAll();
+    Flux<Task> findPage(TaskFilter filter, TaskSort sort, TaskCursor after, int limit);
+    Mono<Task> update(Long id, Task task);
+    Mono<Task> markCompleted(Long id);
+    Mono<Long> completeAll(TaskFilter filter);
+    Mono<Boolean> deleteById(Long id);
+    Mono<Long> deleteAllById(Collection<Long> ids);
+    Mono<Long> deleteAll(TaskFilter filter);
+}
@@ -0,0 +1,11 @@
+package com.hexagonal.todo.domain.ports.out;
+
+import com.hexagonal.todo.domain.models.Task;
+import reactor.core.publisher.Flux;
+
+/**
+ * Non-blocking counterpart of {@link TaskSearchPort}.
+ */
+public interface ReactiveTaskSearchPort {
+    Flux<Task> search(String query, int offset, int limit);
+}
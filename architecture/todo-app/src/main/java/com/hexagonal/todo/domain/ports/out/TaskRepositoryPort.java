@@ -1,14 +1,29 @@
 package com.hexagonal.todo.domain.ports.out;
 
 import com.hexagonal.todo.domain.models.Task;
+import com.hexagonal.todo.domain.models.TaskCursor;
+import com.hexagonal.todo.domain.models.TaskFilter;
+import com.hexagonal.todo.domain.models.TaskSort;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface TaskRepositoryPort {
     Task save(Task task);
+    List<Task> saveAll(List<Task> tasks);
     Optional<Task> findById(Long id);
+    boolean existsById(Long id);
+    Set<Long> findExistingIds(Collection<Long> ids);
     List<Task> findAll();
+    List<Task> findPage(TaskFilter filter, TaskSort sort, TaskCursor after, int limit);
+    void streamAll(Consumer<Task> consumer);
     Optional<Task> update(Long id, Task task);
+    Optional<Task> markCompleted(Long id);
+    long completeAll(TaskFilter filter);
     Boolean deleteById(Long id);
+    long deleteAllById(Collection<Long> ids);
+    long deleteAll(TaskFilter filter);
 }
@@ -0,0 +1,12 @@
+package com.hexagonal.todo.domain.ports.out;
+
+import com.hexagonal.todo.domain.models.Task;
+
+import java.util.List;
+
+/**
+ * Full-text search over task titles and descriptions, best match first.
+ */
+public interface TaskSearchPort {
+    List<Task> search(String query, int offset, int limit);
+}
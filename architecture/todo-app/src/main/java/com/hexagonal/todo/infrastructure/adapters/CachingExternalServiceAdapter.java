@@ -0,0 +1,86 @@
+package com.hexagonal.todo.infrastructure.adapters;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.hexagonal.todo.domain.models.AdditionalTaskInfo;
+import com.hexagonal.todo.domain.ports.out.ExternalServicePort;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Caching decorator for another {@link ExternalServicePort}.
+ * <ul>
+ *     <li>Found info lives for {@code timeToLive}, "no info" answers for the shorter {@code negativeTimeToLive}.</li>
+ *     <li>Concurrent lookups of the same id share one in-flight call (the cache stores futures).</li>
+ *     <li>Entries older than {@code refreshAfter} are still served while a background call revalidates them.</li>
+ * </ul>
+ * Failed calls are never cached.
+ */
+public class CachingExternalServiceAdapter implements ExternalServicePort {
+
+    private final ExternalServicePort delegate;
+    private final AsyncLoadingCache<Long, Optional<AdditionalTaskInfo>> cache;
+
+    public CachingExternalServiceAdapter(ExternalServicePort delegate, long maximumSize, Duration timeToLive,
+                                         Duration negativeTimeToLive, Duration refreshAfter) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(Expiry.<Long, Optional<AdditionalTaskInfo>>writing(
+                        (taskId, info) -> info.isPresent() ? timeToLive : negativeTimeToLive))
+                .refreshAfterWrite(refreshAfter)
+                .recordStats()
+                .buildAsync((taskId, executor) -> delegate.getAdditionalTaskInfoAsync(taskId));
+    }
+
+    public CacheStats getStats() {
+        return cache.synchronous().stats();
+    }
+
+    public long getEstimatedSize() {
+        return cache.synchronous().estimatedSize();
+    }
+
+    /**
+     * Each caller gets its own copy of the shared future, so cancelling one lookup cannot cancel the others.
+     */
+    @Override
+    public CompletableFuture<Optional<AdditionalTaskInfo>> getAdditionalTaskInfoAsync(Long taskId) {
+        return cache.get(taskId).copy();
+    }
+
+    /**
+     * Cached ids are answered from the cache; the misses go to the delegate as one batch
+     * and their in-flight calls are cached right away so concurrent lookups join them.
+     */
+    @Override
+    public Map<Long, CompletableFuture<Optional<AdditionalTaskInfo>>> getAdditionalTaskInfoAsync(
+            Collection<Long> taskIds) {
+        Map<Long, CompletableFuture<Optional<AdditionalTaskInfo>>> lookups = new LinkedHashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long taskId : taskIds) {
+            CompletableFuture<Optional<AdditionalTaskInfo>> cached = cache.getIfPresent(taskId);
+            if (cached != null) {
+                lookups.put(taskId, cached.copy());
+            } else {
+                misses.add(taskId);
+            }
+        }
+        if (!misses.isEmpty()) {
+            delegate.getAdditionalTaskInfoAsync(misses).forEach((taskId, lookup) -> {
+                cache.put(taskId, lookup);
+                lookups.put(taskId, lookup.copy());
+            });
+        }
+        return lookups;
+    }
+}
@@ -1,8 +1,224 @@
 package com.hexagonal.todo.infrastructure.adapters;
 
-import org.springframework.web.client.RestTemplate;
+import com.hexagonal.todo.domain.exceptions.ExternalServiceException;
+import com.hexagonal.todo.domain.models.AdditionalTaskInfo;
+import com.hexagonal.todo.domain.ports.out.ExternalServicePort;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
 
-public class ExternalServiceAdapter {
-    public ExternalServiceAdapter(RestTemplate restTemplate) {
+import java.net.URI;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Driven adapter that fetches additional task info from the external user service.
+ * Requests are non-blocking and share one pooled, keep-alive HTTP client.
+ * GET {baseUri}/tasks/{id}/info answers with {"userId", "userName", "userEmail"}; 404 means no info.
+ * Responses are parsed and futures completed on the callback executor, never on the client's I/O threads.
+ */
+public class ExternalServiceAdapter implements ExternalServicePort {
+
+    private final CloseableHttpAsyncClient httpClient;
+    private final URI baseUri;
+    private final JsonMapper jsonMapper;
+    private final int maxConcurrentLookups;
+    private final Executor callbackExecutor;
+
+    public ExternalServiceAdapter(CloseableHttpAsyncClient httpClient, URI baseUri, JsonMapper jsonMapper,
+                                  int maxConcurrentLookups, Executor callbackExecutor) {
+        this.httpClient = httpClient;
+        this.callbackExecutor = callbackExecutor;
+        this.baseUri = baseUri.getPath().endsWith("/") ? baseUri : URI.create(baseUri + "/");
+        this.jsonMapper = jsonMapper;
+        this.maxConcurrentLookups = maxConcurrentLookups;
+    }
+
+    /**
+     * Creates and starts the async HTTP client used by this adapter.
+     * At most maxConnections connections are kept open; idle ones are evicted after 30 seconds
+     * and every connection is recycled after 5 minutes.
+     */
+    public static CloseableHttpAsyncClient createHttpClient(Duration connectTimeout, Duration readTimeout,
+                                                            int maxConnections) {
+        PoolingAsyncClientConnectionManager connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+        CloseableHttpAsyncClient client = HttpAsyncClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(connectTimeout))
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .build())
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+        client.start();
+        return client;
+    }
+
+    @Override
+    public CompletableFuture<Optional<AdditionalTaskInfo>> getAdditionalTaskInfoAsync(Long taskId) {
+        CompletableFuture<Optional<AdditionalTaskInfo>> result = new CompletableFuture<>();
+        Future<SimpleHttpResponse> exchange;
+        try {
+            SimpleHttpRequest request = SimpleRequestBuilder.get(baseUri.resolve("tasks/" + taskId + "/info"))
+                    .addHeader(HttpHeaders.ACCEPT, "application/json")
+                    .build();
+            exchange = httpClient.execute(request, new FutureCallback<>() {
+                @Override
+                public void completed(SimpleHttpResponse response) {
+                    dispatch(result, taskId, () -> {
+                        try {
+                            result.complete(parse(taskId, response));
+                        } catch (RuntimeException e) {
+                            result.completeExceptionally(e);
+                        }
+                    });
+                }
+
+                @Override
+                public void failed(Exception ex) {
+                    dispatch(result, taskId, () -> result.completeExceptionally(
+                            new ExternalServiceException("External service call failed for task " + taskId, ex)));
+                }
+
+                @Override
+                public void cancelled() {
+                    result.cancel(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            result.completeExceptionally(
+                    new ExternalServiceException("External service call could not start for task " + taskId, e));
+            return result;
+        }
+        // cancelling or timing out the returned future aborts the HTTP exchange and frees its connection
+        result.whenComplete((info, error) -> {
+            if (error != null) {
+                exchange.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Runs the lookups with at most maxConcurrentLookups requests in flight: each finished request
+     * starts the next pending one, so a large batch never queues on the connection pool.
+     * Cancelling a returned future cancels its request, or skips it when it has not started yet.
+     */
+    @Override
+    public Map<Long, CompletableFuture<Optional<AdditionalTaskInfo>>> getAdditionalTaskInfoAsync(
+            Collection<Long> taskIds) {
+        Map<Long, CompletableFuture<Optional<AdditionalTaskInfo>>> lookups = new LinkedHashMap<>();
+        for (Long taskId : taskIds) {
+            lookups.put(taskId, new CompletableFuture<>());
+        }
+        Queue<Map.Entry<Long, CompletableFuture<Optional<AdditionalTaskInfo>>>> pending =
+                new ConcurrentLinkedQueue<>(lookups.entrySet());
+        for (int i = 0; i < maxConcurrentLookups; i++) {
+            launchNext(pending);
+        }
+        return lookups;
+    }
+
+    /**
+     * Starts the next pending lookup that is not done yet. A lookup that fails to start fails its target and
+     * moves on to the one after it, so every target completes.
+     */
+    private void launchNext(Queue<Map.Entry<Long, CompletableFuture<Optional<AdditionalTaskInfo>>>> pending) {
+        while (true) {
+            Map.Entry<Long, CompletableFuture<Optional<AdditionalTaskInfo>>> next = pending.poll();
+            if (next == null) {
+                return;
+            }
+            CompletableFuture<Optional<AdditionalTaskInfo>> target = next.getValue();
+            if (target.isDone()) {
+                continue;
+            }
+            CompletableFuture<Optional<AdditionalTaskInfo>> lookup;
+            try {
+                lookup = getAdditionalTaskInfoAsync(next.getKey());
+            } catch (RuntimeException e) {
+                target.completeExceptionally(e);
+                continue;
+            }
+            // a cancelled or timed-out target cancels its request, which aborts the HTTP exchange
+            target.whenComplete((info, error) -> {
+                if (error != null) {
+                    lookup.cancel(true);
+                }
+            });
+            lookup.whenComplete((info, error) -> {
+                if (error != null) {
+                    target.completeExceptionally(error);
+                } else {
+                    target.complete(info);
+                }
+                launchNext(pending);
+            });
+            return;
+        }
+    }
+
+    /**
+     * Hands a response to the callback executor. When the executor refuses it, e.g. while shutting down,
+     * the future is failed on the calling I/O thread instead of never completing.
+     */
+    private void dispatch(CompletableFuture<Optional<AdditionalTaskInfo>> result, Long taskId, Runnable completion) {
+        try {
+            callbackExecutor.execute(completion);
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(
+                    new ExternalServiceException("No thread was free to handle the response for task " + taskId, e));
+        }
+    }
+
+    private Optional<AdditionalTaskInfo> parse(Long taskId, SimpleHttpResponse response) {
+        int status = response.getCode();
+        if (status == 404) {
+            return Optional.empty();
+        }
+        if (status < 200 || status >= 300) {
+            throw new ExternalServiceException("External service answered " + status + " for task " + taskId);
+        }
+        try {
+            InfoPayload payload = jsonMapper.readValue(response.getBodyBytes(), InfoPayload.class);
+            return Optional.of(new AdditionalTaskInfo(payload.userId, payload.userName, payload.userEmail));
+        } catch (JacksonException e) {
+            throw new ExternalServiceException("External service sent an unreadable body for task " + taskId, e);
+        }
+    }
+
+    static class InfoPayload {
+        public Long userId;
+        public String userName;
+        public String userEmail;
     }
 }
@@ -0,0 +1,289 @@
+package com.hexagonal.todo.infrastructure.adapters;
+
+import com.hexagonal.todo.domain.exceptions.ExternalServiceException;
+import com.hexagonal.todo.domain.exceptions.ExternalServiceUnavailableException;
+import com.hexagonal.todo.domain.models.AdditionalTaskInfo;
+import com.hexagonal.todo.domain.ports.out.ExternalServicePort;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Resilience decorator for another {@link ExternalServicePort}.
+ * <ul>
+ *     <li>Bulkhead: at most maxConcurrentCalls calls in flight; extra calls are rejected at once.</li>
+ *     <li>Deadline: every call fails after the deadline and the underlying request is cancelled.</li>
+ *     <li>Circuit breaker: over the last windowSize calls, once the share of failed or slow calls reaches
+ *     failureRateThreshold the breaker opens and calls fail fast for openDuration. Then up to
+ *     halfOpenProbes calls are let through; if all succeed the breaker closes, otherwise it opens again.</li>
+ * </ul>
+ * Rejected calls fail with {@link ExternalServiceUnavailableException} without touching the delegate.
+ */
+public class ResilientExternalServiceAdapter implements ExternalServicePort {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private enum Permission {
+        CALL, PROBE, REJECTED
+    }
+
+    private final ExternalServicePort delegate;
+    private final Semaphore bulkhead;
+    private final long deadlineMillis;
+    private final long slowCallNanos;
+    private final double failureRateThreshold;
+    private final long openNanos;
+    private final int halfOpenProbes;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final boolean[] window;
+    private int windowPosition;
+    private int windowCount;
+    private int windowBadCount;
+    private volatile State state = State.CLOSED;
+    private long openedAt;
+    private final AtomicInteger probePermits = new AtomicInteger();
+    private int probeSuccesses;
+
+    private final LongAdder bulkheadRejections = new LongAdder();
+    private final LongAdder breakerRejections = new LongAdder();
+    private final LongAdder deadlineExceeded = new LongAdder();
+
+    public ResilientExternalServiceAdapter(ExternalServicePort delegate, int maxConcurrentCalls, Duration deadline,
+                                           Duration slowCallThreshold, double failureRateThreshold, int windowSize,
+                                           Duration openDuration, int halfOpenProbes) {
+        this.delegate = delegate;
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.deadlineMillis = deadline.toMillis();
+        this.slowCallNanos = slowCallThreshold.toNanos();
+        this.failureRateThreshold = failureRateThreshold;
+        this.window = new boolean[windowSize];
+        this.openNanos = openDuration.toNanos();
+        this.halfOpenProbes = halfOpenProbes;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public int getAvailablePermits() {
+        return bulkhead.availablePermits();
+    }
+
+    public long getBulkheadRejections() {
+        return bulkheadRejections.sum();
+    }
+
+    public long getBreakerRejections() {
+        return breakerRejections.sum();
+    }
+
+    public long getDeadlineExceeded() {
+        return deadlineExceeded.sum();
+    }
+
+    @Override
+    public CompletableFuture<Optional<AdditionalTaskInfo>> getAdditionalTaskInfoAsync(Long taskId) {
+        boolean probe = false;
+        if (state != State.CLOSED) {
+            Permission permission = acquirePermission();
+            if (permission == Permission.REJECTED) {
+                breakerRejections.increment();
+                return CompletableFuture.failedFuture(
+                        new ExternalServiceUnavailableException("External service circuit is open"));
+            }
+            probe = permission == Permission.PROBE;
+        }
+        if (!bulkhead.tryAcquire()) {
+            if (probe) {
+                probePermits.incrementAndGet();
+            }
+            bulkheadRejections.increment();
+            return CompletableFuture.failedFuture(
+                    new ExternalServiceUnavailableException("Too many concurrent external service calls"));
+        }
+        return guard(delegate.getAdditionalTaskInfoAsync(taskId), taskId, bulkhead::release, probe);
+    }
+
+    /**
+     * A batch takes one bulkhead permit as a whole; the delegate bounds its own in-flight requests.
+     * Deadlines and breaker outcomes still apply to every lookup of the batch. While the breaker is not closed,
+     * each lookup asks for a permission like a single call: once the open window has elapsed the first lookups
+     * become the half-open probes and the rest fail fast.
+     */
+    @Override
+    public Map<Long, CompletableFuture<Optional<AdditionalTaskInfo>>> getAdditionalTaskInfoAsync(
+            Collection<Long> taskIds) {
+        Map<Long, CompletableFuture<Optional<AdditionalTaskInfo>>> rejected = new HashMap<>();
+        Set<Long> probes = new HashSet<>();
+        List<Long> allowed = new ArrayList<>(taskIds.size());
+        for (Long taskId : taskIds) {
+            Permission permission = state == State.CLOSED ? Permission.CALL : acquirePermission();
+            if (permission == Permission.REJECTED) {
+                breakerRejections.increment();
+                rejected.put(taskId, CompletableFuture.failedFuture(
+                        new ExternalServiceUnavailableException("External service circuit is open")));
+                continue;
+            }
+            if (permission == Permission.PROBE) {
+                probes.add(taskId);
+            }
+            allowed.add(taskId);
+        }
+        Map<Long, CompletableFuture<Optional<AdditionalTaskInfo>>> guarded = new HashMap<>();
+        if (!allowed.isEmpty() && !bulkhead.tryAcquire()) {
+            probePermits.addAndGet(probes.size());
+            bulkheadRejections.add(allowed.size());
+            allowed.forEach(taskId -> rejected.put(taskId, CompletableFuture.failedFuture(
+                    new ExternalServiceUnavailableException("Too many concurrent external service calls"))));
+        } else if (!allowed.isEmpty()) {
+            Map<Long, CompletableFuture<Optional<AdditionalTaskInfo>>> calls =
+                    delegate.getAdditionalTaskInfoAsync(allowed);
+            AtomicInteger remaining = new AtomicInteger(calls.size());
+            Runnable release = () -> {
+                if (remaining.decrementAndGet() == 0) {
+                    bulkhead.release();
+                }
+            };
+            if (calls.isEmpty()) {
+                bulkhead.release();
+            }
+            calls.forEach((taskId, call) -> guarded.put(taskId, guard(call, taskId, release,
+                    probes.contains(taskId))));
+        }
+        Map<Long, CompletableFuture<Optional<AdditionalTaskInfo>>> lookups = new LinkedHashMap<>();
+        for (Long taskId : taskIds) {
+            CompletableFuture<Optional<AdditionalTaskInfo>> lookup = rejected.containsKey(taskId)
+                    ? rejected.get(taskId) : guarded.get(taskId);
+            if (lookup != null) {
+                lookups.put(taskId, lookup);
+            }
+        }
+        return lookups;
+    }
+
+    private CompletableFuture<Optional<AdditionalTaskInfo>> guard(CompletableFuture<Optional<AdditionalTaskInfo>> call,
+                                                                   Long taskId, Runnable release, boolean probe) {
+        long start = System.nanoTime();
+        CompletableFuture<Optional<AdditionalTaskInfo>> result = new CompletableFuture<>();
+        call.orTimeout(deadlineMillis, TimeUnit.MILLISECONDS).whenComplete((info, error) -> {
+            release.run();
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error;
+            if (cause instanceof CancellationException) {
+                if (probe) {
+                    probePermits.incrementAndGet();
+                }
+                result.cancel(false);
+                return;
+            }
+            boolean bad = cause != null || System.nanoTime() - start > slowCallNanos;
+            record(bad, probe);
+            if (cause instanceof TimeoutException) {
+                deadlineExceeded.increment();
+                result.completeExceptionally(new ExternalServiceException(
+                        "External service call for task " + taskId + " exceeded its deadline", cause));
+            } else if (cause != null) {
+                result.completeExceptionally(cause);
+            } else {
+                result.complete(info);
+            }
+        });
+        // cancelling the guarded call cancels the underlying request as well
+        result.whenComplete((info, error) -> {
+            if (error instanceof CancellationException) {
+                call.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private Permission acquirePermission() {
+        lock.lock();
+        try {
+            if (state == State.OPEN && openDurationElapsed()) {
+                state = State.HALF_OPEN;
+                probePermits.set(halfOpenProbes);
+                probeSuccesses = 0;
+            }
+            if (state == State.CLOSED) {
+                return Permission.CALL;
+            }
+            if (state == State.HALF_OPEN && probePermits.getAndUpdate(p -> p > 0 ? p - 1 : 0) > 0) {
+                return Permission.PROBE;
+            }
+            return Permission.REJECTED;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean openDurationElapsed() {
+        return System.nanoTime() - openedAt >= openNanos;
+    }
+
+    private void record(boolean bad, boolean probe) {
+        lock.lock();
+        try {
+            if (probe) {
+                if (state != State.HALF_OPEN) {
+                    return;
+                }
+                if (bad) {
+                    open();
+                } else if (++probeSuccesses >= halfOpenProbes) {
+                    close();
+                }
+                return;
+            }
+            if (state != State.CLOSED) {
+                return;
+            }
+            if (windowCount == window.length && window[windowPosition]) {
+                windowBadCount--;
+            }
+            window[windowPosition] = bad;
+            if (bad) {
+                windowBadCount++;
+            }
+            windowPosition = (windowPosition + 1) % window.length;
+            windowCount = Math.min(windowCount + 1, window.length);
+            if (windowCount == window.length && windowBadCount >= failureRateThreshold * window.length) {
+                open();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        windowPosition = 0;
+        windowCount = 0;
+        windowBadCount = 0;
+    }
+}
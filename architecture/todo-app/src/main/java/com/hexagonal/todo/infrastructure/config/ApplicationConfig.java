@@ -4,40 +4,265 @@ import com.hexagonal.todo.application.services.TaskService;
 import com.hexagonal.todo.application.usecases.*;
 import com.hexagonal.todo.domain.ports.out.ExternalServicePort;
 import com.hexagonal.todo.domain.ports.out.TaskRepositoryPort;
+import com.hexagonal.todo.domain.ports.out.TaskSearchPort;
+import com.hexagonal.todo.infrastructure.adapters.CachingExternalServiceAdapter;
 import com.hexagonal.todo.infrastructure.adapters.ExternalServiceAdapter;
+import com.hexagonal.todo.infrastructure.adapters.ResilientExternalServiceAdapter;
+import com.hexagonal.todo.infrastructure.jfr.FlightRecordingEndpoint;
+import com.hexagonal.todo.infrastructure.jfr.FlightRecordingManager;
+import com.hexagonal.todo.infrastructure.jfr.TaskRequestEventFilter;
+import com.hexagonal.todo.infrastructure.metrics.ExternalServiceResilienceMetrics;
+import com.hexagonal.todo.infrastructure.metrics.MeteredCompleteTaskUseCase;
+import com.hexagonal.todo.infrastructure.metrics.MeteredCreateTaskUseCase;
+import com.hexagonal.todo.infrastructure.metrics.MeteredDeleteTaskUseCase;
+import com.hexagonal.todo.infrastructure.metrics.MeteredExternalServiceAdapter;
+import com.hexagonal.todo.infrastructure.metrics.MeteredGetAdditionalTaskInfoUseCase;
+import com.hexagonal.todo.infrastructure.metrics.MeteredRetrieveTaskUseCase;
+import com.hexagonal.todo.infrastructure.metrics.MeteredSearchTasksUseCase;
+import com.hexagonal.todo.infrastructure.metrics.MeteredTaskRepositoryAdapter;
+import com.hexagonal.todo.infrastructure.metrics.MeteredUpdateTaskUseCase;
+import com.hexagonal.todo.infrastructure.repositories.CachingTaskRepositoryAdapter;
+import com.hexagonal.todo.infrastructure.repositories.InMemoryTaskRepositoryAdapter;
+import com.hexagonal.todo.infrastructure.repositories.JdbcTaskBatchWriter;
+import com.hexagonal.todo.infrastructure.repositories.JdbcTaskSearchAdapter;
 import com.hexagonal.todo.infrastructure.repositories.JpaTaskRepository;
 import com.hexagonal.todo.infrastructure.repositories.JpaTaskRepositoryAdapter;
+import com.hexagonal.todo.infrastructure.repositories.LogStructuredTaskRepositoryAdapter;
+import com.hexagonal.todo.infrastructure.repositories.SqlStatementCounter;
+import com.hexagonal.todo.infrastructure.repositories.WriteBehindTaskRepositoryAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 
 @Configuration
 public class ApplicationConfig {
 
+    /**
+     * Runs external-service continuations. In virtual-thread mode every callback gets its own virtual thread,
+     * otherwise a small fixed pool keeps them off the HTTP client's I/O threads.
+     */
+    @Bean
+    public Executor externalServiceExecutor(
+            Environment environment,
+            @Value("${todo.external-service.callback-threads:4}") int callbackThreads) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return new VirtualThreadTaskExecutor("external-service-");
+        }
+        return Executors.newFixedThreadPool(callbackThreads, new CustomizableThreadFactory("external-service-"));
+    }
+
+    /**
+     * Wraps the JDBC data source so JPA and JdbcTemplate statements are counted per thread for the flight recorder
+     * events. Profiles without a data source are left alone.
+     */
+    @Bean
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource ? SqlStatementCounter.wrap(dataSource, beanName) : bean;
+            }
+        };
+    }
+
+    @Bean
+    @Profile("!reactive")
+    public TaskRequestEventFilter taskRequestEventFilter() {
+        return new TaskRequestEventFilter();
+    }
+
+    @Bean(destroyMethod = "close")
+    public FlightRecordingManager flightRecordingManager() {
+        return new FlightRecordingManager();
+    }
+
+    @Bean
+    public FlightRecordingEndpoint flightRecordingEndpoint(FlightRecordingManager flightRecordingManager) {
+        return new FlightRecordingEndpoint(flightRecordingManager);
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpAsyncClient externalServiceHttpClient(
+            @Value("${todo.external-service.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${todo.external-service.read-timeout:3s}") Duration readTimeout,
+            @Value("${todo.external-service.max-connections:50}") int maxConnections) {
+        return ExternalServiceAdapter.createHttpClient(connectTimeout, readTimeout, maxConnections);
+    }
+
+    /**
+     * Buffers task writes in a local log and flushes them to Postgres in batches; off unless
+     * todo.write-behind.enabled is set. Closing it on shutdown flushes what is still pending.
+     */
+    @Bean
+    @Profile("!reactive & !in-memory & !embedded")
+    @ConditionalOnProperty(name = "todo.write-behind.enabled", havingValue = "true")
+    public WriteBehindTaskRepositoryAdapter writeBehindTaskRepositoryAdapter(
+            JpaTaskRepository jpaTaskRepository,
+            EntityManager entityManager,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${todo.write-behind.log-directory:data/write-behind}") Path logDirectory,
+            @Value("${todo.write-behind.batch-size:500}") int batchSize,
+            @Value("${todo.write-behind.flush-interval:200ms}") Duration flushInterval,
+            @Value("${todo.write-behind.max-pending:10000}") int maxPending,
+            @Value("${todo.write-behind.max-wait:2s}") Duration maxWait) {
+        return new WriteBehindTaskRepositoryAdapter(
+                new JpaTaskRepositoryAdapter(jpaTaskRepository, entityManager, jdbcTemplate, transactionManager),
+                new JdbcTaskBatchWriter(jdbcTemplate, transactionManager),
+                logDirectory,
+                batchSize,
+                flushInterval,
+                maxPending,
+                maxWait);
+    }
+
+    @Bean
+    @Primary
+    @Profile("!reactive & !in-memory & !embedded")
+    public CachingTaskRepositoryAdapter taskRepositoryPort(
+            JpaTaskRepository jpaTaskRepository,
+            EntityManager entityManager,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            Optional<WriteBehindTaskRepositoryAdapter> writeBehind,
+            @Value("${todo.cache.tasks.maximum-size:10000}") long maximumSize,
+            @Value("${todo.cache.tasks.expire-after-write:60s}") Duration expireAfterWrite) {
+        return new CachingTaskRepositoryAdapter(
+                writeBehind.<TaskRepositoryPort>map(adapter -> adapter).orElseGet(() ->
+                        new JpaTaskRepositoryAdapter(jpaTaskRepository, entityManager, jdbcTemplate, transactionManager)),
+                maximumSize,
+                expireAfterWrite);
+    }
+
+    @Bean
+    @Profile("!reactive & !in-memory & !embedded")
+    public TaskSearchPort taskSearchPort(JdbcTemplate jdbcTemplate) {
+        return new JdbcTaskSearchAdapter(jdbcTemplate);
+    }
+
+    /**
+     * Keeps tasks in process memory instead of Postgres; serves as both the repository and the search port.
+     * Nothing is cached in front of it since every read is already a hash lookup.
+     */
+    @Bean
+    @Profile("in-memory & !reactive")
+    public InMemoryTaskRepositoryAdapter inMemoryTaskRepositoryAdapter() {
+        return new InMemoryTaskRepositoryAdapter();
+    }
+
+    /**
+     * Keeps tasks in a local log-structured store instead of Postgres; serves as both the repository and the
+     * search port. Closing it on shutdown writes a checkpoint so the next start does not replay the log.
+     */
+    @Bean(destroyMethod = "close")
+    @Profile("embedded & !reactive")
+    public LogStructuredTaskRepositoryAdapter logStructuredTaskRepositoryAdapter(
+            @Value("${todo.embedded.directory:data/embedded}") Path directory,
+            @Value("${todo.embedded.segment-size:64MB}") DataSize segmentSize,
+            @Value("${todo.embedded.sync-writes:true}") boolean syncWrites,
+            @Value("${todo.embedded.compaction-threshold:0.5}") double compactionThreshold,
+            @Value("${todo.embedded.maintenance-interval:1s}") Duration maintenanceInterval) {
+        return new LogStructuredTaskRepositoryAdapter(
+                directory,
+                Math.toIntExact(segmentSize.toBytes()),
+                syncWrites,
+                compactionThreshold,
+                maintenanceInterval);
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public ResilientExternalServiceAdapter resilientExternalServiceAdapter(
+            CloseableHttpAsyncClient externalServiceHttpClient,
+            Executor externalServiceExecutor,
+            @Value("${todo.external-service.base-url}") URI baseUri,
+            JsonMapper jsonMapper,
+            @Value("${todo.external-service.max-connections:50}") int maxConcurrentLookups,
+            @Value("${todo.external-service.resilience.max-concurrent-calls:50}") int maxConcurrentCalls,
+            @Value("${todo.external-service.resilience.deadline:2s}") Duration deadline,
+            @Value("${todo.external-service.resilience.slow-call-threshold:1s}") Duration slowCallThreshold,
+            @Value("${todo.external-service.resilience.failure-rate-threshold:0.5}") double failureRateThreshold,
+            @Value("${todo.external-service.resilience.window-size:50}") int windowSize,
+            @Value("${todo.external-service.resilience.open-duration:10s}") Duration openDuration,
+            @Value("${todo.external-service.resilience.half-open-probes:3}") int halfOpenProbes) {
+        return new ResilientExternalServiceAdapter(
+                new ExternalServiceAdapter(externalServiceHttpClient, baseUri, jsonMapper, maxConcurrentLookups,
+                        externalServiceExecutor),
+                maxConcurrentCalls,
+                deadline,
+                slowCallThreshold,
+                failureRateThreshold,
+                windowSize,
+                openDuration,
+                halfOpenProbes);
     }
 
     @Bean
-    public TaskRepositoryPort taskRepositoryPort(JpaTaskRepository jpaTaskRepository) {
-        return new JpaTaskRepositoryAdapter(jpaTaskRepository);
+    public ExternalServiceResilienceMetrics externalServiceResilienceMetrics(
+            ResilientExternalServiceAdapter resilientExternalServiceAdapter) {
+        return new ExternalServiceResilienceMetrics(resilientExternalServiceAdapter);
     }
 
     @Bean
-    public ExternalServicePort externalServicePort(RestTemplate restTemplate) {
-        return new ExternalServiceAdapter(restTemplate);
+    @Primary
+    public CachingExternalServiceAdapter externalServicePort(
+            ResilientExternalServiceAdapter resilientExternalServiceAdapter,
+            @Value("${todo.external-service.cache.maximum-size:10000}") long maximumSize,
+            @Value("${todo.external-service.cache.time-to-live:10m}") Duration timeToLive,
+            @Value("${todo.external-service.cache.negative-time-to-live:30s}") Duration negativeTimeToLive,
+            @Value("${todo.external-service.cache.refresh-after:1m}") Duration refreshAfter) {
+        return new CachingExternalServiceAdapter(
+                resilientExternalServiceAdapter,
+                maximumSize,
+                timeToLive,
+                negativeTimeToLive,
+                refreshAfter);
     }
 
+    /**
+     * Every use case and both driven ports are wrapped in metering decorators, exported as todo.usecase and
+     * todo.port timers on /actuator/prometheus and emitted as flight recorder events. HTTP handling, serialization
+     * included, is timed by Spring as http.server.requests.
+     */
     @Bean
+    @Profile("!reactive")
     public TaskService taskService(TaskRepositoryPort taskRepositoryPort,
-                                   ExternalServicePort externalServicePort) {
+                                   TaskSearchPort taskSearchPort,
+                                   ExternalServicePort externalServicePort,
+                                   MeterRegistry meterRegistry) {
+        TaskRepositoryPort repository = new MeteredTaskRepositoryAdapter(taskRepositoryPort, meterRegistry);
+        ExternalServicePort externalService = new MeteredExternalServiceAdapter(externalServicePort, meterRegistry);
         return new TaskService(
-                new CreateTaskUseCaseImpl(taskRepositoryPort),
-                new DeleteTaskUseCaseImpl(taskRepositoryPort),
-                new GetAdditionalTaskInfoUseCaseImpl(externalServicePort),
-                new RetrieveTaskUseCaseImpl(taskRepositoryPort),
-                new UpdateTaskUseCaseImpl(taskRepositoryPort)
+                new MeteredCreateTaskUseCase(new CreateTaskUseCaseImpl(repository), meterRegistry),
+                new MeteredDeleteTaskUseCase(new DeleteTaskUseCaseImpl(repository), meterRegistry),
+                new MeteredGetAdditionalTaskInfoUseCase(
+                        new GetAdditionalTaskInfoUseCaseImpl(externalService, repository), meterRegistry),
+                new MeteredRetrieveTaskUseCase(new RetrieveTaskUseCaseImpl(repository), meterRegistry),
+                new MeteredUpdateTaskUseCase(new UpdateTaskUseCaseImpl(repository), meterRegistry),
+                new MeteredCompleteTaskUseCase(new CompleteTaskUseCaseImpl(repository), meterRegistry),
+                new MeteredSearchTasksUseCase(new SearchTasksUseCaseImpl(taskSearchPort), meterRegistry)
         );
     }
 }
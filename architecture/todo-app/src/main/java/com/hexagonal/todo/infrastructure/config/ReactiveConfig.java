@@ -0,0 +1,51 @@
+package com.hexagonal.todo.infrastructure.config;
+
+import com.hexagonal.todo.application.services.ReactiveTaskService;
+import com.hexagonal.todo.domain.ports.in.ReactiveTaskUseCase;
+import com.hexagonal.todo.domain.ports.out.ExternalServicePort;
+import com.hexagonal.todo.domain.ports.out.ReactiveTaskRepositoryPort;
+import com.hexagonal.todo.domain.ports.out.ReactiveTaskSearchPort;
+import com.hexagonal.todo.infrastructure.metrics.MeteredExternalServiceAdapter;
+import com.hexagonal.todo.infrastructure.metrics.MeteredReactiveTaskUseCase;
+import com.hexagonal.todo.infrastructure.repositories.R2dbcTaskRepositoryAdapter;
+import com.hexagonal.todo.infrastructure.repositories.R2dbcTaskSearchAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.ReactiveTransactionManager;
+
+/**
+ * Wires the reactive stack: WebFlux on Netty's event loops in front of R2DBC.
+ * The external service beans from {@link ApplicationConfig} are shared, since their port is already asynchronous.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveConfig {
+
+    @Bean
+    public ReactiveTaskRepositoryPort reactiveTaskRepositoryPort(DatabaseClient databaseClient,
+                                                                 ReactiveTransactionManager transactionManager) {
+        return new R2dbcTaskRepositoryAdapter(databaseClient, transactionManager);
+    }
+
+    @Bean
+    public ReactiveTaskSearchPort reactiveTaskSearchPort(DatabaseClient databaseClient) {
+        return new R2dbcTaskSearchAdapter(databaseClient);
+    }
+
+    /**
+     * Metered like the blocking stack: the use case as todo.usecase and the external service as todo.port timers.
+     */
+    @Bean
+    public ReactiveTaskUseCase reactiveTaskService(ReactiveTaskRepositoryPort reactiveTaskRepositoryPort,
+                                                   ReactiveTaskSearchPort reactiveTaskSearchPort,
+                                                   ExternalServicePort externalServicePort,
+                                                   MeterRegistry meterRegistry) {
+        return new MeteredReactiveTaskUseCase(
+                new ReactiveTaskService(reactiveTaskRepositoryPort, reactiveTaskSearchPort,
+                        new MeteredExternalServiceAdapter(externalServicePort, meterRegistry)),
+                meterRegistry);
+    }
+}
@@ -0,0 +1,79 @@
+package com.hexagonal.todo.infrastructure.controllers;
+
+import com.hexagonal.todo.infrastructure.adapters.CachingExternalServiceAdapter;
+import com.hexagonal.todo.infrastructure.adapters.ResilientExternalServiceAdapter;
+import com.hexagonal.todo.infrastructure.controllers.dto.CacheStatsResponse;
+import com.hexagonal.todo.infrastructure.controllers.dto.ResilienceStatsResponse;
+import com.hexagonal.todo.infrastructure.controllers.dto.WriteBehindStatsResponse;
+import com.hexagonal.todo.infrastructure.repositories.CachingTaskRepositoryAdapter;
+import com.hexagonal.todo.infrastructure.repositories.WriteBehindTaskRepositoryAdapter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Optional;
+
+/**
+ * REST Controller for operational endpoints.
+ */
+@RestController
+@RequestMapping("/api/admin")
+public class AdminController {
+
+    private final Optional<CachingTaskRepositoryAdapter> taskCache;
+    private final CachingExternalServiceAdapter externalServiceCache;
+    private final ResilientExternalServiceAdapter externalServiceResilience;
+    private final Optional<WriteBehindTaskRepositoryAdapter> writeBehind;
+
+    public AdminController(Optional<CachingTaskRepositoryAdapter> taskCache,
+                           CachingExternalServiceAdapter externalServiceCache,
+                           ResilientExternalServiceAdapter externalServiceResilience,
+                           Optional<WriteBehindTaskRepositoryAdapter> writeBehind) {
+        this.taskCache = taskCache;
+        this.externalServiceCache = externalServiceCache;
+        this.externalServiceResilience = externalServiceResilience;
+        this.writeBehind = writeBehind;
+    }
+
+    /**
+     * Get hit, miss and eviction statistics of the task cache; not found when the profile has no task cache.
+     * GET /api/admin/cache/tasks
+     */
+    @GetMapping("/cache/tasks")
+    public ResponseEntity<CacheStatsResponse> getTaskCacheStats() {
+        return taskCache
+                .map(cache -> ResponseEntity.ok(CacheStatsResponse.from(cache.getEstimatedSize(), cache.getStats())))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Get hit, miss and eviction statistics of the additional task info cache.
+     * GET /api/admin/cache/external-service
+     */
+    @GetMapping("/cache/external-service")
+    public ResponseEntity<CacheStatsResponse> getExternalServiceCacheStats() {
+        return ResponseEntity.ok(CacheStatsResponse.from(
+                externalServiceCache.getEstimatedSize(), externalServiceCache.getStats()));
+    }
+
+    /**
+     * Get circuit breaker state and rejection counts of the external service calls.
+     * GET /api/admin/external-service
+     */
+    @GetMapping("/external-service")
+    public ResponseEntity<ResilienceStatsResponse> getExternalServiceResilienceStats() {
+        return ResponseEntity.ok(ResilienceStatsResponse.from(externalServiceResilience));
+    }
+
+    /**
+     * Get the backlog and flush counts of the task write-behind buffer; not found when write-behind is off.
+     * GET /api/admin/write-behind
+     */
+    @GetMapping("/write-behind")
+    public ResponseEntity<WriteBehindStatsResponse> getWriteBehindStats() {
+        return writeBehind
+                .map(adapter -> ResponseEntity.ok(WriteBehindStatsResponse.from(adapter)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,203 @@
+package com.hexagonal.todo.infrastructure.controllers;
+
+import com.hexagonal.todo.domain.models.TaskFilter;
+import com.hexagonal.todo.domain.ports.in.ReactiveTaskUseCase;
+import com.hexagonal.todo.infrastructure.controllers.dto.AdditionalTaskInfoResponse;
+import com.hexagonal.todo.infrastructure.controllers.dto.BulkOperationResponse;
+import com.hexagonal.todo.infrastructure.controllers.dto.TaskInfoLookupResponse;
+import com.hexagonal.todo.infrastructure.controllers.dto.TaskPageResponse;
+import com.hexagonal.todo.infrastructure.controllers.dto.TaskRequest;
+import com.hexagonal.todo.infrastructure.controllers.dto.TaskResponse;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * WebFlux controller exposing the same routes as {@link TaskController} on the reactive stack.
+ * Acts as a driving adapter in hexagonal architecture; active with the reactive profile only.
+ */
+@RestController
+@RequestMapping("/api/tasks")
+@Profile("reactive")
+public class ReactiveTaskController {
+
+    private final ReactiveTaskUseCase taskService;
+
+    public ReactiveTaskController(ReactiveTaskUseCase taskService) {
+        this.taskService = taskService;
+    }
+
+    /**
+     * Create a new task.
+     * POST /api/tasks
+     */
+    @PostMapping
+    public Mono<ResponseEntity<TaskResponse>> createTask(@RequestBody TaskRequest request) {
+        return taskService.createTask(request.toDomainModel())
+                .map(created -> ResponseEntity.status(HttpStatus.CREATED).body(TaskResponse.fromDomainModel(created)));
+    }
+
+    /**
+     * Create many tasks in one request. The JSON array is written as the inserts complete.
+     * POST /api/tasks/batch
+     */
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Flux<TaskResponse> createTasks(@RequestBody List<TaskRequest> requests) {
+        return taskService.createTasks(requests.stream().map(TaskRequest::toDomainModel).toList())
+                .map(TaskResponse::fromDomainModel);
+    }
+
+    /**
+     * Get a page of the tasks matching the optional filters, ordered by id or creation date.
+     * GET /api/tasks?completed=&createdFrom=&createdBefore=&titlePrefix=&sort=creationDate,desc&limit=100&after={cursor}
+     */
+    @GetMapping
+    public Mono<TaskPageResponse> getAllTasks(
+            @RequestParam(required = false) Boolean completed,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdBefore,
+            @RequestParam(required = false) String titlePrefix,
+            @RequestParam(required = false) String sort,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(required = false) String after) {
+        TaskFilter filter = new TaskFilter(completed, createdFrom, createdBefore, titlePrefix, null);
+        return taskService.getTasks(filter, sort, after, limit).map(TaskPageResponse::fromDomainModel);
+    }
+
+    /**
+     * Full-text search over title and description, best match first.
+     * GET /api/tasks/search?q=groceries -milk&limit=20&after={cursor}
+     */
+    @GetMapping("/search")
+    public Mono<TaskPageResponse> searchTasks(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) String after) {
+        return taskService.searchTasks(q, after, limit).map(TaskPageResponse::fromDomainModel);
+    }
+
+    /**
+     * Export every task as newline-delimited JSON, streamed with backpressure from the database cursor.
+     * GET /api/tasks/export
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TaskResponse> exportTasks() {
+        return taskService.exportTasks().map(TaskResponse::fromDomainModel);
+    }
+
+    /**
+     * Get a specific task by ID.
+     * GET /api/tasks/{id}
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<TaskResponse>> getTaskById(@PathVariable Long id) {
+        return taskService.getTask(id)
+                .map(task -> ResponseEntity.ok(TaskResponse.fromDomainModel(task)))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Update an existing task.
+     * PUT /api/tasks/{id}
+     */
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<TaskResponse>> updateTask(
+            @PathVariable Long id,
+            @RequestBody TaskRequest request) {
+        return taskService.updateTask(id, request.toDomainModel(id))
+                .map(updated -> ResponseEntity.ok(TaskResponse.fromDomainModel(updated)))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Delete a task by ID.
+     * DELETE /api/tasks/{id}
+     */
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteTask(@PathVariable Long id) {
+        return taskService.deleteTask(id)
+                .map(deleted -> deleted
+                        ? ResponseEntity.noContent().<Void>build()
+                        : ResponseEntity.notFound().<Void>build());
+    }
+
+    /**
+     * Delete many tasks by id with a single statement.
+     * DELETE /api/tasks/batch?ids=1,2,3
+     */
+    @DeleteMapping("/batch")
+    public Mono<BulkOperationResponse> deleteTasksById(@RequestParam List<Long> ids) {
+        return taskService.deleteTasksById(ids).map(BulkOperationResponse::new);
+    }
+
+    /**
+     * Delete every task matching the filter. At least one filter is required.
+     * DELETE /api/tasks?completed=&createdFrom=&createdBefore=&titlePrefix=&ids=
+     */
+    @DeleteMapping
+    public Mono<BulkOperationResponse> deleteTasks(
+            @RequestParam(required = false) Boolean completed,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdBefore,
+            @RequestParam(required = false) String titlePrefix,
+            @RequestParam(required = false) List<Long> ids) {
+        TaskFilter filter = new TaskFilter(completed, createdFrom, createdBefore, titlePrefix, ids);
+        return taskService.deleteTasks(filter).map(BulkOperationResponse::new);
+    }
+
+    /**
+     * Get additional info for many tasks at once as newline-delimited JSON.
+     * Each line is flushed as soon as its lookup finishes.
+     * GET /api/tasks/info?ids=1,2,3
+     */
+    @GetMapping(value = "/info", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TaskInfoLookupResponse> getAdditionalTaskInfo(@RequestParam List<Long> ids) {
+        return taskService.getAdditionalTaskInfo(ids).map(TaskInfoLookupResponse::fromDomainModel);
+    }
+
+    /**
+     * Get additional task info from external service.
+     * GET /api/tasks/{id}/info
+     */
+    @GetMapping("/{id}/info")
+    public Mono<ResponseEntity<AdditionalTaskInfoResponse>> getAdditionalTaskInfo(@PathVariable Long id) {
+        return taskService.getAdditionalTaskInfo(id)
+                .map(info -> ResponseEntity.ok(AdditionalTaskInfoResponse.fromDomainModel(info)))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Mark a task as completed.
+     * PATCH /api/tasks/{id}/complete
+     */
+    @PatchMapping("/{id}/complete")
+    public Mono<ResponseEntity<TaskResponse>> markTaskAsCompleted(@PathVariable Long id) {
+        return taskService.completeTask(id)
+                .map(completed -> ResponseEntity.ok(TaskResponse.fromDomainModel(completed)))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Mark every task matching the filter as completed. At least one filter is required.
+     * PATCH /api/tasks/complete?completed=&createdFrom=&createdBefore=&titlePrefix=&ids=
+     */
+    @PatchMapping("/complete")
+    public Mono<BulkOperationResponse> markTasksAsCompleted(
+            @RequestParam(required = false) Boolean completed,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdBefore,
+            @RequestParam(required = false) String titlePrefix,
+            @RequestParam(required = false) List<Long> ids) {
+        TaskFilter filter = new TaskFilter(completed, createdFrom, createdBefore, titlePrefix, ids);
+        return taskService.completeTasks(filter).map(BulkOperationResponse::new);
+    }
+}
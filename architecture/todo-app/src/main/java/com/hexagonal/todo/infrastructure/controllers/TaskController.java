@@ -1,15 +1,27 @@
 package com.hexagonal.todo.infrastructure.controllers;
 
 import com.hexagonal.todo.application.services.TaskService;
-import com.hexagonal.todo.domain.models.AdditionalTaskInfo;
 import com.hexagonal.todo.domain.models.Task;
+import com.hexagonal.todo.domain.models.TaskFilter;
 import com.hexagonal.todo.infrastructure.controllers.dto.AdditionalTaskInfoResponse;
+import com.hexagonal.todo.infrastructure.controllers.dto.BulkOperationResponse;
+import com.hexagonal.todo.infrastructure.controllers.dto.TaskInfoLookupResponse;
+import com.hexagonal.todo.infrastructure.controllers.dto.TaskPageResponse;
 import com.hexagonal.todo.infrastructure.controllers.dto.TaskRequest;
 import com.hexagonal.todo.infrastructure.controllers.dto.TaskResponse;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -18,12 +30,15 @@ import java.util.List;
  */
 @RestController
 @RequestMapping("/api/tasks")
+@Profile("!reactive")
 public class TaskController {
 
     private final TaskService taskService;
+    private final JsonMapper jsonMapper;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, JsonMapper jsonMapper) {
         this.taskService = taskService;
+        this.jsonMapper = jsonMapper;
     }
 
     /**
@@ -39,16 +54,61 @@ public class TaskController {
     }
 
     /**
-     * Get all tasks.
-     * GET /api/tasks
+     * Create many tasks in one request.
+     * POST /api/tasks/batch
      */
-    @GetMapping
-    public ResponseEntity<List<TaskResponse>> getAllTasks() {
-        List<Task> tasks = taskService.getAllTasks();
-        List<TaskResponse> responses = tasks.stream()
+    @PostMapping("/batch")
+    public ResponseEntity<List<TaskResponse>> createTasks(@RequestBody List<TaskRequest> requests) {
+        List<Task> tasks = requests.stream()
+                .map(TaskRequest::toDomainModel)
+                .toList();
+        List<TaskResponse> responses = taskService.createTasks(tasks).stream()
                 .map(TaskResponse::fromDomainModel)
                 .toList();
-        return ResponseEntity.ok(responses);
+        return ResponseEntity.status(HttpStatus.CREATED).body(responses);
+    }
+
+    /**
+     * Get a page of the tasks matching the optional filters, ordered by id or creation date.
+     * GET /api/tasks?completed=&createdFrom=&createdBefore=&titlePrefix=&sort=creationDate,desc&limit=100&after={cursor}
+     */
+    @GetMapping
+    public ResponseEntity<TaskPageResponse> getAllTasks(
+            @RequestParam(required = false) Boolean completed,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdBefore,
+            @RequestParam(required = false) String titlePrefix,
+            @RequestParam(required = false) String sort,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(required = false) String after) {
+        TaskFilter filter = new TaskFilter(completed, createdFrom, createdBefore, titlePrefix, null);
+        return ResponseEntity.ok(TaskPageResponse.fromDomainModel(taskService.getTasks(filter, sort, after, limit)));
+    }
+
+    /**
+     * Full-text search over title and description, best match first.
+     * GET /api/tasks/search?q=groceries -milk&limit=20&after={cursor}
+     */
+    @GetMapping("/search")
+    public ResponseEntity<TaskPageResponse> searchTasks(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) String after) {
+        return ResponseEntity.ok(TaskPageResponse.fromDomainModel(taskService.searchTasks(q, after, limit)));
+    }
+
+    /**
+     * Export every task as newline-delimited JSON.
+     * Tasks are written as they are read from the database, so memory use stays flat.
+     * GET /api/tasks/export
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTasks() {
+        StreamingResponseBody body = outputStream ->
+                taskService.exportTasks(task -> writeLine(outputStream, TaskResponse.fromDomainModel(task)));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     /**
@@ -71,14 +131,8 @@ public class TaskController {
             @PathVariable Long id,
             @RequestBody TaskRequest request) {
 
-        // First get the existing task to preserve creation date
-        return taskService.getTask(id)
-                .map(existingTask -> {
-                    Task updateTask = request.toDomainModel(id, existingTask.getCreationDate());
-                    return taskService.updateTask(id, updateTask)
-                            .map(updated -> ResponseEntity.ok(TaskResponse.fromDomainModel(updated)))
-                            .orElse(ResponseEntity.notFound().build());
-                })
+        return taskService.updateTask(id, request.toDomainModel(id))
+                .map(updated -> ResponseEntity.ok(TaskResponse.fromDomainModel(updated)))
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -95,18 +149,55 @@ public class TaskController {
         return ResponseEntity.notFound().build();
     }
 
+    /**
+     * Delete many tasks by id with a single statement.
+     * DELETE /api/tasks/batch?ids=1,2,3
+     */
+    @DeleteMapping("/batch")
+    public ResponseEntity<BulkOperationResponse> deleteTasksById(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(new BulkOperationResponse(taskService.deleteTasksById(ids)));
+    }
+
+    /**
+     * Delete every task matching the filter. At least one filter is required.
+     * DELETE /api/tasks?completed=&createdFrom=&createdBefore=&titlePrefix=&ids=
+     */
+    @DeleteMapping
+    public ResponseEntity<BulkOperationResponse> deleteTasks(
+            @RequestParam(required = false) Boolean completed,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdBefore,
+            @RequestParam(required = false) String titlePrefix,
+            @RequestParam(required = false) List<Long> ids) {
+        TaskFilter filter = new TaskFilter(completed, createdFrom, createdBefore, titlePrefix, ids);
+        return ResponseEntity.ok(new BulkOperationResponse(taskService.deleteTasks(filter)));
+    }
+
+    /**
+     * Get additional info for many tasks at once as newline-delimited JSON.
+     * Each line is written and flushed as soon as its lookup finishes.
+     * GET /api/tasks/info?ids=1,2,3
+     */
+    @GetMapping(value = "/info", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> getAdditionalTaskInfo(@RequestParam List<Long> ids) {
+        StreamingResponseBody body = outputStream ->
+                taskService.getAdditionalTaskInfo(ids, lookup -> {
+                    writeLine(outputStream, TaskInfoLookupResponse.fromDomainModel(lookup));
+                    flush(outputStream);
+                });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     /**
      * Get additional task info from external service.
      * GET /api/tasks/{id}/info
      */
     @GetMapping("/{id}/info")
     public ResponseEntity<AdditionalTaskInfoResponse> getAdditionalTaskInfo(@PathVariable Long id) {
-        // First verify the task exists
-        return taskService.getTask(id)
-                .map(task -> {
-                    AdditionalTaskInfo info = taskService.getAdditionalTaskInfo(id);
-                    return ResponseEntity.ok(AdditionalTaskInfoResponse.fromDomainModel(info));
-                })
+        return taskService.getAdditionalTaskInfo(id)
+                .map(info -> ResponseEntity.ok(AdditionalTaskInfoResponse.fromDomainModel(info)))
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -116,13 +207,40 @@ public class TaskController {
      */
     @PatchMapping("/{id}/complete")
     public ResponseEntity<TaskResponse> markTaskAsCompleted(@PathVariable Long id) {
-        return taskService.getTask(id)
-                .map(existingTask -> {
-                    existingTask.setCompleted(true);
-                    return taskService.updateTask(id, existingTask)
-                            .map(updated -> ResponseEntity.ok(TaskResponse.fromDomainModel(updated)))
-                            .orElse(ResponseEntity.notFound().build());
-                })
+        return taskService.completeTask(id)
+                .map(completed -> ResponseEntity.ok(TaskResponse.fromDomainModel(completed)))
                 .orElse(ResponseEntity.notFound().build());
     }
+
+    /**
+     * Mark every task matching the filter as completed. At least one filter is required.
+     * PATCH /api/tasks/complete?completed=&createdFrom=&createdBefore=&titlePrefix=&ids=
+     */
+    @PatchMapping("/complete")
+    public ResponseEntity<BulkOperationResponse> markTasksAsCompleted(
+            @RequestParam(required = false) Boolean completed,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdBefore,
+            @RequestParam(required = false) String titlePrefix,
+            @RequestParam(required = false) List<Long> ids) {
+        TaskFilter filter = new TaskFilter(completed, createdFrom, createdBefore, titlePrefix, ids);
+        return ResponseEntity.ok(new BulkOperationResponse(taskService.completeTasks(filter)));
+    }
+
+    private void writeLine(OutputStream outputStream, Object value) {
+        try {
+            outputStream.write(jsonMapper.writeValueAsBytes(value));
+            outputStream.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void flush(OutputStream outputStream) {
+        try {
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -0,0 +1,22 @@
+package com.hexagonal.todo.infrastructure.controllers.dto;
+
+/**
+ * DTO for reporting how many tasks a bulk operation affected.
+ */
+public class BulkOperationResponse {
+    private long affected;
+
+    public BulkOperationResponse() {}
+
+    public BulkOperationResponse(long affected) {
+        this.affected = affected;
+    }
+
+    public long getAffected() {
+        return affected;
+    }
+
+    public void setAffected(long affected) {
+        this.affected = affected;
+    }
+}
@@ -0,0 +1,77 @@
+package com.hexagonal.todo.infrastructure.controllers.dto;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * DTO for exposing cache statistics in admin responses.
+ */
+public class CacheStatsResponse {
+    private long size;
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long evictionCount;
+
+    public CacheStatsResponse() {}
+
+    public CacheStatsResponse(long size, long hitCount, long missCount, double hitRate, long evictionCount) {
+        this.size = size;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.hitRate = hitRate;
+        this.evictionCount = evictionCount;
+    }
+
+    /**
+     * Creates a CacheStatsResponse from a Caffeine statistics snapshot.
+     */
+    public static CacheStatsResponse from(long size, CacheStats stats) {
+        return new CacheStatsResponse(
+                size,
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount()
+        );
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public void setSize(long size) {
+        this.size = size;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public void setHitCount(long hitCount) {
+        this.hitCount = hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public void setMissCount(long missCount) {
+        this.missCount = missCount;
+    }
+
+    public double getHitRate() {
+        return hitRate;
+    }
+
+    public void setHitRate(double hitRate) {
+        this.hitRate = hitRate;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public void setEvictionCount(long evictionCount) {
+        this.evictionCount = evictionCount;
+    }
+}
@@ -0,0 +1,102 @@
+package com.hexagonal.todo.infrastructure.controllers.dto;
+
+import jdk.jfr.Recording;
+
+import java.time.Instant;
+
+/**
+ * DTO for exposing the admin flight recording in admin responses.
+ */
+public class FlightRecordingResponse {
+    private long id;
+    private String name;
+    private String state;
+    private Instant startTime;
+    private long sizeBytes;
+    private long maxAgeSeconds;
+    private long maxSizeBytes;
+
+    public FlightRecordingResponse() {}
+
+    public FlightRecordingResponse(long id, String name, String state, Instant startTime, long sizeBytes,
+                                   long maxAgeSeconds, long maxSizeBytes) {
+        this.id = id;
+        this.name = name;
+        this.state = state;
+        this.startTime = startTime;
+        this.sizeBytes = sizeBytes;
+        this.maxAgeSeconds = maxAgeSeconds;
+        this.maxSizeBytes = maxSizeBytes;
+    }
+
+    /**
+     * Creates a FlightRecordingResponse from the current state of a recording.
+     */
+    public static FlightRecordingResponse from(Recording recording) {
+        return new FlightRecordingResponse(
+                recording.getId(),
+                recording.getName(),
+                recording.getState().name(),
+                recording.getStartTime(),
+                recording.getSize(),
+                recording.getMaxAge() != null ? recording.getMaxAge().toSeconds() : 0,
+                recording.getMaxSize()
+        );
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    public void setState(String state) {
+        this.state = state;
+    }
+
+    public Instant getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(Instant startTime) {
+        this.startTime = startTime;
+    }
+
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public void setSizeBytes(long sizeBytes) {
+        this.sizeBytes = sizeBytes;
+    }
+
+    public long getMaxAgeSeconds() {
+        return maxAgeSeconds;
+    }
+
+    public void setMaxAgeSeconds(long maxAgeSeconds) {
+        this.maxAgeSeconds = maxAgeSeconds;
+    }
+
+    public long getMaxSizeBytes() {
+        return maxSizeBytes;
+    }
+
+    public void setMaxSizeBytes(long maxSizeBytes) {
+        this.maxSizeBytes = maxSizeBytes;
+    }
+}
@@ -0,0 +1,78 @@
+package com.hexagonal.todo.infrastructure.controllers.dto;
+
+import com.hexagonal.todo.infrastructure.adapters.ResilientExternalServiceAdapter;
+
+/**
+ * DTO for exposing circuit breaker and bulkhead state in admin responses.
+ */
+public class ResilienceStatsResponse {
+    private String state;
+    private int availablePermits;
+    private long bulkheadRejections;
+    private long breakerRejections;
+    private long deadlineExceeded;
+
+    public ResilienceStatsResponse() {}
+
+    public ResilienceStatsResponse(String state, int availablePermits, long bulkheadRejections,
+                                   long breakerRejections, long deadlineExceeded) {
+        this.state = state;
+        this.availablePermits = availablePermits;
+        this.bulkheadRejections = bulkheadRejections;
+        this.breakerRejections = breakerRejections;
+        this.deadlineExceeded = deadlineExceeded;
+    }
+
+    /**
+     * Creates a ResilienceStatsResponse from the current state of the resilience decorator.
+     */
+    public static ResilienceStatsResponse from(ResilientExternalServiceAdapter adapter) {
+        return new ResilienceStatsResponse(
+                adapter.getState().name(),
+                adapter.getAvailablePermits(),
+                adapter.getBulkheadRejections(),
+                adapter.getBreakerRejections(),
+                adapter.getDeadlineExceeded()
+        );
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    public void setState(String state) {
+        this.state = state;
+    }
+
+    public int getAvailablePermits() {
+        return availablePermits;
+    }
+
+    public void setAvailablePermits(int availablePermits) {
+        this.availablePermits = availablePermits;
+    }
+
+    public long getBulkheadRejections() {
+        return bulkheadRejections;
+    }
+
+    public void setBulkheadRejections(long bulkheadRejections) {
+        this.bulkheadRejections = bulkheadRejections;
+    }
+
+    public long getBreakerRejections() {
+        return breakerRejections;
+    }
+
+    public void setBreakerRejections(long breakerRejections) {
+        this.breakerRejections = breakerRejections;
+    }
+
+    public long getDeadlineExceeded() {
+        return deadlineExceeded;
+    }
+
+    public void setDeadlineExceeded(long deadlineExceeded) {
+        this.deadlineExceeded = deadlineExceeded;
+    }
+}
@@ -0,0 +1,55 @@
+package com.hexagonal.todo.infrastructure.controllers.dto;
+
+import com.hexagonal.todo.domain.models.TaskInfoLookup;
+
+/**
+ * DTO for sending the outcome of one batched task info lookup.
+ */
+public class TaskInfoLookupResponse {
+    private Long taskId;
+    private String status;
+    private AdditionalTaskInfoResponse info;
+
+    public TaskInfoLookupResponse() {}
+
+    public TaskInfoLookupResponse(Long taskId, String status, AdditionalTaskInfoResponse info) {
+        this.taskId = taskId;
+        this.status = status;
+        this.info = info;
+    }
+
+    /**
+     * Creates a TaskInfoLookupResponse from a domain TaskInfoLookup model.
+     */
+    public static TaskInfoLookupResponse fromDomainModel(TaskInfoLookup lookup) {
+        return new TaskInfoLookupResponse(
+                lookup.getTaskId(),
+                lookup.getStatus().name(),
+                lookup.getInfo() != null ? AdditionalTaskInfoResponse.fromDomainModel(lookup.getInfo()) : null
+        );
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public AdditionalTaskInfoResponse getInfo() {
+        return info;
+    }
+
+    public void setInfo(AdditionalTaskInfoResponse info) {
+        this.info = info;
+    }
+}
@@ -0,0 +1,47 @@
+package com.hexagonal.todo.infrastructure.controllers.dto;
+
+import com.hexagonal.todo.domain.models.TaskPage;
+
+import java.util.List;
+
+/**
+ * DTO for sending a page of tasks in API responses.
+ * Clients pass nextCursor back as the "after" parameter to read the following page.
+ */
+public class TaskPageResponse {
+    private List<TaskResponse> items;
+    private String nextCursor;
+
+    public TaskPageResponse() {}
+
+    public TaskPageResponse(List<TaskResponse> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Creates a TaskPageResponse from a domain TaskPage model.
+     */
+    public static TaskPageResponse fromDomainModel(TaskPage page) {
+        return new TaskPageResponse(
+                page.getTasks().stream().map(TaskResponse::fromDomainModel).toList(),
+                page.getNextCursor()
+        );
+    }
+
+    public List<TaskResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<TaskResponse> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -37,14 +37,14 @@ public class TaskRequest {
 
     /**
      * Converts this request DTO to a domain Task model with a specific ID.
-     * Used for update operations.
+     * Used for update operations; the creation date is kept by the repository.
      */
-    public Task toDomainModel(Long id, LocalDateTime creationDate) {
+    public Task toDomainModel(Long id) {
         return new Task(
                 id,
                 this.title,
                 this.description,
-                creationDate,
+                null,
                 this.completed != null ? this.completed : false
         );
     }
@@ -0,0 +1,78 @@
+package com.hexagonal.todo.infrastructure.controllers.dto;
+
+import com.hexagonal.todo.infrastructure.repositories.WriteBehindTaskRepositoryAdapter;
+
+/**
+ * DTO for exposing the write-behind buffer in admin responses.
+ */
+public class WriteBehindStatsResponse {
+    private int pendingWrites;
+    private long flushedBatches;
+    private long failedFlushes;
+    private long rejectedWrites;
+    private long deadLetteredWrites;
+
+    public WriteBehindStatsResponse() {}
+
+    public WriteBehindStatsResponse(int pendingWrites, long flushedBatches, long failedFlushes, long rejectedWrites,
+                                    long deadLetteredWrites) {
+        this.pendingWrites = pendingWrites;
+        this.flushedBatches = flushedBatches;
+        this.failedFlushes = failedFlushes;
+        this.rejectedWrites = rejectedWrites;
+        this.deadLetteredWrites = deadLetteredWrites;
+    }
+
+    /**
+     * Creates a WriteBehindStatsResponse from the current state of the write-behind decorator.
+     */
+    public static WriteBehindStatsResponse from(WriteBehindTaskRepositoryAdapter adapter) {
+        return new WriteBehindStatsResponse(
+                adapter.getPendingWrites(),
+                adapter.getFlushedBatches(),
+                adapter.getFailedFlushes(),
+                adapter.getRejectedWrites(),
+                adapter.getDeadLetteredWrites()
+        );
+    }
+
+    public int getPendingWrites() {
+        return pendingWrites;
+    }
+
+    public void setPendingWrites(int pendingWrites) {
+        this.pendingWrites = pendingWrites;
+    }
+
+    public long getFlushedBatches() {
+        return flushedBatches;
+    }
+
+    public void setFlushedBatches(long flushedBatches) {
+        this.flushedBatches = flushedBatches;
+    }
+
+    public long getFailedFlushes() {
+        return failedFlushes;
+    }
+
+    public void setFailedFlushes(long failedFlushes) {
+        this.failedFlushes = failedFlushes;
+    }
+
+    public long getRejectedWrites() {
+        return rejectedWrites;
+    }
+
+    public void setRejectedWrites(long rejectedWrites) {
+        this.rejectedWrites = rejectedWrites;
+    }
+
+    public long getDeadLetteredWrites() {
+        return deadLetteredWrites;
+    }
+
+    public void setDeadLetteredWrites(long deadLetteredWrites) {
+        this.deadLetteredWrites = deadLetteredWrites;
+    }
+}
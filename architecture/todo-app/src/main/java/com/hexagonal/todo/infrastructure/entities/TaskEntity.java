@@ -15,6 +15,7 @@ public class TaskEntity {
 
     private String title;
     private String description;
+    @Column(nullable = false)
     private LocalDateTime creationDate;
     private Boolean completed;
 
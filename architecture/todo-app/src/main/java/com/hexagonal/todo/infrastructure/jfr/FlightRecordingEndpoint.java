@@ -0,0 +1,91 @@
+package com.hexagonal.todo.infrastructure.jfr;
+
+import com.hexagonal.todo.infrastructure.controllers.dto.FlightRecordingResponse;
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Actuator endpoint for the task flight recording. It is served on the management port only, which binds to the
+ * loopback address unless management.server.address says otherwise.
+ */
+@WebEndpoint(id = "jfr")
+public class FlightRecordingEndpoint {
+
+    private final FlightRecordingManager flightRecordings;
+
+    public FlightRecordingEndpoint(FlightRecordingManager flightRecordings) {
+        this.flightRecordings = flightRecordings;
+    }
+
+    /**
+     * Get the state of the running recording; not found when none is running.
+     * GET /actuator/jfr
+     */
+    @ReadOperation
+    public WebEndpointResponse<FlightRecordingResponse> recording() {
+        return flightRecordings.current()
+                .map(recording -> new WebEndpointResponse<>(FlightRecordingResponse.from(recording)))
+                .orElseGet(() -> new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND));
+    }
+
+    /**
+     * Start recording the task events; those faster than thresholdMillis are dropped. Conflict when a recording is
+     * already running.
+     * POST /actuator/jfr {"thresholdMillis": 0, "maxAgeMinutes": 30, "maxSizeMb": 250}
+     */
+    @WriteOperation
+    public WebEndpointResponse<FlightRecordingResponse> start(@Nullable Long thresholdMillis,
+                                                              @Nullable Long maxAgeMinutes,
+                                                              @Nullable Long maxSizeMb) {
+        return flightRecordings.start(
+                        Duration.ofMillis(thresholdMillis != null ? thresholdMillis : 0),
+                        Duration.ofMinutes(maxAgeMinutes != null ? maxAgeMinutes : 30),
+                        (maxSizeMb != null ? maxSizeMb : 250) * 1024 * 1024)
+                .map(recording -> new WebEndpointResponse<>(FlightRecordingResponse.from(recording)))
+                .orElseGet(() -> new WebEndpointResponse<>(
+                        flightRecordings.current().map(FlightRecordingResponse::from).orElse(null),
+                        HttpStatus.CONFLICT.value()));
+    }
+
+    /**
+     * Download what the running recording holds so far as a .jfr file, without stopping it; not found when none
+     * is running.
+     * GET /actuator/jfr/todo-admin
+     */
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> dump(@Selector String name) {
+        if (!FlightRecordingManager.RECORDING_NAME.equals(name)) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        return recordingFile(flightRecordings.dump());
+    }
+
+    /**
+     * Stop the recording and download it as a .jfr file; not found when none is running.
+     * DELETE /actuator/jfr
+     */
+    @DeleteOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> stop() {
+        return recordingFile(flightRecordings.stop());
+    }
+
+    private static WebEndpointResponse<Resource> recordingFile(Optional<InputStream> data) {
+        return data
+                .map(stream -> new WebEndpointResponse<Resource>(
+                        new InputStreamResource(stream), MimeTypeUtils.APPLICATION_OCTET_STREAM))
+                .orElseGet(() -> new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND));
+    }
+}
@@ -0,0 +1,149 @@
+package com.hexagonal.todo.infrastructure.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Starts, stops and dumps one flight recording on demand, so a running instance can be profiled without a restart
+ * or an attached agent. The recording keeps at most maxAge and maxSize of data on disk and enables only the task
+ * events, with the requested threshold. The JDK's own settings are not applied: they include the initial environment
+ * variables and system properties, which carry secrets such as the datasource password. JFR shares its chunks
+ * between recordings, so those events still appear while another recording (e.g. -XX:StartFlightRecording)
+ * enables them.
+ */
+public class FlightRecordingManager implements AutoCloseable {
+
+    public static final String RECORDING_NAME = "todo-admin";
+
+    private static final List<String> SENSITIVE_EVENTS =
+            List.of("jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty");
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private Recording recording;
+
+    /**
+     * Starts a recording, or returns empty when one is already running.
+     */
+    public Optional<Recording> start(Duration threshold, Duration maxAge, long maxSizeBytes) {
+        if (threshold.isNegative() || maxAge.isNegative() || maxAge.isZero() || maxSizeBytes <= 0) {
+            throw new IllegalArgumentException("threshold must not be negative, maxAge and maxSize must be positive");
+        }
+        lock.lock();
+        try {
+            if (recording != null && recording.getState() == RecordingState.RUNNING) {
+                return Optional.empty();
+            }
+            closeRecording();
+            Recording started = new Recording();
+            started.setName(RECORDING_NAME);
+            started.setToDisk(true);
+            started.setMaxAge(maxAge);
+            started.setMaxSize(maxSizeBytes);
+            started.enable(TaskRequestEvent.class).withThreshold(threshold);
+            started.enable(TaskUseCaseEvent.class).withThreshold(threshold);
+            started.enable(TaskPortEvent.class).withThreshold(threshold);
+            SENSITIVE_EVENTS.forEach(started::disable);
+            started.start();
+            recording = started;
+            return Optional.of(started);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the recording started through {@link #start} until it is stopped.
+     */
+    public Optional<Recording> current() {
+        lock.lock();
+        try {
+            return Optional.ofNullable(recording);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops the running recording and returns its data; the recording is discarded once the stream is closed.
+     * Empty when nothing is running.
+     */
+    public Optional<InputStream> stop() {
+        lock.lock();
+        try {
+            if (recording == null || recording.getState() != RecordingState.RUNNING) {
+                return Optional.empty();
+            }
+            Recording stopped = recording;
+            recording = null;
+            stopped.stop();
+            return Optional.of(stream(stopped));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns what the running recording holds so far, from a stopped copy of it, without stopping the recording
+     * itself. Empty when nothing is running.
+     */
+    public Optional<InputStream> dump() {
+        lock.lock();
+        try {
+            if (recording == null || recording.getState() != RecordingState.RUNNING) {
+                return Optional.empty();
+            }
+            return Optional.of(stream(recording.copy(true)));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closeRecording();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void closeRecording() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private static InputStream stream(Recording recording) {
+        try {
+            InputStream data = recording.getStream(null, null);
+            if (data == null) {
+                recording.close();
+                return InputStream.nullInputStream();
+            }
+            return new FilterInputStream(data) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        recording.close();
+                    }
+                }
+            };
+        } catch (IOException e) {
+            recording.close();
+            throw new UncheckedIOException(e);
+        }
+    }
+}
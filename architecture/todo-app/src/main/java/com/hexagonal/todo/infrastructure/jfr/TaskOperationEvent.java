@@ -0,0 +1,76 @@
+package com.hexagonal.todo.infrastructure.jfr;
+
+import com.hexagonal.todo.infrastructure.repositories.SqlStatementCounter;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * A use case or port call as a flight recorder event. {@link #start} is called before the call and {@link #finish}
+ * after it; the fields are only filled in when a running recording takes the event, so an idle recorder costs
+ * little more than the clock reads. The statement count is the number of JDBC statements the calling thread
+ * executed in between, and is left at zero for calls that complete on another thread.
+ */
+@Category({"Todo", "Tasks"})
+@StackTrace(false)
+public abstract class TaskOperationEvent extends Event {
+
+    @Label("Component")
+    String component;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Task Id")
+    @Description("The task the call was about, or 0 when it was not about a single task")
+    long taskId;
+
+    @Label("SQL Statements")
+    @Description("JDBC statements executed by the calling thread during the call")
+    long statementCount;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Exception")
+    String exception;
+
+    private transient long startNanos;
+    private transient long startStatements;
+    private transient Thread startThread;
+
+    public void start(Long taskId) {
+        this.taskId = taskId != null ? taskId : 0;
+        this.startThread = Thread.currentThread();
+        this.startStatements = SqlStatementCounter.current();
+        this.startNanos = System.nanoTime();
+        begin();
+    }
+
+    /**
+     * Sets the task id once the call has assigned one, as a create does.
+     */
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId != null ? taskId : 0;
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    public void finish(String component, String operation, String outcome, String exception) {
+        end();
+        if (shouldCommit()) {
+            this.component = component;
+            this.operation = operation;
+            this.outcome = outcome;
+            this.exception = exception;
+            if (startThread == Thread.currentThread()) {
+                this.statementCount = SqlStatementCounter.current() - startStatements;
+            }
+            commit();
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.hexagonal.todo.infrastructure.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A call to a driven port: the task repository or the external service.
+ */
+@Name("com.hexagonal.todo.Port")
+@Label("Task Port")
+public class TaskPortEvent extends TaskOperationEvent {
+}
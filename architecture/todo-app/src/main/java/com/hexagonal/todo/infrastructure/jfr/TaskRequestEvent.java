@@ -0,0 +1,36 @@
+package com.hexagonal.todo.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * An HTTP request handled by a controller, from the filter chain to the handler's return.
+ */
+@Name("com.hexagonal.todo.Request")
+@Label("Task Request")
+@Category({"Todo", "Tasks"})
+@StackTrace(false)
+public class TaskRequestEvent extends Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Route")
+    @Description("The matched route pattern, or the request path when no route matched")
+    String route;
+
+    @Label("Task Id")
+    @Description("The {id} path variable, or 0 when the route has none")
+    long taskId;
+
+    @Label("Status")
+    int status;
+
+    @Label("SQL Statements")
+    @Description("JDBC statements executed by the request thread while handling the request")
+    long statementCount;
+}
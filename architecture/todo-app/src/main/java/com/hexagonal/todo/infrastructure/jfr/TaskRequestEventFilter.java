@@ -0,0 +1,53 @@
+package com.hexagonal.todo.infrastructure.jfr;
+
+import com.hexagonal.todo.infrastructure.repositories.SqlStatementCounter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Emits a {@link TaskRequestEvent} per request. Streamed responses end the event when the handler hands the
+ * stream over, not when the last byte is written.
+ */
+public class TaskRequestEventFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        TaskRequestEvent event = new TaskRequestEvent();
+        long startStatements = SqlStatementCounter.current();
+        event.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.method = request.getMethod();
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                event.route = pattern != null ? pattern.toString() : request.getRequestURI();
+                event.taskId = taskId(request);
+                event.status = response.getStatus();
+                event.statementCount = SqlStatementCounter.current() - startStatements;
+                event.commit();
+            }
+        }
+    }
+
+    private static long taskId(HttpServletRequest request) {
+        Object variables = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variables instanceof Map<?, ?> map && map.get("id") instanceof String id) {
+            try {
+                return Long.parseLong(id);
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,12 @@
+package com.hexagonal.todo.infrastructure.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A call to one of the use cases behind TaskService.
+ */
+@Name("com.hexagonal.todo.UseCase")
+@Label("Task Use Case")
+public class TaskUseCaseEvent extends TaskOperationEvent {
+}
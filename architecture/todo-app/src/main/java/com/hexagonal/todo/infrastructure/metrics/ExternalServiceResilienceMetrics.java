@@ -0,0 +1,52 @@
+package com.hexagonal.todo.infrastructure.metrics;
+
+import com.hexagonal.todo.infrastructure.adapters.ResilientExternalServiceAdapter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.Locale;
+
+/**
+ * Publishes the circuit breaker and bulkhead of {@link ResilientExternalServiceAdapter}:
+ * todo.external.circuit.state is 1 for the current state and 0 for the others, todo.external.rejections counts
+ * calls turned away by reason, and todo.external.deadline.exceeded counts calls that ran out of time.
+ * The values are read from the adapter at scrape time, so calls pay nothing extra.
+ */
+public class ExternalServiceResilienceMetrics implements MeterBinder {
+
+    private final ResilientExternalServiceAdapter adapter;
+
+    public ExternalServiceResilienceMetrics(ResilientExternalServiceAdapter adapter) {
+        this.adapter = adapter;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (ResilientExternalServiceAdapter.State state : ResilientExternalServiceAdapter.State.values()) {
+            Gauge.builder("todo.external.circuit.state", adapter, a -> a.getState() == state ? 1 : 0)
+                    .description("1 when the external service circuit breaker is in this state")
+                    .tag("state", state.name().toLowerCase(Locale.ROOT))
+                    .register(registry);
+        }
+        Gauge.builder("todo.external.bulkhead.available", adapter,
+                        ResilientExternalServiceAdapter::getAvailablePermits)
+                .description("Calls the external service bulkhead still lets in")
+                .register(registry);
+        FunctionCounter.builder("todo.external.rejections", adapter,
+                        ResilientExternalServiceAdapter::getBulkheadRejections)
+                .description("External service calls rejected without being made")
+                .tag("reason", "bulkhead")
+                .register(registry);
+        FunctionCounter.builder("todo.external.rejections", adapter,
+                        ResilientExternalServiceAdapter::getBreakerRejections)
+                .description("External service calls rejected without being made")
+                .tag("reason", "circuit_open")
+                .register(registry);
+        FunctionCounter.builder("todo.external.deadline.exceeded", adapter,
+                        ResilientExternalServiceAdapter::getDeadlineExceeded)
+                .description("External service calls that did not finish within the deadline")
+                .register(registry);
+    }
+}
@@ -0,0 +1,59 @@
+package com.hexagonal.todo.infrastructure.metrics;
+
+import com.hexagonal.todo.domain.models.Task;
+import com.hexagonal.todo.domain.models.TaskFilter;
+import com.hexagonal.todo.domain.ports.in.CompleteTaskUseCase;
+import com.hexagonal.todo.infrastructure.jfr.TaskOperationEvent;
+import com.hexagonal.todo.infrastructure.jfr.TaskUseCaseEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Optional;
+
+/**
+ * Records every {@link CompleteTaskUseCase} call as a todo.usecase timer
+ * tagged usecase, method, outcome and exception,
+ * and as a {@link TaskUseCaseEvent}.
+ */
+public class MeteredCompleteTaskUseCase implements CompleteTaskUseCase {
+
+    private final CompleteTaskUseCase delegate;
+    private final MethodTimer completeTask;
+    private final MethodTimer completeTasks;
+
+    public MeteredCompleteTaskUseCase(CompleteTaskUseCase delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.completeTask = timer(registry, "completeTask");
+        this.completeTasks = timer(registry, "completeTasks");
+    }
+
+    @Override
+    public Optional<Task> completeTask(Long id) {
+        TaskOperationEvent call = completeTask.start(id);
+        try {
+            Optional<Task> completed = delegate.completeTask(id);
+            completeTask.success(call);
+            return completed;
+        } catch (RuntimeException e) {
+            completeTask.failure(call, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public long completeTasks(TaskFilter filter) {
+        TaskOperationEvent call = completeTasks.start();
+        try {
+            long completed = delegate.completeTasks(filter);
+            completeTasks.success(call);
+            return completed;
+        } catch (RuntimeException e) {
+            completeTasks.failure(call, e);
+            throw e;
+        }
+    }
+
+    private static MethodTimer timer(MeterRegistry registry, String method) {
+        return new MethodTimer(registry, "todo.usecase", "usecase", "CompleteTaskUseCase", method,
+                TaskUseCaseEvent::new);
+    }
+}
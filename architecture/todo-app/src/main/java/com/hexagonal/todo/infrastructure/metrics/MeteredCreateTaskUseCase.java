@@ -0,0 +1,58 @@
+package com.hexagonal.todo.infrastructure.metrics;
+
+import com.hexagonal.todo.domain.models.Task;
+import com.hexagonal.todo.domain.ports.in.CreateTaskUseCase;
+import com.hexagonal.todo.infrastructure.jfr.TaskOperationEvent;
+import com.hexagonal.todo.infrastructure.jfr.TaskUseCaseEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.List;
+
+/**
+ * Records every {@link CreateTaskUseCase} call as a todo.usecase timer tagged usecase, method, outcome and exception,
+ * and as a {@link TaskUseCaseEvent}.
+ */
+public class MeteredCreateTaskUseCase implements CreateTaskUseCase {
+
+    private final CreateTaskUseCase delegate;
+    private final MethodTimer createTask;
+    private final MethodTimer createTasks;
+
+    public MeteredCreateTaskUseCase(CreateTaskUseCase delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.createTask = timer(registry, "createTask");
+        this.createTasks = timer(registry, "createTasks");
+    }
+
+    @Override
+    public Task createTask(Task task) {
+        TaskOperationEvent call = createTask.start(task.getId());
+        try {
+            Task created = delegate.createTask(task);
+            call.setTaskId(created.getId());
+            createTask.success(call);
+            return created;
+        } catch (RuntimeException e) {
+            createTask.failure(call, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<Task> createTasks(List<Task> tasks) {
+        TaskOperationEvent call = createTasks.start();
+        try {
+            List<Task> created = delegate.createTasks(tasks);
+            createTasks.success(call);
+            return created;
+        } catch (RuntimeException e) {
+            createTasks.failure(call, e);
+            throw e;
+        }
+    }
+
+    private static MethodTimer timer(MeterRegistry registry, String method) {
+        return new MethodTimer(registry, "todo.usecase", "usecase", "CreateTaskUseCase", method,
+                TaskUseCaseEvent::new);
+    }
+}
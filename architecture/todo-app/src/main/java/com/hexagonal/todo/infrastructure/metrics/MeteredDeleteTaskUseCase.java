@@ -0,0 +1,72 @@
+package com.hexagonal.todo.infrastructure.metrics;
+
+import com.hexagonal.todo.domain.models.TaskFilter;
+import com.hexagonal.todo.domain.ports.in.DeleteTaskUseCase;
+import com.hexagonal.todo.infrastructure.jfr.TaskOperationEvent;
+import com.hexagonal.todo.infrastructure.jfr.TaskUseCaseEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Collection;
+
+/**
+ * Records every {@link DeleteTaskUseCase} call as a todo.usecase timer tagged usecase, method, outcome and exception,
+ * and as a {@link TaskUseCaseEvent}.
+ */
+public class MeteredDeleteTaskUseCase implements DeleteTaskUseCase {
+
+    private final DeleteTaskUseCase delegate;
+    private final MethodTimer deleteTask;
+    private final MethodTimer deleteTasksById;
+    private final MethodTimer deleteTasks;
+
+    public MeteredDeleteTaskUseCase(DeleteTaskUseCase delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.deleteTask = timer(registry, "deleteTask");
+        this.deleteTasksById = timer(registry, "deleteTasksById");
+        this.deleteTasks = timer(registry, "deleteTasks");
+    }
+
+    @Override
+    public Boolean deleteTask(Long id) {
+        TaskOperationEvent call = deleteTask.start(id);
+        try {
+            Boolean deleted = delegate.deleteTask(id);
+            deleteTask.success(call);
+            return deleted;
+        } catch (RuntimeException e) {
+            deleteTask.failure(call, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public long deleteTasksById(Collection<Long> ids) {
+        TaskOperationEvent call = deleteTasksById.start();
+        try {
+            long deleted = delegate.deleteTasksById(ids);
+            deleteTasksById.success(call);
+            return deleted;
+        } catch (RuntimeException e) {
+            deleteTasksById.failure(call, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public long deleteTasks(TaskFilter filter) {
+        TaskOperationEvent call = deleteTasks.start();
+        try {
+            long deleted = delegate.deleteTasks(filter);
+            deleteTasks.success(call);
+            return deleted;
+        } catch (RuntimeException e) {
+            deleteTasks.failure(call, e);
+            throw e;
+        }
+    }
+
+    private static MethodTimer timer(MeterRegistry registry, String method) {
+        return new MethodTimer(registry, "todo.usecase", "usecase", "DeleteTaskUseCase", method,
+                TaskUseCaseEvent::new);
+    }
+}
@@ -0,0 +1,75 @@
+package com.hexagonal.todo.infrastructure.metrics;
+
+import com.hexagonal.todo.domain.models.AdditionalTaskInfo;
+import com.hexagonal.todo.domain.ports.out.ExternalServicePort;
+import com.hexagonal.todo.infrastructure.jfr.TaskOperationEvent;
+import com.hexagonal.todo.infrastructure.jfr.TaskPortEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Records every {@link ExternalServicePort} lookup as todo.port{port="ExternalServicePort",method,outcome,exception},
+ * timed until its future completes. In a batch every lookup is timed from the start of the batch, so the histogram
+ * shows how long each caller waited for its answer, and a batch that throws counts as a failed lookup of every task
+ * in it. An empty answer counts as a success. Each lookup is also a {@link TaskPortEvent} carrying its task id.
+ */
+public class MeteredExternalServiceAdapter implements ExternalServicePort {
+
+    private final ExternalServicePort delegate;
+    private final MethodTimer lookup;
+    private final MethodTimer batchLookup;
+
+    public MeteredExternalServiceAdapter(ExternalServicePort delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.lookup = new MethodTimer(registry, "todo.port", "port", "ExternalServicePort",
+                "getAdditionalTaskInfo", TaskPortEvent::new);
+        this.batchLookup = new MethodTimer(registry, "todo.port", "port", "ExternalServicePort",
+                "getAdditionalTaskInfoBatch", TaskPortEvent::new);
+    }
+
+    @Override
+    public CompletableFuture<Optional<AdditionalTaskInfo>> getAdditionalTaskInfoAsync(Long taskId) {
+        TaskOperationEvent call = lookup.start(taskId);
+        try {
+            return timed(delegate.getAdditionalTaskInfoAsync(taskId), lookup, call);
+        } catch (RuntimeException e) {
+            lookup.failure(call, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Map<Long, CompletableFuture<Optional<AdditionalTaskInfo>>> getAdditionalTaskInfoAsync(
+            Collection<Long> taskIds) {
+        Map<Long, TaskOperationEvent> calls = new HashMap<>();
+        for (Long taskId : taskIds) {
+            calls.put(taskId, batchLookup.start(taskId));
+        }
+        try {
+            Map<Long, CompletableFuture<Optional<AdditionalTaskInfo>>> lookups =
+                    delegate.getAdditionalTaskInfoAsync(taskIds);
+            lookups.forEach((taskId, future) -> timed(future, batchLookup, calls.get(taskId)));
+            return lookups;
+        } catch (RuntimeException e) {
+            calls.values().forEach(call -> batchLookup.failure(call, e));
+            throw e;
+        }
+    }
+
+    private static <T> CompletableFuture<T> timed(CompletableFuture<T> future, MethodTimer timer,
+                                                  TaskOperationEvent call) {
+        future.whenComplete((result, error) -> {
+            if (error == null) {
+                timer.success(call);
+            } else {
+                timer.failure(call, error);
+            }
+        });
+        return future;
+    }
+}
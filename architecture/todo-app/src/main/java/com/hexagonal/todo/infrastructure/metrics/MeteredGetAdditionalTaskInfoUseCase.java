@@ -0,0 +1,62 @@
+package com.hexagonal.todo.infrastructure.metrics;
+
+import com.hexagonal.todo.domain.models.AdditionalTaskInfo;
+import com.hexagonal.todo.domain.models.TaskInfoLookup;
+import com.hexagonal.todo.domain.ports.in.GetAdditionalTaskInfoUseCase;
+import com.hexagonal.todo.infrastructure.jfr.TaskOperationEvent;
+import com.hexagonal.todo.infrastructure.jfr.TaskUseCaseEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Records every {@link GetAdditionalTaskInfoUseCase} call as a todo.usecase timer
+ * tagged usecase, method, outcome and exception,
+ * and as a {@link TaskUseCaseEvent}.
+ * The batch lookup is recorded as method="getAdditionalTaskInfoBatch" and timed until every answer has been
+ * handed to the consumer.
+ */
+public class MeteredGetAdditionalTaskInfoUseCase implements GetAdditionalTaskInfoUseCase {
+
+    private final GetAdditionalTaskInfoUseCase delegate;
+    private final MethodTimer getAdditionalTaskInfo;
+    private final MethodTimer getAdditionalTaskInfoBatch;
+
+    public MeteredGetAdditionalTaskInfoUseCase(GetAdditionalTaskInfoUseCase delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.getAdditionalTaskInfo = timer(registry, "getAdditionalTaskInfo");
+        this.getAdditionalTaskInfoBatch = timer(registry, "getAdditionalTaskInfoBatch");
+    }
+
+    @Override
+    public Optional<AdditionalTaskInfo> getAdditionalTaskInfo(Long id) {
+        TaskOperationEvent call = getAdditionalTaskInfo.start(id);
+        try {
+            Optional<AdditionalTaskInfo> info = delegate.getAdditionalTaskInfo(id);
+            getAdditionalTaskInfo.success(call);
+            return info;
+        } catch (RuntimeException e) {
+            getAdditionalTaskInfo.failure(call, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void getAdditionalTaskInfo(Collection<Long> ids, Consumer<TaskInfoLookup> consumer) {
+        TaskOperationEvent call = getAdditionalTaskInfoBatch.start();
+        try {
+            delegate.getAdditionalTaskInfo(ids, consumer);
+            getAdditionalTaskInfoBatch.success(call);
+        } catch (RuntimeException e) {
+            getAdditionalTaskInfoBatch.failure(call, e);
+            throw e;
+        }
+    }
+
+    private static MethodTimer timer(MeterRegistry registry, String method) {
+        return new MethodTimer(registry, "todo.usecase", "usecase", "GetAdditionalTaskInfoUseCase", method,
+                TaskUseCaseEvent::new);
+    }
+}
@@ -0,0 +1,153 @@
+package com.hexagonal.todo.infrastructure.metrics;
+
+import com.hexagonal.todo.domain.models.AdditionalTaskInfo;
+import com.hexagonal.todo.domain.models.Task;
+import com.hexagonal.todo.domain.models.TaskFilter;
+import com.hexagonal.todo.domain.models.TaskInfoLookup;
+import com.hexagonal.todo.domain.models.TaskPage;
+import com.hexagonal.todo.domain.ports.in.ReactiveTaskUseCase;
+import com.hexagonal.todo.infrastructure.jfr.TaskOperationEvent;
+import com.hexagonal.todo.infrastructure.jfr.TaskUseCaseEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Records every {@link ReactiveTaskUseCase} call as a todo.usecase timer tagged usecase, method, outcome and
+ * exception, timed from subscription to completion or error, and as a {@link TaskUseCaseEvent}. A cancelled call is
+ * not recorded.
+ * Unlike the blocking decorators this allocates a few operators per subscription.
+ */
+public class MeteredReactiveTaskUseCase implements ReactiveTaskUseCase {
+
+    private final ReactiveTaskUseCase delegate;
+    private final MethodTimer createTask;
+    private final MethodTimer createTasks;
+    private final MethodTimer getTask;
+    private final MethodTimer getTasks;
+    private final MethodTimer searchTasks;
+    private final MethodTimer exportTasks;
+    private final MethodTimer updateTask;
+    private final MethodTimer completeTask;
+    private final MethodTimer completeTasks;
+    private final MethodTimer deleteTask;
+    private final MethodTimer deleteTasksById;
+    private final MethodTimer deleteTasks;
+    private final MethodTimer getAdditionalTaskInfo;
+    private final MethodTimer getAdditionalTaskInfoBatch;
+
+    public MeteredReactiveTaskUseCase(ReactiveTaskUseCase delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.createTask = timer(registry, "createTask");
+        this.createTasks = timer(registry, "createTasks");
+        this.getTask = timer(registry, "getTask");
+        this.getTasks = timer(registry, "getTasks");
+        this.searchTasks = timer(registry, "searchTasks");
+        this.exportTasks = timer(registry, "exportTasks");
+        this.updateTask = timer(registry, "updateTask");
+        this.completeTask = timer(registry, "completeTask");
+        this.completeTasks = timer(registry, "completeTasks");
+        this.deleteTask = timer(registry, "deleteTask");
+        this.deleteTasksById = timer(registry, "deleteTasksById");
+        this.deleteTasks = timer(registry, "deleteTasks");
+        this.getAdditionalTaskInfo = timer(registry, "getAdditionalTaskInfo");
+        this.getAdditionalTaskInfoBatch = timer(registry, "getAdditionalTaskInfoBatch");
+    }
+
+    @Override
+    public Mono<Task> createTask(Task task) {
+        return timed(createTask, task.getId(), () -> delegate.createTask(task));
+    }
+
+    @Override
+    public Flux<Task> createTasks(List<Task> tasks) {
+        return timedMany(createTasks, () -> delegate.createTasks(tasks));
+    }
+
+    @Override
+    public Mono<Task> getTask(Long id) {
+        return timed(getTask, id, () -> delegate.getTask(id));
+    }
+
+    @Override
+    public Mono<TaskPage> getTasks(TaskFilter filter, String sort, String after, int limit) {
+        return timed(getTasks, null, () -> delegate.getTasks(filter, sort, after, limit));
+    }
+
+    @Override
+    public Mono<TaskPage> searchTasks(String query, String after, int limit) {
+        return timed(searchTasks, null, () -> delegate.searchTasks(query, after, limit));
+    }
+
+    @Override
+    public Flux<Task> exportTasks() {
+        return timedMany(exportTasks, delegate::exportTasks);
+    }
+
+    @Override
+    public Mono<Task> updateTask(Long id, Task task) {
+        return timed(updateTask, id, () -> delegate.updateTask(id, task));
+    }
+
+    @Override
+    public Mono<Task> completeTask(Long id) {
+        return timed(completeTask, id, () -> delegate.completeTask(id));
+    }
+
+    @Override
+    public Mono<Long> completeTasks(TaskFilter filter) {
+        return timed(completeTasks, null, () -> delegate.completeTasks(filter));
+    }
+
+    @Override
+    public Mono<Boolean> deleteTask(Long id) {
+        return timed(deleteTask, id, () -> delegate.deleteTask(id));
+    }
+
+    @Override
+    public Mono<Long> deleteTasksById(Collection<Long> ids) {
+        return timed(deleteTasksById, null, () -> delegate.deleteTasksById(ids));
+    }
+
+    @Override
+    public Mono<Long> deleteTasks(TaskFilter filter) {
+        return timed(deleteTasks, null, () -> delegate.deleteTasks(filter));
+    }
+
+    @Override
+    public Mono<AdditionalTaskInfo> getAdditionalTaskInfo(Long id) {
+        return timed(getAdditionalTaskInfo, id, () -> delegate.getAdditionalTaskInfo(id));
+    }
+
+    @Override
+    public Flux<TaskInfoLookup> getAdditionalTaskInfo(Collection<Long> ids) {
+        return timedMany(getAdditionalTaskInfoBatch, () -> delegate.getAdditionalTaskInfo(ids));
+    }
+
+    private static <T> Mono<T> timed(MethodTimer timer, Long taskId, Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            TaskOperationEvent event = timer.start(taskId);
+            return call.get()
+                    .doOnSuccess(value -> timer.success(event))
+                    .doOnError(error -> timer.failure(event, error));
+        });
+    }
+
+    private static <T> Flux<T> timedMany(MethodTimer timer, Supplier<Flux<T>> call) {
+        return Flux.defer(() -> {
+            TaskOperationEvent event = timer.start();
+            return call.get()
+                    .doOnComplete(() -> timer.success(event))
+                    .doOnError(error -> timer.failure(event, error));
+        });
+    }
+
+    private static MethodTimer timer(MeterRegistry registry, String method) {
+        return new MethodTimer(registry, "todo.usecase", "usecase", "ReactiveTaskUseCase", method,
+                TaskUseCaseEvent::new);
+    }
+}
@@ -0,0 +1,92 @@
+package com.hexagonal.todo.infrastructure.metrics;
+
+import com.hexagonal.todo.domain.models.Task;
+import com.hexagonal.todo.domain.models.TaskFilter;
+import com.hexagonal.todo.domain.models.TaskPage;
+import com.hexagonal.todo.domain.ports.in.RetrieveTaskUseCase;
+import com.hexagonal.todo.infrastructure.jfr.TaskOperationEvent;
+import com.hexagonal.todo.infrastructure.jfr.TaskUseCaseEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Records every {@link RetrieveTaskUseCase} call as a todo.usecase timer
+ * tagged usecase, method, outcome and exception,
+ * and as a {@link TaskUseCaseEvent}.
+ * exportTasks is timed until the last task has been handed to the consumer, which includes writing it out.
+ */
+public class MeteredRetrieveTaskUseCase implements RetrieveTaskUseCase {
+
+    private final RetrieveTaskUseCase delegate;
+    private final MethodTimer getTask;
+    private final MethodTimer getAllTasks;
+    private final MethodTimer getTasks;
+    private final MethodTimer exportTasks;
+
+    public MeteredRetrieveTaskUseCase(RetrieveTaskUseCase delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.getTask = timer(registry, "getTask");
+        this.getAllTasks = timer(registry, "getAllTasks");
+        this.getTasks = timer(registry, "getTasks");
+        this.exportTasks = timer(registry, "exportTasks");
+    }
+
+    @Override
+    public Optional<Task> getTask(Long id) {
+        TaskOperationEvent call = getTask.start(id);
+        try {
+            Optional<Task> task = delegate.getTask(id);
+            getTask.success(call);
+            return task;
+        } catch (RuntimeException e) {
+            getTask.failure(call, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<Task> getAllTasks() {
+        TaskOperationEvent call = getAllTasks.start();
+        try {
+            List<Task> tasks = delegate.getAllTasks();
+            getAllTasks.success(call);
+            return tasks;
+        } catch (RuntimeException e) {
+            getAllTasks.failure(call, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public TaskPage getTasks(TaskFilter filter, String sort, String after, int limit) {
+        TaskOperationEvent call = getTasks.start();
+        try {
+            TaskPage page = delegate.getTasks(filter, sort, after, limit);
+            getTasks.success(call);
+            return page;
+        } catch (RuntimeException e) {
+            getTasks.failure(call, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void exportTasks(Consumer<Task> consumer) {
+        TaskOperationEvent call = exportTasks.start();
+        try {
+            delegate.exportTasks(consumer);
+            exportTasks.success(call);
+        } catch (RuntimeException e) {
+            exportTasks.failure(call, e);
+            throw e;
+        }
+    }
+
+    private static MethodTimer timer(MeterRegistry registry, String method) {
+        return new MethodTimer(registry, "todo.usecase", "usecase", "RetrieveTaskUseCase", method,
+                TaskUseCaseEvent::new);
+    }
+}
@@ -0,0 +1,41 @@
+package com.hexagonal.todo.infrastructure.metrics;
+
+import com.hexagonal.todo.domain.models.TaskPage;
+import com.hexagonal.todo.domain.ports.in.SearchTasksUseCase;
+import com.hexagonal.todo.infrastructure.jfr.TaskOperationEvent;
+import com.hexagonal.todo.infrastructure.jfr.TaskUseCaseEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Records every {@link SearchTasksUseCase} call as a todo.usecase timer
+ * tagged usecase, method, outcome and exception,
+ * and as a {@link TaskUseCaseEvent}.
+ */
+public class MeteredSearchTasksUseCase implements SearchTasksUseCase {
+
+    private final SearchTasksUseCase delegate;
+    private final MethodTimer searchTasks;
+
+    public MeteredSearchTasksUseCase(SearchTasksUseCase delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.searchTasks = timer(registry, "searchTasks");
+    }
+
+    @Override
+    public TaskPage searchTasks(String query, String after, int limit) {
+        TaskOperationEvent call = searchTasks.start();
+        try {
+            TaskPage page = delegate.searchTasks(query, after, limit);
+            searchTasks.success(call);
+            return page;
+        } catch (RuntimeException e) {
+            searchTasks.failure(call, e);
+            throw e;
+        }
+    }
+
+    private static MethodTimer timer(MeterRegistry registry, String method) {
+        return new MethodTimer(registry, "todo.usecase", "usecase", "SearchTasksUseCase", method,
+                TaskUseCaseEvent::new);
+    }
+}
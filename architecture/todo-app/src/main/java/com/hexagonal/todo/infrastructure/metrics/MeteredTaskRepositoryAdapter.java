@@ -0,0 +1,245 @@
+package com.hexagonal.todo.infrastructure.metrics;
+
+import com.hexagonal.todo.domain.models.Task;
+import com.hexagonal.todo.domain.models.TaskCursor;
+import com.hexagonal.todo.domain.models.TaskFilter;
+import com.hexagonal.todo.domain.models.TaskSort;
+import com.hexagonal.todo.domain.ports.out.TaskRepositoryPort;
+import com.hexagonal.todo.infrastructure.jfr.TaskOperationEvent;
+import com.hexagonal.todo.infrastructure.jfr.TaskPortEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Records every {@link TaskRepositoryPort} call as todo.port{port="TaskRepositoryPort",method,outcome,exception}
+ * and as a {@link TaskPortEvent}.
+ * streamAll is timed until the last task has been handed to the consumer.
+ */
+public class MeteredTaskRepositoryAdapter implements TaskRepositoryPort {
+
+    private final TaskRepositoryPort delegate;
+    private final MethodTimer save;
+    private final MethodTimer saveAll;
+    private final MethodTimer findById;
+    private final MethodTimer existsById;
+    private final MethodTimer findExistingIds;
+    private final MethodTimer findAll;
+    private final MethodTimer findPage;
+    private final MethodTimer streamAll;
+    private final MethodTimer update;
+    private final MethodTimer markCompleted;
+    private final MethodTimer completeAll;
+    private final MethodTimer deleteById;
+    private final MethodTimer deleteAllById;
+    private final MethodTimer deleteAll;
+
+    public MeteredTaskRepositoryAdapter(TaskRepositoryPort delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.save = timer(registry, "save");
+        this.saveAll = timer(registry, "saveAll");
+        this.findById = timer(registry, "findById");
+        this.existsById = timer(registry, "existsById");
+        this.findExistingIds = timer(registry, "findExistingIds");
+        this.findAll = timer(registry, "findAll");
+        this.findPage = timer(registry, "findPage");
+        this.streamAll = timer(registry, "streamAll");
+        this.update = timer(registry, "update");
+        this.markCompleted = timer(registry, "markCompleted");
+        this.completeAll = timer(registry, "completeAll");
+        this.deleteById = timer(registry, "deleteById");
+        this.deleteAllById = timer(registry, "deleteAllById");
+        this.deleteAll = timer(registry, "deleteAll");
+    }
+
+    @Override
+    public Task save(Task task) {
+        TaskOperationEvent call = save.start(task.getId());
+        try {
+            Task saved = delegate.save(task);
+            call.setTaskId(saved.getId());
+            save.success(call);
+            return saved;
+        } catch (RuntimeException e) {
+            save.failure(call, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<Task> saveAll(List<Task> tasks) {
+        TaskOperationEvent call = saveAll.start();
+        try {
+            List<Task> saved = delegate.saveAll(tasks);
+            saveAll.success(call);
+            return saved;
+        } catch (RuntimeException e) {
+            saveAll.failure(call, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Optional<Task> findById(Long id) {
+        TaskOperationEvent call = findById.start(id);
+        try {
+            Optional<Task> task = delegate.findById(id);
+            findById.success(call);
+            return task;
+        } catch (RuntimeException e) {
+            findById.failure(call, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        TaskOperationEvent call = existsById.start(id);
+        try {
+            boolean exists = delegate.existsById(id);
+            existsById.success(call);
+            return exists;
+        } catch (RuntimeException e) {
+            existsById.failure(call, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Set<Long> findExistingIds(Collection<Long> ids) {
+        TaskOperationEvent call = findExistingIds.start();
+        try {
+            Set<Long> existing = delegate.findExistingIds(ids);
+            findExistingIds.success(call);
+            return existing;
+        } catch (RuntimeException e) {
+            findExistingIds.failure(call, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<Task> findAll() {
+        TaskOperationEvent call = findAll.start();
+        try {
+            List<Task> tasks = delegate.findAll();
+            findAll.success(call);
+            return tasks;
+        } catch (RuntimeException e) {
+            findAll.failure(call, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<Task> findPage(TaskFilter filter, TaskSort sort, TaskCursor after, int limit) {
+        TaskOperationEvent call = findPage.start();
+        try {
+            List<Task> tasks = delegate.findPage(filter, sort, after, limit);
+            findPage.success(call);
+            return tasks;
+        } catch (RuntimeException e) {
+            findPage.failure(call, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void streamAll(Consumer<Task> consumer) {
+        TaskOperationEvent call = streamAll.start();
+        try {
+            delegate.streamAll(consumer);
+            streamAll.success(call);
+        } catch (RuntimeException e) {
+            streamAll.failure(call, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Optional<Task> update(Long id, Task task) {
+        TaskOperationEvent call = update.start(id);
+        try {
+            Optional<Task> updated = delegate.update(id, task);
+            update.success(call);
+            return updated;
+        } catch (RuntimeException e) {
+            update.failure(call, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Optional<Task> markCompleted(Long id) {
+        TaskOperationEvent call = markCompleted.start(id);
+        try {
+            Optional<Task> completed = delegate.markCompleted(id);
+            markCompleted.success(call);
+            return completed;
+        } catch (RuntimeException e) {
+            markCompleted.failure(call, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public long completeAll(TaskFilter filter) {
+        TaskOperationEvent call = completeAll.start();
+        try {
+            long completed = delegate.completeAll(filter);
+            completeAll.success(call);
+            return completed;
+        } catch (RuntimeException e) {
+            completeAll.failure(call, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Boolean deleteById(Long id) {
+        TaskOperationEvent call = deleteById.start(id);
+        try {
+            Boolean deleted = delegate.deleteById(id);
+            deleteById.success(call);
+            return deleted;
+        } catch (RuntimeException e) {
+            deleteById.failure(call, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public long deleteAllById(Collection<Long> ids) {
+        TaskOperationEvent call = deleteAllById.start();
+        try {
+            long deleted = delegate.deleteAllById(ids);
+            deleteAllById.success(call);
+            return deleted;
+        } catch (RuntimeException e) {
+            deleteAllById.failure(call, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public long deleteAll(TaskFilter filter) {
+        TaskOperationEvent call = deleteAll.start();
+        try {
+            long deleted = delegate.deleteAll(filter);
+            deleteAll.success(call);
+            return deleted;
+        } catch (RuntimeException e) {
+            deleteAll.failure(call, e);
+            throw e;
+        }
+    }
+
+    private static MethodTimer timer(MeterRegistry registry, String method) {
+        return new MethodTimer(registry, "todo.port", "port", "TaskRepositoryPort", method,
+                TaskPortEvent::new);
+    }
+}
@@ -0,0 +1,42 @@
+package com.hexagonal.todo.infrastructure.metrics;
+
+import com.hexagonal.todo.domain.models.Task;
+import com.hexagonal.todo.domain.ports.in.UpdateTaskUseCase;
+import com.hexagonal.todo.infrastructure.jfr.TaskOperationEvent;
+import com.hexagonal.todo.infrastructure.jfr.TaskUseCaseEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Optional;
+
+/**
+ * Records every {@link UpdateTaskUseCase} call as a todo.usecase timer tagged usecase, method, outcome and exception,
+ * and as a {@link TaskUseCaseEvent}.
+ */
+public class MeteredUpdateTaskUseCase implements UpdateTaskUseCase {
+
+    private final UpdateTaskUseCase delegate;
+    private final MethodTimer updateTask;
+
+    public MeteredUpdateTaskUseCase(UpdateTaskUseCase delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.updateTask = timer(registry, "updateTask");
+    }
+
+    @Override
+    public Optional<Task> updateTask(Long id, Task task) {
+        TaskOperationEvent call = updateTask.start(id);
+        try {
+            Optional<Task> updated = delegate.updateTask(id, task);
+            updateTask.success(call);
+            return updated;
+        } catch (RuntimeException e) {
+            updateTask.failure(call, e);
+            throw e;
+        }
+    }
+
+    private static MethodTimer timer(MeterRegistry registry, String method) {
+        return new MethodTimer(registry, "todo.usecase", "usecase", "UpdateTaskUseCase", method,
+                TaskUseCaseEvent::new);
+    }
+}
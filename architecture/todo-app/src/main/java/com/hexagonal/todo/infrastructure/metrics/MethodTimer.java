@@ -0,0 +1,82 @@
+package com.hexagonal.todo.infrastructure.metrics;
+
+import com.hexagonal.todo.infrastructure.jfr.TaskOperationEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Calls, errors and a latency histogram for one method of a metered port: a timer tagged outcome=success and one
+ * outcome=error timer per exception type. The success timer is registered up front, so a successful call costs
+ * two clock reads and a lock-free record with no registry lookup. Each call is also a flight recorder event, which
+ * is only filled in and committed while a recording takes it; the short-lived event object is usually
+ * scalar-replaced by the JIT.
+ */
+final class MethodTimer {
+
+    private static final Duration MIN_EXPECTED = Duration.ofMillis(1);
+    private static final Duration MAX_EXPECTED = Duration.ofSeconds(30);
+
+    private final MeterRegistry registry;
+    private final String name;
+    private final String component;
+    private final String method;
+    private final Tags tags;
+    private final Supplier<? extends TaskOperationEvent> events;
+    private final Timer success;
+    private final Map<Class<?>, Timer> errors = new ConcurrentHashMap<>();
+
+    MethodTimer(MeterRegistry registry, String name, String componentTag, String component, String method,
+                Supplier<? extends TaskOperationEvent> events) {
+        this.registry = registry;
+        this.name = name;
+        this.component = component;
+        this.method = method;
+        this.tags = Tags.of(componentTag, component, "method", method);
+        this.events = events;
+        this.success = timer("success", "none");
+    }
+
+    TaskOperationEvent start() {
+        return start(null);
+    }
+
+    /**
+     * Starts timing a call about the given task.
+     */
+    TaskOperationEvent start(Long taskId) {
+        TaskOperationEvent call = events.get();
+        call.start(taskId);
+        return call;
+    }
+
+    void success(TaskOperationEvent call) {
+        success.record(call.elapsedNanos(), TimeUnit.NANOSECONDS);
+        call.finish(component, method, "success", "none");
+    }
+
+    void failure(TaskOperationEvent call, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        errors.computeIfAbsent(cause.getClass(), type -> timer("error", type.getSimpleName()))
+                .record(call.elapsedNanos(), TimeUnit.NANOSECONDS);
+        call.finish(component, method, "error", cause.getClass().getSimpleName());
+    }
+
+    private Timer timer(String outcome, String exception) {
+        return Timer.builder(name)
+                .tags(tags)
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(MIN_EXPECTED)
+                .maximumExpectedValue(MAX_EXPECTED)
+                .register(registry);
+    }
+}
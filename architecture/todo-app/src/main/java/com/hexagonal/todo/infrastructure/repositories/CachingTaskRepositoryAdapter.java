@@ -0,0 +1,182 @@
+package com.hexagonal.todo.infrastructure.repositories;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.hexagonal.todo.domain.models.Task;
+import com.hexagonal.todo.domain.models.TaskCursor;
+import com.hexagonal.todo.domain.models.TaskFilter;
+import com.hexagonal.todo.domain.models.TaskSort;
+import com.hexagonal.todo.domain.ports.out.TaskRepositoryPort;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+
+/**
+ * Read-through cache in front of another {@link TaskRepositoryPort}.
+ * Single-task reads are served from a bounded Caffeine cache (W-TinyLFU eviction, expire after write);
+ * every write goes to the delegate first and then refreshes or invalidates the affected entries.
+ * Listings, pages and exports always go to the delegate.
+ * Misses are loaded on the calling thread outside the cache's map lock, so a blocking JDBC read never
+ * holds a monitor and never pins a virtual thread's carrier; concurrent misses for one id share that load.
+ */
+public class CachingTaskRepositoryAdapter implements TaskRepositoryPort {
+
+    private final TaskRepositoryPort delegate;
+    private final AsyncCache<Long, Task> loads;
+    private final Cache<Long, Task> cache;
+
+    public CachingTaskRepositoryAdapter(TaskRepositoryPort delegate, long maximumSize, Duration expireAfterWrite) {
+        this.delegate = delegate;
+        this.loads = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .buildAsync();
+        this.cache = loads.synchronous();
+    }
+
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    public long getEstimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    @Override
+    public Task save(Task task) {
+        Task saved = delegate.save(task);
+        cache.put(saved.getId(), copyOf(saved));
+        return saved;
+    }
+
+    @Override
+    public List<Task> saveAll(List<Task> tasks) {
+        return delegate.saveAll(tasks);
+    }
+
+    @Override
+    public Optional<Task> findById(Long id) {
+        CompletableFuture<Task> load = new CompletableFuture<>();
+        CompletableFuture<Task> entry = loads.get(id, (key, executor) -> load);
+        if (entry == load) {
+            try {
+                // a missing task completes with null, which Caffeine drops instead of caching
+                load.complete(delegate.findById(id).orElse(null));
+            } catch (RuntimeException e) {
+                load.completeExceptionally(e);
+                throw e;
+            }
+        }
+        return Optional.ofNullable(await(entry)).map(CachingTaskRepositoryAdapter::copyOf);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        CompletableFuture<Task> entry = loads.getIfPresent(id);
+        boolean cached = entry != null && entry.isDone() && !entry.isCompletedExceptionally()
+                && entry.join() != null;
+        return cached || delegate.existsById(id);
+    }
+
+    @Override
+    public Set<Long> findExistingIds(Collection<Long> ids) {
+        return delegate.findExistingIds(ids);
+    }
+
+    @Override
+    public List<Task> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Task> findPage(TaskFilter filter, TaskSort sort, TaskCursor after, int limit) {
+        return delegate.findPage(filter, sort, after, limit);
+    }
+
+    @Override
+    public void streamAll(Consumer<Task> consumer) {
+        delegate.streamAll(consumer);
+    }
+
+    @Override
+    public Optional<Task> update(Long id, Task task) {
+        return refresh(id, delegate.update(id, task));
+    }
+
+    @Override
+    public Optional<Task> markCompleted(Long id) {
+        return refresh(id, delegate.markCompleted(id));
+    }
+
+    @Override
+    public long completeAll(TaskFilter filter) {
+        long completed = delegate.completeAll(filter);
+        invalidate(filter);
+        return completed;
+    }
+
+    @Override
+    public Boolean deleteById(Long id) {
+        Boolean deleted = delegate.deleteById(id);
+        cache.invalidate(id);
+        return deleted;
+    }
+
+    @Override
+    public long deleteAllById(Collection<Long> ids) {
+        long deleted = delegate.deleteAllById(ids);
+        cache.invalidateAll(ids);
+        return deleted;
+    }
+
+    @Override
+    public long deleteAll(TaskFilter filter) {
+        long deleted = delegate.deleteAll(filter);
+        invalidate(filter);
+        return deleted;
+    }
+
+    private Optional<Task> refresh(Long id, Optional<Task> written) {
+        written.ifPresentOrElse(task -> cache.put(id, copyOf(task)), () -> cache.invalidate(id));
+        return written;
+    }
+
+    /**
+     * Set-based writes can touch any row, so unless the filter pins the ids the whole cache is dropped.
+     */
+    private void invalidate(TaskFilter filter) {
+        if (filter.getIds() != null) {
+            cache.invalidateAll(filter.getIds());
+        } else {
+            cache.invalidateAll();
+        }
+    }
+
+    private static Task await(CompletableFuture<Task> entry) {
+        try {
+            return entry.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Tasks are mutable, so the cache never shares an instance with its callers.
+     */
+    private static Task copyOf(Task task) {
+        return new Task(task.getId(), task.getTitle(), task.getDescription(),
+                task.getCreationDate(), task.getCompleted());
+    }
+}
@@ -0,0 +1,264 @@
+package com.hexagonal.todo.infrastructure.repositories;
+
+import com.hexagonal.todo.domain.models.Task;
+import com.hexagonal.todo.domain.models.TaskCursor;
+import com.hexagonal.todo.domain.models.TaskFilter;
+import com.hexagonal.todo.domain.models.TaskSort;
+import com.hexagonal.todo.domain.ports.out.TaskRepositoryPort;
+import com.hexagonal.todo.domain.ports.out.TaskSearchPort;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * {@link TaskRepositoryPort} kept entirely in memory, for load tests, edge deployments and tests without Postgres.
+ * Tasks are spread over {@value #STRIPES} stripes by id, each a primitive long-keyed {@link LongObjectHashMap}
+ * behind its own read-write lock, so operations on different ids rarely contend.
+ * Ids come from an atomic counter. Stored tasks are private copies that are replaced, never mutated.
+ * Multi-stripe operations lock one stripe at a time, so like the database they are not one atomic snapshot.
+ */
+public class InMemoryTaskRepositoryAdapter implements TaskRepositoryPort, TaskSearchPort {
+
+    private static final int STRIPES = 64;
+
+    private final LongObjectHashMap<Task>[] stripes;
+    private final ReadWriteLock[] locks;
+    private final AtomicLong lastId = new AtomicLong();
+
+    @SuppressWarnings("unchecked")
+    public InMemoryTaskRepositoryAdapter() {
+        stripes = new LongObjectHashMap[STRIPES];
+        locks = new ReadWriteLock[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new LongObjectHashMap<>();
+            locks[i] = new ReentrantReadWriteLock();
+        }
+    }
+
+    /**
+     * Inserts the task under a new id, or replaces the stored task when it already has one.
+     */
+    @Override
+    public Task save(Task task) {
+        long id = task.getId() != null ? reserve(task.getId()) : lastId.incrementAndGet();
+        Task saved = copyOf(id, task);
+        write(id, stripe -> stripe.put(id, saved));
+        return copyOf(id, saved);
+    }
+
+    @Override
+    public List<Task> saveAll(List<Task> tasks) {
+        List<Task> saved = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            saved.add(save(task));
+        }
+        return saved;
+    }
+
+    @Override
+    public Optional<Task> findById(Long id) {
+        return Optional.ofNullable(read(id, stripe -> stripe.get(id))).map(task -> copyOf(id, task));
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return read(id, stripe -> stripe.get(id)) != null;
+    }
+
+    @Override
+    public Set<Long> findExistingIds(Collection<Long> ids) {
+        Set<Long> existing = new HashSet<>();
+        for (Long id : ids) {
+            if (existsById(id)) {
+                existing.add(id);
+            }
+        }
+        return existing;
+    }
+
+    @Override
+    public List<Task> findAll() {
+        List<Task> tasks = collect(task -> true);
+        tasks.sort(TaskScan.byId());
+        return tasks;
+    }
+
+    @Override
+    public List<Task> findPage(TaskFilter filter, TaskSort sort, TaskCursor after, int limit) {
+        TaskScan.Page page = new TaskScan.Page(filter, sort, after, limit);
+        forEachStripe(stripe -> stripe.forEachValue(page), false);
+        return page.tasks().stream().map(task -> copyOf(task.getId(), task)).toList();
+    }
+
+    @Override
+    public void streamAll(Consumer<Task> consumer) {
+        findAll().forEach(consumer);
+    }
+
+    /**
+     * Replaces title, description and completed; the creation date is kept.
+     */
+    @Override
+    public Optional<Task> update(Long id, Task task) {
+        return replace(id, stored -> new Task(id, task.getTitle(), task.getDescription(),
+                stored.getCreationDate(), task.getCompleted()));
+    }
+
+    @Override
+    public Optional<Task> markCompleted(Long id) {
+        return replace(id, stored -> new Task(id, stored.getTitle(), stored.getDescription(),
+                stored.getCreationDate(), true));
+    }
+
+    /**
+     * Completes matching tasks that are not completed yet and counts only those.
+     */
+    @Override
+    public long completeAll(TaskFilter filter) {
+        Predicate<Task> matches = TaskScan.matcher(filter).and(task -> !Boolean.TRUE.equals(task.getCompleted()));
+        long[] completed = new long[1];
+        forEachStripe(stripe -> {
+            List<Task> changed = new ArrayList<>();
+            stripe.forEachValue(task -> {
+                if (matches.test(task)) {
+                    changed.add(task);
+                }
+            });
+            for (Task task : changed) {
+                stripe.put(task.getId(), new Task(task.getId(), task.getTitle(), task.getDescription(),
+                        task.getCreationDate(), true));
+            }
+            completed[0] += changed.size();
+        }, true);
+        return completed[0];
+    }
+
+    @Override
+    public Boolean deleteById(Long id) {
+        return write(id, stripe -> stripe.remove(id)) != null;
+    }
+
+    @Override
+    public long deleteAllById(Collection<Long> ids) {
+        long deleted = 0;
+        for (Long id : new HashSet<>(ids)) {
+            if (deleteById(id)) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    @Override
+    public long deleteAll(TaskFilter filter) {
+        Predicate<Task> matches = TaskScan.matcher(filter);
+        long[] deleted = new long[1];
+        forEachStripe(stripe -> {
+            List<Long> ids = new ArrayList<>();
+            stripe.forEachValue(task -> {
+                if (matches.test(task)) {
+                    ids.add(task.getId());
+                }
+            });
+            ids.forEach(stripe::remove);
+            deleted[0] += ids.size();
+        }, true);
+        return deleted[0];
+    }
+
+    /**
+     * Word matching instead of Postgres full-text search; see {@link TaskScan.Search}.
+     */
+    @Override
+    public List<Task> search(String query, int offset, int limit) {
+        TaskScan.Search search = new TaskScan.Search(query);
+        forEachStripe(stripe -> stripe.forEachValue(search), false);
+        return search.tasks(offset, limit).stream().map(task -> copyOf(task.getId(), task)).toList();
+    }
+
+    private Optional<Task> replace(Long id, UnaryOperator<Task> change) {
+        Task replaced = write(id, stripe -> {
+            Task stored = stripe.get(id);
+            if (stored == null) {
+                return null;
+            }
+            Task updated = change.apply(stored);
+            stripe.put(id, updated);
+            return updated;
+        });
+        return Optional.ofNullable(replaced).map(task -> copyOf(id, task));
+    }
+
+    /**
+     * Moves the id counter past an id chosen by the caller, so generated ids never collide with it.
+     */
+    private long reserve(long id) {
+        lastId.accumulateAndGet(id, Math::max);
+        return id;
+    }
+
+    private <T> T read(long id, Function<LongObjectHashMap<Task>, T> action) {
+        int index = stripeIndex(id);
+        locks[index].readLock().lock();
+        try {
+            return action.apply(stripes[index]);
+        } finally {
+            locks[index].readLock().unlock();
+        }
+    }
+
+    private <T> T write(long id, Function<LongObjectHashMap<Task>, T> action) {
+        int index = stripeIndex(id);
+        locks[index].writeLock().lock();
+        try {
+            return action.apply(stripes[index]);
+        } finally {
+            locks[index].writeLock().unlock();
+        }
+    }
+
+    private void forEachStripe(Consumer<LongObjectHashMap<Task>> action, boolean exclusive) {
+        for (int i = 0; i < STRIPES; i++) {
+            Lock lock = exclusive ? locks[i].writeLock() : locks[i].readLock();
+            lock.lock();
+            try {
+                action.accept(stripes[i]);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private List<Task> collect(Predicate<Task> matches) {
+        List<Task> tasks = new ArrayList<>();
+        forEachStripe(stripe -> stripe.forEachValue(task -> {
+            if (matches.test(task)) {
+                tasks.add(copyOf(task.getId(), task));
+            }
+        }), false);
+        return tasks;
+    }
+
+    /**
+     * Sequential ids land in consecutive stripes, so bulk inserts spread evenly.
+     */
+    private static int stripeIndex(long id) {
+        return (int) (id & (STRIPES - 1));
+    }
+
+    private static Task copyOf(long id, Task task) {
+        return new Task(id, task.getTitle(), task.getDescription(), task.getCreationDate(), task.getCompleted());
+    }
+}
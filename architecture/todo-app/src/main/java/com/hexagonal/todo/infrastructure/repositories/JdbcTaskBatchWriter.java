@@ -0,0 +1,110 @@
+package com.hexagonal.todo.infrastructure.repositories;
+
+import com.hexagonal.todo.domain.models.Task;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * JDBC {@link TaskBatchWriter}: one transaction per flush, with one statement batch per kind of write.
+ */
+public class JdbcTaskBatchWriter implements TaskBatchWriter {
+
+    private static final String RESERVE_IDS_SQL =
+            "select nextval(pg_get_serial_sequence('tasks', 'id')) from generate_series(1, ?)";
+    // an insert replayed after a crash may already be in the table
+    private static final String UPSERT_SQL =
+            "insert into tasks (id, title, description, creation_date, completed) values (?, ?, ?, ?, ?) "
+                    + "on conflict (id) do update set title = excluded.title, "
+                    + "description = excluded.description, completed = excluded.completed";
+    private static final String UPDATE_SQL =
+            "update tasks set title = ?, description = ?, completed = ? where id = ?";
+    // title and description are varchar(255), which counts characters
+    private static final int MAX_TEXT_LENGTH = 255;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+
+    public JdbcTaskBatchWriter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public List<Long> reserveIds(int count) {
+        return jdbcTemplate.queryForList(RESERVE_IDS_SQL, Long.class, count);
+    }
+
+    @Override
+    public void validate(Task task) {
+        if (task.getCreationDate() == null) {
+            throw new IllegalArgumentException("A task needs a creation date");
+        }
+        validateText("title", task.getTitle());
+        validateText("description", task.getDescription());
+    }
+
+    @Override
+    public void write(List<Task> inserts, List<Task> updates, List<Long> deletes) {
+        transaction.executeWithoutResult(status -> {
+            if (!inserts.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPSERT_SQL, new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Task task = inserts.get(i);
+                        ps.setLong(1, task.getId());
+                        ps.setString(2, task.getTitle());
+                        ps.setString(3, task.getDescription());
+                        ps.setObject(4, task.getCreationDate(), Types.TIMESTAMP);
+                        ps.setObject(5, task.getCompleted(), Types.BOOLEAN);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return inserts.size();
+                    }
+                });
+            }
+            if (!updates.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_SQL, new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Task task = updates.get(i);
+                        ps.setString(1, task.getTitle());
+                        ps.setString(2, task.getDescription());
+                        ps.setObject(3, task.getCompleted(), Types.BOOLEAN);
+                        ps.setLong(4, task.getId());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return updates.size();
+                    }
+                });
+            }
+            if (!deletes.isEmpty()) {
+                jdbcTemplate.update("delete from tasks where id = any(?)",
+                        ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", deletes.toArray())));
+            }
+        });
+    }
+
+    private static void validateText(String field, String value) {
+        if (value == null) {
+            return;
+        }
+        if (value.codePointCount(0, value.length()) > MAX_TEXT_LENGTH) {
+            throw new IllegalArgumentException(field + " may be at most " + MAX_TEXT_LENGTH + " characters");
+        }
+        // Postgres text cannot hold NUL characters
+        if (value.indexOf('\u0000') >= 0) {
+            throw new IllegalArgumentException(field + " must not contain NUL characters");
+        }
+    }
+}
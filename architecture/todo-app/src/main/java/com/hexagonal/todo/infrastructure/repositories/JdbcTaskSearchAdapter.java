@@ -0,0 +1,57 @@
+package com.hexagonal.todo.infrastructure.repositories;
+
+import com.hexagonal.todo.domain.models.Task;
+import com.hexagonal.todo.domain.ports.out.TaskSearchPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Postgres full-text search over the trigger-maintained search_vector column and its GIN index.
+ */
+public class JdbcTaskSearchAdapter implements TaskSearchPort {
+
+    private static final String SEARCH_SQL = searchSql("?", "?", "?");
+
+    private static final RowMapper<Task> TASK_ROW_MAPPER = (rs, rowNum) -> new Task(
+            rs.getLong("id"),
+            rs.getString("title"),
+            rs.getString("description"),
+            rs.getObject("creation_date", LocalDateTime.class),
+            rs.getObject("completed", Boolean.class));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcTaskSearchAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Renders the ranked search with the given parameter placeholders.
+     * websearch_to_tsquery accepts user input as typed ("quoted phrases", or, -negation) and never fails to parse.
+     * <p>
+     * Every match is ranked, so a page is the same slice of one total order (rank, then id) on every request
+     * and offset cursors neither repeat nor skip rows. Capping a candidate subset first would keep very common
+     * words cheaper, but the subset would be arbitrary and could drop the best matches. Instead the cost is
+     * bounded by the use case's result cap: Postgres keeps only the top offset + limit rows (at most
+     * {@code MAX_RESULTS + 1}) in a heap while it reads the matches the GIN index finds.
+     */
+    static String searchSql(String query, String offset, String limit) {
+        return "select t.id, t.title, t.description, t.creation_date, t.completed "
+                + "from tasks t, websearch_to_tsquery('english', " + query + ") terms "
+                + "where t.search_vector @@ terms "
+                + "order by ts_rank(t.search_vector, terms) desc, t.id "
+                + "offset " + offset + " limit " + limit;
+    }
+
+    @Override
+    public List<Task> search(String query, int offset, int limit) {
+        return jdbcTemplate.query(SEARCH_SQL, ps -> {
+            ps.setString(1, query);
+            ps.setInt(2, offset);
+            ps.setInt(3, limit);
+        }, TASK_ROW_MAPPER);
+    }
+}
@@ -1,7 +1,23 @@
 package com.hexagonal.todo.infrastructure.repositories;
 
 import com.hexagonal.todo.infrastructure.entities.TaskEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.stream.Stream;
 
 public interface JpaTaskRepository extends JpaRepository<TaskEntity, Long> {
+
+    /**
+     * Scrolls over every task with a server-side cursor. Must be consumed inside a transaction.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select t from TaskEntity t order by t.id")
+    Stream<TaskEntity> streamAllOrderedById();
 }
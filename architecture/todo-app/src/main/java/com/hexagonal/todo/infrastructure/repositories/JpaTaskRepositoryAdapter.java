@@ -1,18 +1,71 @@
 package com.hexagonal.todo.infrastructure.repositories;
 
 import com.hexagonal.todo.domain.models.Task;
+import com.hexagonal.todo.domain.models.TaskCursor;
+import com.hexagonal.todo.domain.models.TaskFilter;
+import com.hexagonal.todo.domain.models.TaskSort;
 import com.hexagonal.todo.domain.ports.out.TaskRepositoryPort;
 import com.hexagonal.todo.infrastructure.entities.TaskEntity;
+import jakarta.persistence.EntityManager;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public class JpaTaskRepositoryAdapter implements TaskRepositoryPort {
 
+    private static final int INSERT_BATCH_SIZE = 1000;
+    private static final int DELETE_CHUNK_SIZE = 5000;
+    private static final String INSERT_SQL =
+            "insert into tasks (title, description, creation_date, completed) values (?, ?, ?, ?)";
+    private static final String COLUMNS = "id, title, description, creation_date, completed";
+    private static final String UPDATE_SQL =
+            "update tasks set title = ?, description = ?, completed = ? where id = ? "
+                    + "returning id, title, description, creation_date, completed";
+    private static final String COMPLETE_SQL =
+            "update tasks set completed = true where id = ? "
+                    + "returning id, title, description, creation_date, completed";
+
+    private static final RowMapper<Task> TASK_ROW_MAPPER = (rs, rowNum) -> new Task(
+            rs.getLong("id"),
+            rs.getString("title"),
+            rs.getString("description"),
+            rs.getObject("creation_date", LocalDateTime.class),
+            rs.getObject("completed", Boolean.class));
+
     private final JpaTaskRepository jpaTaskRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final TransactionTemplate readOnlyTransaction;
 
-    public JpaTaskRepositoryAdapter(JpaTaskRepository jpaTaskRepository) {
+    public JpaTaskRepositoryAdapter(JpaTaskRepository jpaTaskRepository,
+                                    EntityManager entityManager,
+                                    JdbcTemplate jdbcTemplate,
+                                    PlatformTransactionManager transactionManager) {
         this.jpaTaskRepository = jpaTaskRepository;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     @Override
@@ -22,32 +75,185 @@ public class JpaTaskRepositoryAdapter implements TaskRepositoryPort {
         return savedTaskEntity.toDomainModel();
     }
 
+    /**
+     * Inserts tasks with JDBC batches of up to {@value #INSERT_BATCH_SIZE} rows in one transaction.
+     * Hibernate cannot batch IDENTITY inserts, so this goes straight to JDBC and reads the
+     * generated ids back from the batch; with reWriteBatchedInserts the driver sends each
+     * batch as multi-row INSERT statements.
+     */
+    @Override
+    public List<Task> saveAll(List<Task> tasks) {
+        return transaction.execute(status -> {
+            List<Task> savedTasks = new ArrayList<>(tasks.size());
+            for (int from = 0; from < tasks.size(); from += INSERT_BATCH_SIZE) {
+                List<Task> chunk = tasks.subList(from, Math.min(from + INSERT_BATCH_SIZE, tasks.size()));
+                KeyHolder keyHolder = new GeneratedKeyHolder();
+                jdbcTemplate.batchUpdate(
+                        connection -> connection.prepareStatement(INSERT_SQL, new String[] {"id"}),
+                        new BatchPreparedStatementSetter() {
+                            @Override
+                            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                                Task task = chunk.get(i);
+                                ps.setString(1, task.getTitle());
+                                ps.setString(2, task.getDescription());
+                                ps.setObject(3, task.getCreationDate(), Types.TIMESTAMP);
+                                ps.setObject(4, task.getCompleted(), Types.BOOLEAN);
+                            }
+
+                            @Override
+                            public int getBatchSize() {
+                                return chunk.size();
+                            }
+                        },
+                        keyHolder);
+                List<Map<String, Object>> keys = keyHolder.getKeyList();
+                for (int i = 0; i < chunk.size(); i++) {
+                    Task task = chunk.get(i);
+                    Long id = ((Number) keys.get(i).get("id")).longValue();
+                    savedTasks.add(new Task(id, task.getTitle(), task.getDescription(),
+                            task.getCreationDate(), task.getCompleted()));
+                }
+            }
+            return savedTasks;
+        });
+    }
+
     @Override
     public Optional<Task> findById(Long id) {
         return jpaTaskRepository.findById(id).map(TaskEntity::toDomainModel);
     }
 
+    @Override
+    public boolean existsById(Long id) {
+        return jpaTaskRepository.existsById(id);
+    }
+
+    @Override
+    public Set<Long> findExistingIds(Collection<Long> ids) {
+        return new HashSet<>(jdbcTemplate.query("select id from tasks where id = any(?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids.toArray())),
+                (rs, rowNum) -> rs.getLong(1)));
+    }
+
     @Override
     public List<Task> findAll() {
         return jpaTaskRepository.findAll().stream().map(TaskEntity::toDomainModel).toList();
     }
 
+    /**
+     * Keyset pagination: the filter and the cursor become index conditions and the page is read in index
+     * order starting right after the cursor, so deep pages cost the same as the first one.
+     * Orders by creation date compare (creation_date, id) as a row value, matching the composite indexes.
+     */
     @Override
-    public Optional<Task> update(Long id, Task task) {
-        if (jpaTaskRepository.existsById(id)) {
-            TaskEntity taskEntity = TaskEntity.fromDomainModel(task);
-            TaskEntity updatedTask = jpaTaskRepository.save(taskEntity);
-            return Optional.of(updatedTask.toDomainModel());
+    public List<Task> findPage(TaskFilter filter, TaskSort sort, TaskCursor after, int limit) {
+        TaskFilterSql filterSql = new TaskFilterSql(filter);
+        String comparison = sort.isDescending() ? " < " : " > ";
+        String direction = sort.isDescending() ? " desc" : "";
+        StringBuilder sql = new StringBuilder("select " + COLUMNS + " from tasks where ").append(filterSql.predicate());
+        if (after != null) {
+            sql.append(sort.isByCreationDate()
+                    ? " and (creation_date, id)" + comparison + "(?, ?)"
+                    : " and id" + comparison + "?");
         }
-        return Optional.empty();
+        sql.append(sort.isByCreationDate()
+                ? " order by creation_date" + direction + ", id" + direction
+                : " order by id" + direction);
+        sql.append(" limit ?");
+        return jdbcTemplate.query(sql.toString(), ps -> {
+            int index = filterSql.bind(ps, 1);
+            if (after != null) {
+                if (sort.isByCreationDate()) {
+                    ps.setObject(index++, after.getCreationDate(), Types.TIMESTAMP);
+                }
+                ps.setLong(index++, after.getId());
+            }
+            ps.setInt(index, limit);
+        }, TASK_ROW_MAPPER);
     }
 
+    /**
+     * Streams every task through a database cursor inside a read-only transaction.
+     * Each entity is detached right after mapping so the persistence context stays empty.
+     */
+    @Override
+    public void streamAll(Consumer<Task> consumer) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<TaskEntity> entities = jpaTaskRepository.streamAllOrderedById()) {
+                entities.forEach(entity -> {
+                    entityManager.detach(entity);
+                    consumer.accept(entity.toDomainModel());
+                });
+            }
+        });
+    }
+
+    /**
+     * Updates title, description and completed in a single conditional UPDATE.
+     * The creation date is never overwritten; RETURNING hands back the stored row,
+     * and an empty result (no affected row) means the task does not exist.
+     */
+    @Override
+    public Optional<Task> update(Long id, Task task) {
+        List<Task> updated = jdbcTemplate.query(UPDATE_SQL, ps -> {
+            ps.setString(1, task.getTitle());
+            ps.setString(2, task.getDescription());
+            ps.setObject(3, task.getCompleted(), Types.BOOLEAN);
+            ps.setLong(4, id);
+        }, TASK_ROW_MAPPER);
+        return updated.stream().findFirst();
+    }
+
+    /**
+     * Flips only the completed column, so concurrent edits to other columns are not overwritten.
+     */
+    @Override
+    public Optional<Task> markCompleted(Long id) {
+        List<Task> completed = jdbcTemplate.query(COMPLETE_SQL, ps -> ps.setLong(1, id), TASK_ROW_MAPPER);
+        return completed.stream().findFirst();
+    }
+
+    /**
+     * Completes every matching task with one set-based UPDATE.
+     * Rows that are already completed are skipped, so the count only includes changed tasks.
+     */
+    @Override
+    public long completeAll(TaskFilter filter) {
+        TaskFilterSql filterSql = new TaskFilterSql(filter);
+        String sql = "update tasks set completed = true where " + filterSql.predicate()
+                + " and completed is distinct from true";
+        return jdbcTemplate.update(sql, ps -> filterSql.bind(ps, 1));
+    }
+
+    /**
+     * Deletes with a single statement; the affected-row count tells whether the task existed.
+     */
     @Override
     public Boolean deleteById(Long id) {
-        if (jpaTaskRepository.existsById(id)) {
-            jpaTaskRepository.deleteById(id);
-            return true;
-        }
-        return false;
+        return jdbcTemplate.update("delete from tasks where id = ?", ps -> ps.setLong(1, id)) > 0;
+    }
+
+    @Override
+    public long deleteAllById(Collection<Long> ids) {
+        return jdbcTemplate.update("delete from tasks where id = any(?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids.toArray())));
+    }
+
+    /**
+     * Deletes every matching task in chunks of {@value #DELETE_CHUNK_SIZE} rows.
+     * Each chunk is its own short statement, so a large delete never holds row locks for long.
+     */
+    @Override
+    public long deleteAll(TaskFilter filter) {
+        TaskFilterSql filterSql = new TaskFilterSql(filter);
+        String sql = "delete from tasks where id in (select id from tasks where " + filterSql.predicate()
+                + " limit ?)";
+        long deleted = 0;
+        int chunk;
+        do {
+            chunk = jdbcTemplate.update(sql, ps -> ps.setInt(filterSql.bind(ps, 1), DELETE_CHUNK_SIZE));
+            deleted += chunk;
+        } while (chunk == DELETE_CHUNK_SIZE);
+        return deleted;
     }
 }
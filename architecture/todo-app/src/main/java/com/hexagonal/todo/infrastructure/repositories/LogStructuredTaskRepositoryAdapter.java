@@ -0,0 +1,845 @@
+package com.hexagonal.todo.infrastructure.repositories;
+
+import com.hexagonal.todo.domain.models.Task;
+import com.hexagonal.todo.domain.models.TaskCursor;
+import com.hexagonal.todo.domain.models.TaskFilter;
+import com.hexagonal.todo.domain.models.TaskSort;
+import com.hexagonal.todo.domain.ports.out.TaskRepositoryPort;
+import com.hexagonal.todo.domain.ports.out.TaskSearchPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * {@link TaskRepositoryPort} on a local log-structured store, for deployments without a Postgres server.
+ * <ul>
+ *     <li>Every write appends a {@link TaskRecordCodec} record (a put or a delete tombstone) to the active
+ *     memory-mapped {@link TaskLogSegment}; a full segment is forced to disk and a new one is started.</li>
+ *     <li>An in-memory index maps each live id to the segment and offset of its latest record, so a read by id is
+ *     one hash lookup and one copy out of the mapping. Pages in id order walk the ids from their cursor and stop
+ *     once full; pages by creation date, searches and set-based writes decode every live record, outside the
+ *     lock.</li>
+ *     <li>A checkpoint of the index and the log position it covers is written periodically and on close.
+ *     Startup loads it and replays only the records after that position; without a valid checkpoint the whole
+ *     log is replayed. Replay stops at the first record whose checksum does not match, which drops a torn write.</li>
+ *     <li>When superseded and deleted records make up compactionThreshold of the closed segments, a background
+ *     thread copies their live records to the end of the log, writes a checkpoint and deletes them.</li>
+ * </ul>
+ * With syncWrites every write forces its records to disk before returning, and concurrent writers share one force
+ * (group commit); otherwise the log is forced every maintenanceInterval, and a crash loses at most that much.
+ * Only one process may open a directory: opening takes an exclusive lock on its lock file and fails fast while
+ * another process holds it.
+ */
+public class LogStructuredTaskRepositoryAdapter implements TaskRepositoryPort, TaskSearchPort, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(LogStructuredTaskRepositoryAdapter.class);
+
+    private static final Pattern SEGMENT_NAME = Pattern.compile("segment-(\\d{12})\\.log");
+    private static final String CHECKPOINT = "index.checkpoint";
+    private static final String LOCK = "task-log.lock";
+    private static final int CHECKPOINT_MAGIC = 0x54534B31;
+    private static final int CHECKPOINT_AFTER_WRITES = 10_000;
+    private static final int COMPACTION_CHUNK = 1_000;
+    /**
+     * Pages in id order walk the id range instead of scanning while it is at most this many times the task count.
+     */
+    private static final int SPARSE_ID_FACTOR = 4;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final boolean syncWrites;
+    private final double compactionThreshold;
+    private final FileChannel lockFile;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    /**
+     * Concurrent so that {@link #sync} can find a segment without the lock; changed only under the write lock.
+     */
+    private final ConcurrentSkipListMap<Long, TaskLogSegment> segments = new ConcurrentSkipListMap<>();
+    private final LongObjectHashMap<Long> index = new LongObjectHashMap<>();
+    private TaskLogSegment active;
+    private long firstId = Long.MAX_VALUE;
+    private long lastId;
+    private volatile long writesSinceCheckpoint;
+    private volatile boolean unsynced;
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private volatile long appendedPosition;
+    private volatile long forcedPosition;
+
+    private final ScheduledExecutorService maintenance;
+
+    public LogStructuredTaskRepositoryAdapter(Path directory, int segmentSize, boolean syncWrites,
+                                              double compactionThreshold, Duration maintenanceInterval) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.syncWrites = syncWrites;
+        this.compactionThreshold = compactionThreshold;
+        this.lockFile = lockDirectory(directory);
+        try {
+            open();
+        } catch (RuntimeException e) {
+            releaseDirectory();
+            throw e;
+        }
+        this.maintenance = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-log-maintenance");
+            thread.setDaemon(true);
+            return thread;
+        });
+        maintenance.scheduleWithFixedDelay(this::maintain, maintenanceInterval.toMillis(),
+                maintenanceInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public int getSegmentCount() {
+        lock.readLock().lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Share of the closed segments taken by superseded and deleted records.
+     */
+    public double getGarbageRatio() {
+        lock.readLock().lock();
+        try {
+            long total = 0;
+            long live = 0;
+            for (TaskLogSegment segment : segments.headMap(active.number()).values()) {
+                total += segment.capacity();
+                live += segment.liveBytes();
+            }
+            return total == 0 ? 0 : (double) (total - live) / total;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Inserts the task under a new id, or replaces the stored task when it already has one.
+     */
+    @Override
+    public Task save(Task task) {
+        Task saved;
+        long end;
+        lock.writeLock().lock();
+        try {
+            long id = task.getId() != null ? task.getId() : lastId + 1;
+            saved = new Task(id, task.getTitle(), task.getDescription(), task.getCreationDate(), task.getCompleted());
+            put(saved);
+            end = position();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        sync(end);
+        return saved;
+    }
+
+    @Override
+    public List<Task> saveAll(List<Task> tasks) {
+        List<Task> saved = new ArrayList<>(tasks.size());
+        long end;
+        lock.writeLock().lock();
+        try {
+            for (Task task : tasks) {
+                Task withId = new Task(lastId + 1, task.getTitle(), task.getDescription(),
+                        task.getCreationDate(), task.getCompleted());
+                put(withId);
+                saved.add(withId);
+            }
+            end = position();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        sync(end);
+        return saved;
+    }
+
+    @Override
+    public Optional<Task> findById(Long id) {
+        lock.readLock().lock();
+        try {
+            Long location = index.get(id);
+            return location == null ? Optional.empty() : Optional.of(read(location));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        lock.readLock().lock();
+        try {
+            return index.get(id) != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Set<Long> findExistingIds(Collection<Long> ids) {
+        Set<Long> existing = new HashSet<>();
+        lock.readLock().lock();
+        try {
+            for (Long id : ids) {
+                if (index.get(id) != null) {
+                    existing.add(id);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return existing;
+    }
+
+    @Override
+    public List<Task> findAll() {
+        List<Task> tasks = new ArrayList<>();
+        scan(tasks::add);
+        tasks.sort(TaskScan.byId());
+        return tasks;
+    }
+
+    /**
+     * Pages in id order walk the ids from the cursor and stop once the page is full; other orders scan.
+     */
+    @Override
+    public List<Task> findPage(TaskFilter filter, TaskSort sort, TaskCursor after, int limit) {
+        if (!sort.isByCreationDate()) {
+            List<Task> page = findPageInIdOrder(filter, sort.isDescending(), after, limit);
+            if (page != null) {
+                return page;
+            }
+        }
+        TaskScan.Page page = new TaskScan.Page(filter, sort, after, limit);
+        scan(page);
+        return page.tasks();
+    }
+
+    /**
+     * Sorts the live ids, then reads one task at a time, so memory stays at eight bytes per task.
+     * Tasks deleted during the export are skipped.
+     */
+    @Override
+    public void streamAll(Consumer<Task> consumer) {
+        long[] ids;
+        lock.readLock().lock();
+        try {
+            ids = new long[index.size()];
+            int[] count = new int[1];
+            index.forEach((id, location) -> ids[count[0]++] = id);
+        } finally {
+            lock.readLock().unlock();
+        }
+        Arrays.sort(ids);
+        for (long id : ids) {
+            findById(id).ifPresent(consumer);
+        }
+    }
+
+    /**
+     * Replaces title, description and completed; the creation date is kept.
+     */
+    @Override
+    public Optional<Task> update(Long id, Task task) {
+        return replace(id, current -> new Task(id, task.getTitle(), task.getDescription(),
+                current.getCreationDate(), task.getCompleted()));
+    }
+
+    @Override
+    public Optional<Task> markCompleted(Long id) {
+        return replace(id, current -> new Task(id, current.getTitle(), current.getDescription(),
+                current.getCreationDate(), true));
+    }
+
+    /**
+     * Completes matching tasks that are not completed yet and counts only those.
+     */
+    @Override
+    public long completeAll(TaskFilter filter) {
+        Predicate<Task> matches = TaskScan.matcher(filter).and(task -> !Boolean.TRUE.equals(task.getCompleted()));
+        List<Long> candidates = matchingIds(matches);
+        long changed = 0;
+        long end;
+        lock.writeLock().lock();
+        try {
+            for (Long id : candidates) {
+                Task task = current(id, matches);
+                if (task != null) {
+                    put(new Task(id, task.getTitle(), task.getDescription(), task.getCreationDate(), true));
+                    changed++;
+                }
+            }
+            end = position();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        sync(end);
+        return changed;
+    }
+
+    @Override
+    public Boolean deleteById(Long id) {
+        return deleteAllById(List.of(id)) > 0;
+    }
+
+    @Override
+    public long deleteAllById(Collection<Long> ids) {
+        long deleted = 0;
+        long end;
+        lock.writeLock().lock();
+        try {
+            for (Long id : new HashSet<>(ids)) {
+                if (remove(id)) {
+                    deleted++;
+                }
+            }
+            end = position();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        sync(end);
+        return deleted;
+    }
+
+    @Override
+    public long deleteAll(TaskFilter filter) {
+        Predicate<Task> matches = TaskScan.matcher(filter);
+        List<Long> candidates = matchingIds(matches);
+        long deleted = 0;
+        long end;
+        lock.writeLock().lock();
+        try {
+            for (Long id : candidates) {
+                if (current(id, matches) != null && remove(id)) {
+                    deleted++;
+                }
+            }
+            end = position();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        sync(end);
+        return deleted;
+    }
+
+    /**
+     * Word matching instead of Postgres full-text search; see {@link TaskScan.Search}.
+     */
+    @Override
+    public List<Task> search(String query, int offset, int limit) {
+        TaskScan.Search search = new TaskScan.Search(query);
+        scan(search);
+        return search.tasks(offset, limit);
+    }
+
+    /**
+     * Stops the maintenance thread, forces the log and writes a final checkpoint so the next start replays nothing.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        maintenance.shutdown();
+        maintenance.awaitTermination(1, TimeUnit.MINUTES);
+        try {
+            checkpoint();
+        } finally {
+            releaseDirectory();
+        }
+    }
+
+    private Optional<Task> replace(Long id, UnaryOperator<Task> change) {
+        Task replaced;
+        long end;
+        lock.writeLock().lock();
+        try {
+            Long location = index.get(id);
+            if (location == null) {
+                return Optional.empty();
+            }
+            replaced = change.apply(read(location));
+            put(replaced);
+            end = position();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        sync(end);
+        return Optional.of(replaced);
+    }
+
+    /**
+     * Looks up the ids one by one from the cursor on, so a page whose filter matches most tasks decodes about
+     * limit records instead of all of them. Returns null, for a scan instead, when ids are so sparse that the walk
+     * could cost more than decoding every task.
+     */
+    private List<Task> findPageInIdOrder(TaskFilter filter, boolean descending, TaskCursor after, int limit) {
+        Predicate<Task> matches = TaskScan.matcher(filter);
+        List<Task> tasks = new ArrayList<>(Math.min(limit, 1024));
+        lock.readLock().lock();
+        try {
+            if (index.size() == 0) {
+                return tasks;
+            }
+            if (lastId - firstId >= (long) index.size() * SPARSE_ID_FACTOR) {
+                return null;
+            }
+            long from = after == null ? (descending ? lastId : firstId)
+                    : (descending ? after.getId() - 1 : after.getId() + 1);
+            long step = descending ? -1 : 1;
+            for (long id = from; id >= firstId && id <= lastId && tasks.size() < limit; id += step) {
+                Long location = index.get(id);
+                if (location != null) {
+                    Task task = read(location);
+                    if (matches.test(task)) {
+                        tasks.add(task);
+                    }
+                }
+            }
+            return tasks;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of the tasks that matched in a scan outside the write lock. Set-based writes then take the write lock
+     * for the candidates only and check each again with {@link #current}, as an SQL update re-checks its
+     * condition on rows changed since its snapshot; tasks that only started to match meanwhile are left out.
+     */
+    private List<Long> matchingIds(Predicate<Task> matches) {
+        List<Long> ids = new ArrayList<>();
+        scan(task -> {
+            if (matches.test(task)) {
+                ids.add(task.getId());
+            }
+        });
+        return ids;
+    }
+
+    /**
+     * The task as stored now if it still matches, otherwise null. Called with the write lock held.
+     */
+    private Task current(Long id, Predicate<Task> matches) {
+        Long location = index.get(id);
+        if (location == null) {
+            return null;
+        }
+        Task task = read(location);
+        return matches.test(task) ? task : null;
+    }
+
+    /**
+     * Copies where every live record is under the read lock, then decodes them after releasing it, so writers
+     * wait for the copy only and not for a scan of the whole store. Records never change once appended, and a
+     * segment deleted by compaction stays mapped while it is referenced, so the copy stays readable.
+     */
+    private void scan(Consumer<Task> consumer) {
+        TaskLogSegment[] owners;
+        int[] offsets;
+        lock.readLock().lock();
+        try {
+            owners = new TaskLogSegment[index.size()];
+            offsets = new int[index.size()];
+            int[] count = new int[1];
+            index.forEachValue(location -> {
+                owners[count[0]] = segment(location);
+                offsets[count[0]++] = offset(location);
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        for (int i = 0; i < owners.length; i++) {
+            consumer.accept(TaskRecordCodec.decode(owners[i].body(offsets[i])));
+        }
+    }
+
+    // ---- log and index, called with the write lock held ----
+
+    private void put(Task task) {
+        long location = append(TaskRecordCodec.put(task));
+        Long previous = index.put(task.getId(), location);
+        segment(location).addLiveBytes(recordLength(location));
+        if (previous != null) {
+            segment(previous).addLiveBytes(-recordLength(previous));
+        }
+        firstId = Math.min(firstId, task.getId());
+        lastId = Math.max(lastId, task.getId());
+    }
+
+    private boolean remove(long id) {
+        Long previous = index.remove(id);
+        if (previous == null) {
+            return false;
+        }
+        segment(previous).addLiveBytes(-recordLength(previous));
+        append(TaskRecordCodec.delete(id));
+        return true;
+    }
+
+    private long append(byte[] record) {
+        if (record.length > segmentSize) {
+            throw new IllegalArgumentException("A task may take at most " + segmentSize + " bytes");
+        }
+        if (!active.hasRoomFor(record.length)) {
+            active.force();
+            active = TaskLogSegment.open(segmentPath(active.number() + 1), active.number() + 1, segmentSize);
+            segments.put(active.number(), active);
+        }
+        writesSinceCheckpoint++;
+        unsynced = true;
+        int offset = active.append(record);
+        appendedPosition = position();
+        return location(active.number(), offset);
+    }
+
+    private long position() {
+        return location(active.number(), active.size());
+    }
+
+    /**
+     * Returns once everything up to the position is forced, unless writes are synced in the background. The caller
+     * that finds the log unforced forces everything appended so far, so writers queued behind it usually return
+     * without a force of their own (group commit). Takes neither side of the read-write lock, so writers keep
+     * appending and readers keep reading during the force.
+     */
+    private void sync(long end) {
+        if (!syncWrites || forcedPosition >= end) {
+            return;
+        }
+        syncLock.lock();
+        try {
+            if (forcedPosition >= end) {
+                return;
+            }
+            long from = forcedPosition;
+            long target = appendedPosition;
+            // the segments before the target's were forced whole when the log moved past them
+            TaskLogSegment segment = segments.get(segmentNumber(target));
+            if (segment != null) {
+                int offset = segmentNumber(from) == segmentNumber(target) ? offset(from) : 0;
+                segment.force(offset, offset(target) - offset);
+            }
+            forcedPosition = target;
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private Task read(long location) {
+        return TaskRecordCodec.decode(segment(location).body(offset(location)));
+    }
+
+    private int recordLength(long location) {
+        return segment(location).recordLength(offset(location));
+    }
+
+    private TaskLogSegment segment(long location) {
+        return segments.get(segmentNumber(location));
+    }
+
+    private static long location(long segment, int offset) {
+        return segment << 32 | offset;
+    }
+
+    private static long segmentNumber(long location) {
+        return location >>> 32;
+    }
+
+    private static int offset(long location) {
+        return (int) location;
+    }
+
+    // ---- background maintenance ----
+
+    private void maintain() {
+        try {
+            if (getGarbageRatio() >= compactionThreshold) {
+                compact();
+            } else if (!syncWrites && unsynced || writesSinceCheckpoint >= CHECKPOINT_AFTER_WRITES) {
+                checkpoint();
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Task log maintenance failed", e);
+        }
+    }
+
+    /**
+     * Copies the live records of every closed segment to the end of the log, a chunk at a time so writers are
+     * only held up briefly, then checkpoints and deletes the closed segments. Tombstones are dropped with them:
+     * all older records go away at the same time, so nothing is left for them to hide.
+     */
+    void compact() {
+        List<long[]> entries = new ArrayList<>();
+        long boundary;
+        lock.readLock().lock();
+        try {
+            boundary = active.number();
+            index.forEach((id, location) -> {
+                if (segmentNumber(location) < boundary) {
+                    entries.add(new long[] {id, location});
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        for (int from = 0; from < entries.size(); from += COMPACTION_CHUNK) {
+            lock.writeLock().lock();
+            try {
+                for (long[] entry : entries.subList(from, Math.min(from + COMPACTION_CHUNK, entries.size()))) {
+                    Long current = index.get(entry[0]);
+                    // a task written or deleted since the snapshot already has a newer record
+                    if (current != null && current == entry[1]) {
+                        long location = append(segment(current).record(offset(current)));
+                        index.put(entry[0], location);
+                        segment(location).addLiveBytes(recordLength(location));
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        checkpoint();
+        List<TaskLogSegment> compacted;
+        lock.writeLock().lock();
+        try {
+            Map<Long, TaskLogSegment> closed = segments.headMap(boundary);
+            compacted = new ArrayList<>(closed.values());
+            closed.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        compacted.forEach(TaskLogSegment::delete);
+        logger.info("Compacted {} task log segments, {} live tasks moved", compacted.size(), entries.size());
+    }
+
+    // ---- checkpoint and recovery ----
+
+    /**
+     * Forces the log, then atomically replaces the checkpoint with the current index and log position.
+     */
+    void checkpoint() {
+        long[] ids;
+        long[] locations;
+        long covered;
+        long nextId;
+        lock.writeLock().lock();
+        try {
+            for (TaskLogSegment segment : segments.values()) {
+                segment.force();
+            }
+            unsynced = false;
+            writesSinceCheckpoint = 0;
+            covered = position();
+            nextId = lastId;
+            ids = new long[index.size()];
+            locations = new long[index.size()];
+            int[] count = new int[1];
+            index.forEach((id, location) -> {
+                ids[count[0]] = id;
+                locations[count[0]++] = location;
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+        Path temporary = directory.resolve(CHECKPOINT + ".tmp");
+        try (FileOutputStream file = new FileOutputStream(temporary.toFile())) {
+            CheckedOutputStream checked = new CheckedOutputStream(new BufferedOutputStream(file), new CRC32());
+            DataOutputStream out = new DataOutputStream(checked);
+            out.writeInt(CHECKPOINT_MAGIC);
+            out.writeLong(covered);
+            out.writeLong(nextId);
+            out.writeInt(ids.length);
+            for (int i = 0; i < ids.length; i++) {
+                out.writeLong(ids[i]);
+                out.writeLong(locations[i]);
+            }
+            out.flush();
+            long checksum = checked.getChecksum().getValue();
+            out.writeLong(checksum);
+            out.flush();
+            file.getFD().sync();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write the task log checkpoint", e);
+        }
+        try {
+            Files.move(temporary, directory.resolve(CHECKPOINT), StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot replace the task log checkpoint", e);
+        }
+    }
+
+    /**
+     * Locks the directory for this process. The lock is held through the open channel and released when it closes,
+     * including when the process dies.
+     */
+    private static FileChannel lockDirectory(Path directory) {
+        FileChannel channel;
+        try {
+            Files.createDirectories(directory);
+            channel = FileChannel.open(directory.resolve(LOCK), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open the task log lock file in " + directory, e);
+        }
+        FileLock held;
+        try {
+            held = channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            held = null;
+        } catch (IOException e) {
+            closeQuietly(channel);
+            throw new UncheckedIOException("Cannot lock the task log in " + directory, e);
+        }
+        if (held == null) {
+            closeQuietly(channel);
+            throw new IllegalStateException("The task log in " + directory + " is already open in another process");
+        }
+        return channel;
+    }
+
+    private void releaseDirectory() {
+        try {
+            lockFile.close();
+        } catch (IOException e) {
+            logger.warn("Could not release the task log lock in {}", directory, e);
+        }
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // the lock was never taken, so there is nothing left to release
+        }
+    }
+
+    private void open() {
+        try {
+            Files.createDirectories(directory);
+            for (long number : segmentNumbers()) {
+                segments.put(number, TaskLogSegment.open(segmentPath(number), number, segmentSize));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open the task log in " + directory, e);
+        }
+        if (segments.isEmpty()) {
+            segments.put(1L, TaskLogSegment.open(segmentPath(1), 1, segmentSize));
+        }
+        active = segments.lastEntry().getValue();
+        if (!loadCheckpoint()) {
+            index.clear();
+            lastId = 0;
+            replay(location(segments.firstKey(), 0));
+        }
+        index.forEach((id, location) -> {
+            segment(location).addLiveBytes(recordLength(location));
+            firstId = Math.min(firstId, id);
+        });
+        appendedPosition = position();
+        forcedPosition = appendedPosition;
+        logger.info("Opened task log in {}: {} tasks in {} segments", directory, index.size(), segments.size());
+    }
+
+    /**
+     * Loads the checkpoint and replays the log after it. Returns false when there is no usable checkpoint.
+     */
+    private boolean loadCheckpoint() {
+        Path file = directory.resolve(CHECKPOINT);
+        if (!Files.exists(file)) {
+            return false;
+        }
+        try (CheckedInputStream checked = new CheckedInputStream(
+                new BufferedInputStream(Files.newInputStream(file)), new CRC32())) {
+            DataInputStream in = new DataInputStream(checked);
+            if (in.readInt() != CHECKPOINT_MAGIC) {
+                return false;
+            }
+            long covered = in.readLong();
+            long nextId = in.readLong();
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                index.put(in.readLong(), in.readLong());
+            }
+            long computed = checked.getChecksum().getValue();
+            if (in.readLong() != computed || !segments.containsKey(segmentNumber(covered))) {
+                return false;
+            }
+            lastId = nextId;
+            replay(covered);
+        } catch (IOException e) {
+            logger.warn("Ignoring unreadable task log checkpoint {}", file, e);
+            return false;
+        }
+        boolean[] consistent = {true};
+        index.forEachValue(location -> consistent[0] &= segments.containsKey(segmentNumber(location)));
+        return consistent[0];
+    }
+
+    private void replay(long from) {
+        for (TaskLogSegment segment : segments.tailMap(segmentNumber(from), true).values()) {
+            int start = segment.number() == segmentNumber(from) ? offset(from) : 0;
+            segment.recover(start, (offset, body) -> {
+                long id = TaskRecordCodec.id(body);
+                if (TaskRecordCodec.type(body) == TaskRecordCodec.PUT) {
+                    index.put(id, location(segment.number(), offset));
+                } else {
+                    index.remove(id);
+                }
+                lastId = Math.max(lastId, id);
+            });
+        }
+    }
+
+    private List<Long> segmentNumbers() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> SEGMENT_NAME.matcher(file.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .map(matcher -> Long.parseLong(matcher.group(1)))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path segmentPath(long number) {
+        return directory.resolve(String.format("segment-%012d.log", number));
+    }
+}
@@ -0,0 +1,166 @@
+package com.hexagonal.todo.infrastructure.repositories;
+
+import java.util.function.Consumer;
+
+/**
+ * Open-addressing hash map from primitive long keys to non-null values, with linear probing.
+ * Keys live in a long[] next to a parallel value array, so there is no boxing and no entry object per mapping.
+ * Removal shifts the following entries of the probe run back instead of leaving tombstones,
+ * so lookups never slow down after many deletes. Not thread-safe.
+ */
+class LongObjectHashMap<V> {
+
+    private static final int MIN_CAPACITY = 16;
+    /**
+     * Fibonacci hashing multiplier (2^64 / golden ratio): spreads sequential ids over the whole table.
+     */
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private long[] keys;
+    private Object[] values;
+    private int shift;
+    private int size;
+
+    LongObjectHashMap() {
+        allocate(MIN_CAPACITY);
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        allocate(MIN_CAPACITY);
+        size = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(long key) {
+        int mask = keys.length - 1;
+        for (int slot = slot(key); values[slot] != null; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return (V) values[slot];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Maps the key to the value and returns the value it replaced, or null.
+     */
+    @SuppressWarnings("unchecked")
+    V put(long key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Null values are not supported");
+        }
+        int mask = keys.length - 1;
+        int slot = slot(key);
+        for (; values[slot] != null; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                V previous = (V) values[slot];
+                values[slot] = value;
+                return previous;
+            }
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        // keep the load factor at or below 1/2 so probe runs stay short
+        if (++size > keys.length >>> 1) {
+            resize(keys.length << 1);
+        }
+        return null;
+    }
+
+    /**
+     * Removes the mapping and returns its value, or null if the key was absent.
+     */
+    @SuppressWarnings("unchecked")
+    V remove(long key) {
+        int mask = keys.length - 1;
+        int slot = slot(key);
+        while (values[slot] != null && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        if (values[slot] == null) {
+            return null;
+        }
+        V removed = (V) values[slot];
+        shiftBack(slot);
+        size--;
+        return removed;
+    }
+
+    @SuppressWarnings("unchecked")
+    void forEachValue(Consumer<? super V> consumer) {
+        for (Object value : values) {
+            if (value != null) {
+                consumer.accept((V) value);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    void forEach(EntryConsumer<? super V> consumer) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                consumer.accept(keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    /**
+     * Moves later entries of the probe run into the freed slot whenever their home slot allows it,
+     * so every remaining key stays reachable from its home slot without tombstones.
+     */
+    private void shiftBack(int free) {
+        int mask = keys.length - 1;
+        int slot = free;
+        while (true) {
+            slot = (slot + 1) & mask;
+            if (values[slot] == null) {
+                break;
+            }
+            int home = slot(keys[slot]);
+            // the entry may move only if its home is not cyclically within (free, slot]
+            boolean movable = free <= slot ? home <= free || home > slot : home <= free && home > slot;
+            if (movable) {
+                keys[free] = keys[slot];
+                values[free] = values[slot];
+                free = slot;
+            }
+        }
+        values[free] = null;
+    }
+
+    private int slot(long key) {
+        return (int) ((key * HASH_MULTIPLIER) >>> shift);
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int slot = slot(oldKeys[i]);
+                while (values[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        shift = Long.SIZE - Integer.numberOfTrailingZeros(capacity);
+    }
+
+    @FunctionalInterface
+    interface EntryConsumer<V> {
+        void accept(long key, V value);
+    }
+}
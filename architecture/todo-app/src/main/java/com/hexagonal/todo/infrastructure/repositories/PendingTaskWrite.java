@@ -0,0 +1,71 @@
+package com.hexagonal.todo.infrastructure.repositories;
+
+import com.hexagonal.todo.domain.models.Task;
+
+/**
+ * A task write accepted by {@link WriteBehindTaskRepositoryAdapter} but not yet in the database.
+ * Inserts and updates carry the full resulting task; deletes carry only the id.
+ */
+final class PendingTaskWrite {
+
+    enum Kind {
+        INSERT, UPDATE, DELETE
+    }
+
+    private final Kind kind;
+    private final long id;
+    private final Task task;
+
+    private PendingTaskWrite(Kind kind, long id, Task task) {
+        this.kind = kind;
+        this.id = id;
+        this.task = task;
+    }
+
+    static PendingTaskWrite insert(Task task) {
+        return new PendingTaskWrite(Kind.INSERT, task.getId(), copyOf(task));
+    }
+
+    static PendingTaskWrite update(Task task) {
+        return new PendingTaskWrite(Kind.UPDATE, task.getId(), copyOf(task));
+    }
+
+    static PendingTaskWrite delete(long id) {
+        return new PendingTaskWrite(Kind.DELETE, id, null);
+    }
+
+    Kind getKind() {
+        return kind;
+    }
+
+    long getId() {
+        return id;
+    }
+
+    /**
+     * The task as it will be stored, or null for a delete. Returns a copy, since tasks are mutable.
+     */
+    Task getTask() {
+        return task == null ? null : copyOf(task);
+    }
+
+    boolean isDelete() {
+        return kind == Kind.DELETE;
+    }
+
+    /**
+     * Coalesces this write with a later one to the same id into the single write that has the same effect.
+     * An update of a task that was never flushed stays an insert.
+     */
+    PendingTaskWrite then(PendingTaskWrite later) {
+        if (kind == Kind.INSERT && later.kind == Kind.UPDATE) {
+            return new PendingTaskWrite(Kind.INSERT, id, later.task);
+        }
+        return later;
+    }
+
+    private static Task copyOf(Task task) {
+        return new Task(task.getId(), task.getTitle(), task.getDescription(),
+                task.getCreationDate(), task.getCompleted());
+    }
+}
@@ -0,0 +1,66 @@
+package com.hexagonal.todo.infrastructure.repositories;
+
+import com.hexagonal.todo.domain.models.TaskFilter;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+
+/**
+ * Renders a {@link TaskFilter} as a SQL predicate with named parameters and binds them on a
+ * {@link org.springframework.r2dbc.core.DatabaseClient} statement.
+ */
+class R2dbcTaskFilterSql {
+
+    private final TaskFilter filter;
+    private final String predicate;
+
+    R2dbcTaskFilterSql(TaskFilter filter) {
+        this.filter = filter;
+        StringBuilder sql = new StringBuilder("true");
+        if (filter.getCompleted() != null) {
+            sql.append(" and completed = :completed");
+        }
+        if (filter.getCreatedFrom() != null) {
+            sql.append(" and creation_date >= :createdFrom");
+        }
+        if (filter.getCreatedBefore() != null) {
+            sql.append(" and creation_date < :createdBefore");
+        }
+        if (filter.getTitlePrefix() != null) {
+            sql.append(" and title ~>=~ :titleFrom");
+            if (TaskFilterSql.prefixUpperBound(filter.getTitlePrefix()) != null) {
+                sql.append(" and title ~<~ :titleBefore");
+            }
+        }
+        if (filter.getIds() != null) {
+            sql.append(" and id = any(:ids)");
+        }
+        this.predicate = sql.toString();
+    }
+
+    String predicate() {
+        return predicate;
+    }
+
+    GenericExecuteSpec bind(GenericExecuteSpec spec) {
+        if (filter.getCompleted() != null) {
+            spec = spec.bind("completed", filter.getCompleted());
+        }
+        if (filter.getCreatedFrom() != null) {
+            spec = spec.bind("createdFrom", filter.getCreatedFrom());
+        }
+        if (filter.getCreatedBefore() != null) {
+            spec = spec.bind("createdBefore", filter.getCreatedBefore());
+        }
+        if (filter.getTitlePrefix() != null) {
+            spec = spec.bind("titleFrom", filter.getTitlePrefix());
+            String upperBound = TaskFilterSql.prefixUpperBound(filter.getTitlePrefix());
+            if (upperBound != null) {
+                spec = spec.bind("titleBefore", upperBound);
+            }
+        }
+        if (filter.getIds() != null) {
+            // an array binds as one bigint[] parameter; a collection would be expanded into a list
+            spec = spec.bind("ids", filter.getIds().toArray(new Long[0]));
+        }
+        return spec;
+    }
+}
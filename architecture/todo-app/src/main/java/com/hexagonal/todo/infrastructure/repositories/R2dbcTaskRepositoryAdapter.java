@@ -0,0 +1,252 @@
+package com.hexagonal.todo.infrastructure.repositories;
+
+import com.hexagonal.todo.domain.models.Task;
+import com.hexagonal.todo.domain.models.TaskCursor;
+import com.hexagonal.todo.domain.models.TaskFilter;
+import com.hexagonal.todo.domain.models.TaskSort;
+import com.hexagonal.todo.domain.ports.out.ReactiveTaskRepositoryPort;
+import io.r2dbc.spi.Readable;
+import io.r2dbc.spi.Statement;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * R2DBC implementation of {@link ReactiveTaskRepositoryPort}, issuing the same SQL as
+ * {@link JpaTaskRepositoryAdapter} without blocking a thread on the database.
+ */
+public class R2dbcTaskRepositoryAdapter implements ReactiveTaskRepositoryPort {
+
+    private static final int INSERT_BATCH_SIZE = 1000;
+    private static final int DELETE_CHUNK_SIZE = 5000;
+    private static final int FETCH_SIZE = 500;
+    private static final String COLUMNS = "id, title, description, creation_date, completed";
+    private static final String INSERT_SQL =
+            "insert into tasks (title, description, creation_date, completed) values ($1, $2, $3, $4)";
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transaction;
+    private final TransactionalOperator readOnlyTransaction;
+
+    public R2dbcTaskRepositoryAdapter(DatabaseClient databaseClient, ReactiveTransactionManager transactionManager) {
+        this.databaseClient = databaseClient;
+        this.transaction = TransactionalOperator.create(transactionManager);
+        DefaultTransactionDefinition readOnly = new DefaultTransactionDefinition();
+        readOnly.setReadOnly(true);
+        this.readOnlyTransaction = TransactionalOperator.create(transactionManager, readOnly);
+    }
+
+    @Override
+    public Mono<Task> save(Task task) {
+        GenericExecuteSpec spec = databaseClient.sql("insert into tasks (title, description, creation_date, completed) "
+                + "values (:title, :description, :creationDate, :completed) returning " + COLUMNS);
+        spec = bindNullable(spec, "title", task.getTitle(), String.class);
+        spec = bindNullable(spec, "description", task.getDescription(), String.class);
+        spec = bindNullable(spec, "creationDate", task.getCreationDate(), LocalDateTime.class);
+        spec = bindNullable(spec, "completed", task.getCompleted(), Boolean.class);
+        return spec.map(R2dbcTaskRepositoryAdapter::toTask).one();
+    }
+
+    /**
+     * Inserts tasks as statement batches of up to {@value #INSERT_BATCH_SIZE} bindings in one transaction.
+     * The driver pipelines every binding of a batch and hands the generated ids back in order.
+     */
+    @Override
+    public Flux<Task> saveAll(List<Task> tasks) {
+        return Flux.range(0, (tasks.size() + INSERT_BATCH_SIZE - 1) / INSERT_BATCH_SIZE)
+                .map(chunk -> tasks.subList(chunk * INSERT_BATCH_SIZE,
+                        Math.min((chunk + 1) * INSERT_BATCH_SIZE, tasks.size())))
+                .concatMap(this::insertBatch)
+                .as(transaction::transactional);
+    }
+
+    private Flux<Task> insertBatch(List<Task> chunk) {
+        return databaseClient.inConnectionMany(connection -> {
+            Statement statement = connection.createStatement(INSERT_SQL);
+            for (int i = 0; i < chunk.size(); i++) {
+                if (i > 0) {
+                    statement.add();
+                }
+                Task task = chunk.get(i);
+                bindNullable(statement, 0, task.getTitle(), String.class);
+                bindNullable(statement, 1, task.getDescription(), String.class);
+                bindNullable(statement, 2, task.getCreationDate(), LocalDateTime.class);
+                bindNullable(statement, 3, task.getCompleted(), Boolean.class);
+            }
+            return Flux.from(statement.returnGeneratedValues("id").execute())
+                    .concatMap(result -> result.map(row -> row.get("id", Long.class)))
+                    .index()
+                    .map(indexed -> {
+                        Task task = chunk.get(indexed.getT1().intValue());
+                        return new Task(indexed.getT2(), task.getTitle(), task.getDescription(),
+                                task.getCreationDate(), task.getCompleted());
+                    });
+        });
+    }
+
+    @Override
+    public Mono<Task> findById(Long id) {
+        return databaseClient.sql("select " + COLUMNS + " from tasks where id = :id")
+                .bind("id", id)
+                .map(R2dbcTaskRepositoryAdapter::toTask)
+                .one();
+    }
+
+    @Override
+    public Mono<Boolean> existsById(Long id) {
+        return databaseClient.sql("select exists (select 1 from tasks where id = :id)")
+                .bind("id", id)
+                .map(row -> row.get(0, Boolean.class))
+                .one();
+    }
+
+    @Override
+    public Mono<Set<Long>> findExistingIds(Collection<Long> ids) {
+        return databaseClient.sql("select id from tasks where id = any(:ids)")
+                .bind("ids", ids.toArray(new Long[0]))
+                .map(row -> row.get(0, Long.class))
+                .all()
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    /**
+     * Streams every task in id order. Rows are fetched {@value #FETCH_SIZE} at a time as the
+     * subscriber requests them, so a slow client slows the query down instead of filling memory.
+     */
+    @Override
+    public Flux<Task> findAll() {
+        return databaseClient.sql("select " + COLUMNS + " from tasks order by id")
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .map(R2dbcTaskRepositoryAdapter::toTask)
+                .all()
+                .as(readOnlyTransaction::transactional);
+    }
+
+    /**
+     * Keyset pagination over the filtered tasks, like {@link JpaTaskRepositoryAdapter#findPage}.
+     */
+    @Override
+    public Flux<Task> findPage(TaskFilter filter, TaskSort sort, TaskCursor after, int limit) {
+        R2dbcTaskFilterSql filterSql = new R2dbcTaskFilterSql(filter);
+        String comparison = sort.isDescending() ? " < " : " > ";
+        String direction = sort.isDescending() ? " desc" : "";
+        StringBuilder sql = new StringBuilder("select " + COLUMNS + " from tasks where ").append(filterSql.predicate());
+        if (after != null) {
+            sql.append(sort.isByCreationDate()
+                    ? " and (creation_date, id)" + comparison + "(:afterCreationDate, :afterId)"
+                    : " and id" + comparison + ":afterId");
+        }
+        sql.append(sort.isByCreationDate()
+                ? " order by creation_date" + direction + ", id" + direction
+                : " order by id" + direction);
+        sql.append(" limit :limit");
+        GenericExecuteSpec spec = filterSql.bind(databaseClient.sql(sql.toString()));
+        if (after != null) {
+            if (sort.isByCreationDate()) {
+                spec = spec.bind("afterCreationDate", after.getCreationDate());
+            }
+            spec = spec.bind("afterId", after.getId());
+        }
+        return spec.bind("limit", limit)
+                .map(R2dbcTaskRepositoryAdapter::toTask)
+                .all();
+    }
+
+    /**
+     * Updates title, description and completed in one statement; the creation date is never overwritten.
+     */
+    @Override
+    public Mono<Task> update(Long id, Task task) {
+        GenericExecuteSpec spec = databaseClient.sql("update tasks set title = :title, description = :description, "
+                + "completed = :completed where id = :id returning " + COLUMNS);
+        spec = bindNullable(spec, "title", task.getTitle(), String.class);
+        spec = bindNullable(spec, "description", task.getDescription(), String.class);
+        spec = bindNullable(spec, "completed", task.getCompleted(), Boolean.class);
+        return spec.bind("id", id)
+                .map(R2dbcTaskRepositoryAdapter::toTask)
+                .one();
+    }
+
+    @Override
+    public Mono<Task> markCompleted(Long id) {
+        return databaseClient.sql("update tasks set completed = true where id = :id returning " + COLUMNS)
+                .bind("id", id)
+                .map(R2dbcTaskRepositoryAdapter::toTask)
+                .one();
+    }
+
+    @Override
+    public Mono<Long> completeAll(TaskFilter filter) {
+        R2dbcTaskFilterSql filterSql = new R2dbcTaskFilterSql(filter);
+        return filterSql.bind(databaseClient.sql("update tasks set completed = true where " + filterSql.predicate()
+                        + " and completed is distinct from true"))
+                .fetch()
+                .rowsUpdated();
+    }
+
+    @Override
+    public Mono<Boolean> deleteById(Long id) {
+        return databaseClient.sql("delete from tasks where id = :id")
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated()
+                .map(deleted -> deleted > 0);
+    }
+
+    @Override
+    public Mono<Long> deleteAllById(Collection<Long> ids) {
+        return databaseClient.sql("delete from tasks where id = any(:ids)")
+                .bind("ids", ids.toArray(new Long[0]))
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Deletes every matching task in chunks of {@value #DELETE_CHUNK_SIZE} rows, one short statement per chunk.
+     */
+    @Override
+    public Mono<Long> deleteAll(TaskFilter filter) {
+        R2dbcTaskFilterSql filterSql = new R2dbcTaskFilterSql(filter);
+        String sql = "delete from tasks where id in (select id from tasks where " + filterSql.predicate()
+                + " limit :limit)";
+        Mono<Long> deleteChunk = Mono.defer(() -> filterSql.bind(databaseClient.sql(sql))
+                .bind("limit", DELETE_CHUNK_SIZE)
+                .fetch()
+                .rowsUpdated());
+        return deleteChunk
+                .expand(deleted -> deleted == DELETE_CHUNK_SIZE ? deleteChunk : Mono.empty())
+                .reduce(0L, Long::sum);
+    }
+
+    private static Task toTask(Readable row) {
+        return new Task(
+                row.get("id", Long.class),
+                row.get("title", String.class),
+                row.get("description", String.class),
+                row.get("creation_date", LocalDateTime.class),
+                row.get("completed", Boolean.class));
+    }
+
+    private static GenericExecuteSpec bindNullable(GenericExecuteSpec spec, String name, Object value, Class<?> type) {
+        return value == null ? spec.bindNull(name, type) : spec.bind(name, value);
+    }
+
+    private static void bindNullable(Statement statement, int index, Object value, Class<?> type) {
+        if (value == null) {
+            statement.bindNull(index, type);
+        } else {
+            statement.bind(index, value);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.hexagonal.todo.infrastructure.repositories;
+
+import com.hexagonal.todo.domain.models.Task;
+import com.hexagonal.todo.domain.ports.out.ReactiveTaskSearchPort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+
+/**
+ * R2DBC counterpart of {@link JdbcTaskSearchAdapter}, running the same ranked query.
+ */
+public class R2dbcTaskSearchAdapter implements ReactiveTaskSearchPort {
+
+    private static final String SEARCH_SQL = JdbcTaskSearchAdapter.searchSql(":query", ":offset", ":limit");
+
+    private final DatabaseClient databaseClient;
+
+    public R2dbcTaskSearchAdapter(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Flux<Task> search(String query, int offset, int limit) {
+        return databaseClient.sql(SEARCH_SQL)
+                .bind("query", query)
+                .bind("offset", offset)
+                .bind("limit", limit)
+                .map(row -> new Task(
+                        row.get("id", Long.class),
+                        row.get("title", String.class),
+                        row.get("description", String.class),
+                        row.get("creation_date", LocalDateTime.class),
+                        row.get("completed", Boolean.class)))
+                .all();
+    }
+}
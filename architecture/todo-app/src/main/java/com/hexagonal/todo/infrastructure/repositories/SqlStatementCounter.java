@@ -0,0 +1,55 @@
+package com.hexagonal.todo.infrastructure.repositories;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the JDBC statements each thread executes through a data source wrapped by {@link #wrap}, so callers can
+ * attribute database round trips to the work they did in between two {@link #current()} reads. A batch counts as
+ * one statement since it is sent in one round trip. {@link #total()} also counts the statements of every thread.
+ */
+public class SqlStatementCounter implements QueryExecutionListener {
+
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+    private static final LongAdder TOTAL = new LongAdder();
+
+    /**
+     * Wraps the data source so that every statement executed through it is counted.
+     */
+    public static DataSource wrap(DataSource dataSource, String name) {
+        return ProxyDataSourceBuilder.create(dataSource)
+                .name(name)
+                .listener(new SqlStatementCounter())
+                .build();
+    }
+
+    /**
+     * Returns the number of statements the calling thread has executed so far.
+     */
+    public static long current() {
+        return COUNT.get()[0];
+    }
+
+    /**
+     * Returns the number of statements all threads have executed so far, for work that hops threads.
+     */
+    public static long total() {
+        return TOTAL.sum();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        COUNT.get()[0]++;
+        TOTAL.increment();
+    }
+}
@@ -0,0 +1,28 @@
+package com.hexagonal.todo.infrastructure.repositories;
+
+import com.hexagonal.todo.domain.models.Task;
+
+import java.util.List;
+
+/**
+ * Applies buffered task writes to the database, for {@link WriteBehindTaskRepositoryAdapter}.
+ * Every write must be idempotent, since writes logged before a crash are applied again on restart.
+ */
+public interface TaskBatchWriter {
+
+    /**
+     * Takes the next count ids from the database's id sequence, so tasks get their final id before they are written.
+     */
+    List<Long> reserveIds(int count);
+
+    /**
+     * Throws IllegalArgumentException when the database would reject the task, so it can be refused before it is
+     * acknowledged.
+     */
+    void validate(Task task);
+
+    /**
+     * Writes all changes in one transaction. Inserts carry their reserved id; updates never change the creation date.
+     */
+    void write(List<Task> inserts, List<Task> updates, List<Long> deletes);
+}
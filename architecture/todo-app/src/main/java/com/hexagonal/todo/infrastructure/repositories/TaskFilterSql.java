@@ -0,0 +1,84 @@
+package com.hexagonal.todo.infrastructure.repositories;
+
+import com.hexagonal.todo.domain.models.TaskFilter;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Renders a {@link TaskFilter} as a SQL predicate over the tasks table and binds its parameters.
+ */
+class TaskFilterSql {
+
+    private final TaskFilter filter;
+    private final String predicate;
+
+    TaskFilterSql(TaskFilter filter) {
+        this.filter = filter;
+        StringBuilder sql = new StringBuilder("true");
+        if (filter.getCompleted() != null) {
+            sql.append(" and completed = ?");
+        }
+        if (filter.getCreatedFrom() != null) {
+            sql.append(" and creation_date >= ?");
+        }
+        if (filter.getCreatedBefore() != null) {
+            sql.append(" and creation_date < ?");
+        }
+        if (filter.getTitlePrefix() != null) {
+            sql.append(" and title ~>=~ ?");
+            if (prefixUpperBound(filter.getTitlePrefix()) != null) {
+                sql.append(" and title ~<~ ?");
+            }
+        }
+        if (filter.getIds() != null) {
+            sql.append(" and id = any(?)");
+        }
+        this.predicate = sql.toString();
+    }
+
+    String predicate() {
+        return predicate;
+    }
+
+    /**
+     * Binds the filter values starting at the given parameter index and returns the next free index.
+     */
+    int bind(PreparedStatement ps, int index) throws SQLException {
+        if (filter.getCompleted() != null) {
+            ps.setBoolean(index++, filter.getCompleted());
+        }
+        if (filter.getCreatedFrom() != null) {
+            ps.setObject(index++, filter.getCreatedFrom(), Types.TIMESTAMP);
+        }
+        if (filter.getCreatedBefore() != null) {
+            ps.setObject(index++, filter.getCreatedBefore(), Types.TIMESTAMP);
+        }
+        if (filter.getTitlePrefix() != null) {
+            ps.setString(index++, filter.getTitlePrefix());
+            String upperBound = prefixUpperBound(filter.getTitlePrefix());
+            if (upperBound != null) {
+                ps.setString(index++, upperBound);
+            }
+        }
+        if (filter.getIds() != null) {
+            ps.setArray(index++, ps.getConnection().createArrayOf("bigint", filter.getIds().toArray()));
+        }
+        return index;
+    }
+
+    /**
+     * Returns the smallest string greater than every string starting with the prefix, or null if there is none.
+     * Titles starting with the prefix are exactly those in [prefix, upper bound) under the byte-wise ~>=~ and ~<~
+     * operators, which, unlike LIKE with a bound parameter, stay index range scans in generic plans.
+     */
+    static String prefixUpperBound(String prefix) {
+        int last = prefix.codePointBefore(prefix.length());
+        if (last == Character.MAX_CODE_POINT) {
+            return null;
+        }
+        int next = last + 1 == Character.MIN_SURROGATE ? Character.MAX_SURROGATE + 1 : last + 1;
+        return prefix.substring(0, prefix.length() - Character.charCount(last)) + new String(Character.toChars(next));
+    }
+}
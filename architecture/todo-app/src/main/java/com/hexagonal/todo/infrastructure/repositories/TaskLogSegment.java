@@ -0,0 +1,167 @@
+package com.hexagonal.todo.infrastructure.repositories;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * One fixed-size, memory-mapped file of {@link TaskRecordCodec} records, appended from the start.
+ * The mapping is zero-filled past the last record, so a zero length marks the end of the data.
+ * Appends are guarded by the caller's lock; reads use absolute gets and may run concurrently with them.
+ */
+final class TaskLogSegment {
+
+    @FunctionalInterface
+    interface RecordConsumer {
+        void accept(int offset, byte[] body);
+    }
+
+    private final long number;
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private int size;
+    private long liveBytes;
+
+    private TaskLogSegment(long number, Path path, MappedByteBuffer buffer, int capacity) {
+        this.number = number;
+        this.path = path;
+        this.buffer = buffer;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Maps the segment file, creating it with the given capacity if it does not exist yet.
+     */
+    static TaskLogSegment open(Path path, long number, int capacity) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            int mapped = (int) Math.max(channel.size(), capacity);
+            // the mapping stays valid after the channel is closed
+            return new TaskLogSegment(number, path, channel.map(FileChannel.MapMode.READ_WRITE, 0, mapped), mapped);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot map task log segment " + path, e);
+        }
+    }
+
+    long number() {
+        return number;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    long liveBytes() {
+        return liveBytes;
+    }
+
+    void addLiveBytes(long bytes) {
+        liveBytes += bytes;
+    }
+
+    boolean hasRoomFor(int recordLength) {
+        return capacity - size >= recordLength;
+    }
+
+    /**
+     * Copies the record after the last one and returns its offset. The caller checks {@link #hasRoomFor} first.
+     */
+    int append(byte[] record) {
+        int offset = size;
+        buffer.put(offset, record, 0, record.length);
+        size += record.length;
+        return offset;
+    }
+
+    /**
+     * The whole record at the offset, header included, as written by {@link #append}.
+     */
+    byte[] record(int offset) {
+        byte[] record = new byte[recordLength(offset)];
+        buffer.get(offset, record, 0, record.length);
+        return record;
+    }
+
+    byte[] body(int offset) {
+        byte[] body = new byte[buffer.getInt(offset)];
+        buffer.get(offset + TaskRecordCodec.HEADER_BYTES, body, 0, body.length);
+        return body;
+    }
+
+    int recordLength(int offset) {
+        return TaskRecordCodec.HEADER_BYTES + buffer.getInt(offset);
+    }
+
+    /**
+     * Reads the records from the offset on, stopping at the end of the data or at the first torn or corrupt
+     * record, which is zeroed so later appends overwrite it. Leaves the append position after the last good record.
+     */
+    void recover(int from, RecordConsumer consumer) {
+        int offset = from;
+        while (capacity - offset >= TaskRecordCodec.HEADER_BYTES) {
+            int length = buffer.getInt(offset);
+            if (length <= 0 || length > capacity - offset - TaskRecordCodec.HEADER_BYTES) {
+                break;
+            }
+            byte[] body = new byte[length];
+            buffer.get(offset + TaskRecordCodec.HEADER_BYTES, body, 0, length);
+            if (TaskRecordCodec.checksum(body, 0, length) != buffer.getInt(offset + 4)) {
+                break;
+            }
+            consumer.accept(offset, body);
+            offset += TaskRecordCodec.HEADER_BYTES + length;
+        }
+        size = offset;
+        zeroTail();
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    void force(int offset, int length) {
+        if (length > 0) {
+            buffer.force(offset, length);
+        }
+    }
+
+    void delete() {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot delete task log segment " + path, e);
+        }
+    }
+
+    /**
+     * Clears whatever a torn append left after the last good record, up to the next run of zeros.
+     */
+    private void zeroTail() {
+        int offset = size;
+        ByteBuffer zeros = ByteBuffer.allocate(4096);
+        while (offset < capacity && !isZero(offset, Math.min(zeros.capacity(), capacity - offset))) {
+            int length = Math.min(zeros.capacity(), capacity - offset);
+            buffer.put(offset, zeros, 0, length);
+            offset += length;
+        }
+    }
+
+    private boolean isZero(int offset, int length) {
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(offset + i) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,136 @@
+package com.hexagonal.todo.infrastructure.repositories;
+
+import com.hexagonal.todo.domain.models.Task;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.zip.CRC32;
+
+/**
+ * Binary encoding of the records in a {@link TaskLogSegment}.
+ * <p>
+ * A record is a header of body length and CRC32 of the body (two ints), then the body: a type byte, the id as a
+ * varint, and for a put a flags byte followed by only the fields that are set. Strings are a varint length and
+ * UTF-8; the creation date is zigzag varint epoch seconds (UTC) and varint nanoseconds.
+ * A task with a short title and no description takes about 30 bytes.
+ */
+final class TaskRecordCodec {
+
+    static final int HEADER_BYTES = 8;
+    static final byte PUT = 1;
+    static final byte DELETE = 2;
+
+    private static final int HAS_TITLE = 1;
+    private static final int HAS_DESCRIPTION = 1 << 1;
+    private static final int HAS_CREATION_DATE = 1 << 2;
+    private static final int HAS_COMPLETED = 1 << 3;
+    private static final int COMPLETED = 1 << 4;
+
+    private TaskRecordCodec() {
+    }
+
+    static byte[] put(Task task) {
+        byte[] title = task.getTitle() == null ? null : task.getTitle().getBytes(StandardCharsets.UTF_8);
+        byte[] description = task.getDescription() == null
+                ? null : task.getDescription().getBytes(StandardCharsets.UTF_8);
+        LocalDateTime creationDate = task.getCreationDate();
+        int flags = (title != null ? HAS_TITLE : 0)
+                | (description != null ? HAS_DESCRIPTION : 0)
+                | (creationDate != null ? HAS_CREATION_DATE : 0)
+                | (task.getCompleted() != null ? HAS_COMPLETED : 0)
+                | (Boolean.TRUE.equals(task.getCompleted()) ? COMPLETED : 0);
+        int maxBody = 2 + 10 + (title != null ? 5 + title.length : 0)
+                + (description != null ? 5 + description.length : 0) + (creationDate != null ? 15 : 0);
+        ByteBuffer body = ByteBuffer.allocate(maxBody);
+        body.put(PUT);
+        putVarLong(body, task.getId());
+        body.put((byte) flags);
+        if (title != null) {
+            putVarLong(body, title.length);
+            body.put(title);
+        }
+        if (description != null) {
+            putVarLong(body, description.length);
+            body.put(description);
+        }
+        if (creationDate != null) {
+            long seconds = creationDate.toEpochSecond(ZoneOffset.UTC);
+            putVarLong(body, (seconds << 1) ^ (seconds >> 63));
+            putVarLong(body, creationDate.getNano());
+        }
+        return frame(body);
+    }
+
+    static byte[] delete(long id) {
+        ByteBuffer body = ByteBuffer.allocate(11);
+        body.put(DELETE);
+        putVarLong(body, id);
+        return frame(body);
+    }
+
+    static byte type(byte[] body) {
+        return body[0];
+    }
+
+    static long id(byte[] body) {
+        return getVarLong(ByteBuffer.wrap(body, 1, body.length - 1));
+    }
+
+    static Task decode(byte[] body) {
+        ByteBuffer in = ByteBuffer.wrap(body, 1, body.length - 1);
+        long id = getVarLong(in);
+        int flags = in.get();
+        String title = (flags & HAS_TITLE) != 0 ? getString(in) : null;
+        String description = (flags & HAS_DESCRIPTION) != 0 ? getString(in) : null;
+        LocalDateTime creationDate = null;
+        if ((flags & HAS_CREATION_DATE) != 0) {
+            long zigzag = getVarLong(in);
+            long seconds = (zigzag >>> 1) ^ -(zigzag & 1);
+            creationDate = LocalDateTime.ofEpochSecond(seconds, (int) getVarLong(in), ZoneOffset.UTC);
+        }
+        Boolean completed = (flags & HAS_COMPLETED) != 0 ? (flags & COMPLETED) != 0 : null;
+        return new Task(id, title, description, creationDate, completed);
+    }
+
+    static int checksum(byte[] bytes, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, offset, length);
+        return (int) crc.getValue();
+    }
+
+    private static byte[] frame(ByteBuffer body) {
+        int length = body.position();
+        byte[] record = new byte[HEADER_BYTES + length];
+        System.arraycopy(body.array(), 0, record, HEADER_BYTES, length);
+        ByteBuffer.wrap(record).putInt(length).putInt(checksum(record, HEADER_BYTES, length));
+        return record;
+    }
+
+    private static String getString(ByteBuffer in) {
+        int length = (int) getVarLong(in);
+        String value = new String(in.array(), in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return value;
+    }
+
+    private static void putVarLong(ByteBuffer out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    private static long getVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+    }
+}
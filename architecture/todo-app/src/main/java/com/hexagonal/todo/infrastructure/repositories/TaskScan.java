@@ -0,0 +1,202 @@
+package com.hexagonal.todo.infrastructure.repositories;
+
+import com.hexagonal.todo.domain.models.Task;
+import com.hexagonal.todo.domain.models.TaskCursor;
+import com.hexagonal.todo.domain.models.TaskFilter;
+import com.hexagonal.todo.domain.models.TaskSort;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Filtering, ordering, paging and text matching over a full scan of tasks, for the repositories that keep
+ * tasks outside a database. Semantics follow the SQL adapters.
+ */
+final class TaskScan {
+
+    private static final Comparator<Task> BY_ID = Comparator.comparing(Task::getId);
+    private static final Comparator<Task> BY_CREATION_DATE =
+            Comparator.comparing(Task::getCreationDate).thenComparing(Task::getId);
+
+    private TaskScan() {
+    }
+
+    /**
+     * Same semantics as the SQL predicate: a null column never matches an equality or range criterion.
+     */
+    static Predicate<Task> matcher(TaskFilter filter) {
+        Set<Long> ids = filter.getIds() == null ? null : new HashSet<>(filter.getIds());
+        return task -> (filter.getCompleted() == null || filter.getCompleted().equals(task.getCompleted()))
+                && (filter.getCreatedFrom() == null || task.getCreationDate() != null
+                        && !task.getCreationDate().isBefore(filter.getCreatedFrom()))
+                && (filter.getCreatedBefore() == null || task.getCreationDate() != null
+                        && task.getCreationDate().isBefore(filter.getCreatedBefore()))
+                && (filter.getTitlePrefix() == null || task.getTitle() != null
+                        && task.getTitle().startsWith(filter.getTitlePrefix()))
+                && (ids == null || ids.contains(task.getId()));
+    }
+
+    static Comparator<Task> byId() {
+        return BY_ID;
+    }
+
+    /**
+     * Collects one keyset page. Only the best limit matches after the cursor are kept in a bounded heap,
+     * so a page costs one pass and O(limit) memory however many tasks are scanned.
+     */
+    static final class Page implements Consumer<Task> {
+
+        private final Predicate<Task> matches;
+        private final Comparator<Task> order;
+        private final int limit;
+        private final PriorityQueue<Task> kept;
+
+        Page(TaskFilter filter, TaskSort sort, TaskCursor after, int limit) {
+            Comparator<Task> order = sort.isByCreationDate() ? BY_CREATION_DATE : BY_ID;
+            if (sort.isDescending()) {
+                order = order.reversed();
+            }
+            Predicate<Task> matches = matcher(filter);
+            if (after != null) {
+                Task cursor = new Task(after.getId(), null, null, after.getCreationDate(), null);
+                Comparator<Task> cursorOrder = order;
+                matches = matches.and(task -> cursorOrder.compare(task, cursor) > 0);
+            }
+            this.matches = matches;
+            this.order = order;
+            this.limit = limit;
+            // max-heap on the page order: the head is the worst task kept so far
+            this.kept = new PriorityQueue<>(limit + 1, order.reversed());
+        }
+
+        @Override
+        public void accept(Task task) {
+            if (matches.test(task)) {
+                kept.add(task);
+                if (kept.size() > limit) {
+                    kept.poll();
+                }
+            }
+        }
+
+        List<Task> tasks() {
+            List<Task> tasks = new ArrayList<>(kept);
+            tasks.sort(order);
+            return tasks;
+        }
+    }
+
+    /**
+     * Simple stand-in for the Postgres full-text search: every query word must occur in the title or the
+     * description, and title hits rank above description hits. No stemming and no query operators.
+     */
+    static final class Search implements Consumer<Task> {
+
+        private final List<String> terms;
+        private final List<ScoredTask> hits = new ArrayList<>();
+
+        Search(String query) {
+            this.terms = words(query);
+        }
+
+        @Override
+        public void accept(Task task) {
+            if (terms.isEmpty()) {
+                return;
+            }
+            String title = lowerCase(task.getTitle());
+            String description = lowerCase(task.getDescription());
+            for (String term : terms) {
+                // every word of a text is a substring of it, so most tasks are ruled out before splitting into words
+                if (!title.contains(term) && !description.contains(term)) {
+                    return;
+                }
+            }
+            List<String> titleWords = words(task.getTitle());
+            List<String> descriptionWords = null;
+            int score = 0;
+            for (String term : terms) {
+                boolean inTitle = titleWords.contains(term);
+                if (!inTitle) {
+                    if (descriptionWords == null) {
+                        descriptionWords = words(task.getDescription());
+                    }
+                    if (!descriptionWords.contains(term)) {
+                        return;
+                    }
+                }
+                score += inTitle ? 2 : 1;
+            }
+            hits.add(new ScoredTask(task, score));
+        }
+
+        List<Task> tasks(int offset, int limit) {
+            return hits.stream()
+                    .sorted(Comparator.comparingInt((ScoredTask hit) -> hit.score).reversed()
+                            .thenComparing(hit -> hit.task.getId()))
+                    .skip(offset)
+                    .limit(limit)
+                    .map(hit -> hit.task)
+                    .toList();
+        }
+
+        /**
+         * Lower-cased runs of letters and digits, as splitting on [^\p{L}\p{N}]+ would give, without a regex:
+         * this runs for every task a search scans.
+         */
+        private static List<String> words(String text) {
+            if (text == null || text.isBlank()) {
+                return List.of();
+            }
+            String lower = text.toLowerCase(Locale.ROOT);
+            List<String> words = new ArrayList<>();
+            int start = -1;
+            for (int i = 0; i < lower.length(); ) {
+                int codePoint = lower.codePointAt(i);
+                if (isWordCharacter(codePoint)) {
+                    if (start < 0) {
+                        start = i;
+                    }
+                } else if (start >= 0) {
+                    words.add(lower.substring(start, i));
+                    start = -1;
+                }
+                i += Character.charCount(codePoint);
+            }
+            if (start >= 0) {
+                words.add(lower.substring(start));
+            }
+            return words;
+        }
+
+        private static String lowerCase(String text) {
+            return text == null ? "" : text.toLowerCase(Locale.ROOT);
+        }
+
+        private static boolean isWordCharacter(int codePoint) {
+            if (Character.isLetter(codePoint)) {
+                return true;
+            }
+            int type = Character.getType(codePoint);
+            return type == Character.DECIMAL_DIGIT_NUMBER || type == Character.LETTER_NUMBER
+                    || type == Character.OTHER_NUMBER;
+        }
+    }
+
+    private static class ScoredTask {
+        final Task task;
+        final int score;
+
+        ScoredTask(Task task, int score) {
+            this.task = task;
+            this.score = score;
+        }
+    }
+}
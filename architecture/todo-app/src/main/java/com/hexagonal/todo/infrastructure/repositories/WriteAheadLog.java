@@ -0,0 +1,288 @@
+package com.hexagonal.todo.infrastructure.repositories;
+
+import com.hexagonal.todo.domain.models.Task;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of {@link PendingTaskWrite}s in numbered segment files, so buffered writes survive a crash.
+ * <p>
+ * Each record is its payload length, a CRC32 of the payload and the payload. A torn or corrupt record ends
+ * the replay of its segment. Appends only write to the page cache; {@link #sync} forces them to disk, and
+ * concurrent callers share one fsync (group commit). {@link #rotate} starts a new segment so that the older
+ * ones can be deleted once their writes are in the database.
+ */
+final class WriteAheadLog implements Closeable {
+
+    /**
+     * Far above any real record; a larger length can only come from a torn write.
+     */
+    private static final int MAX_RECORD_BYTES = 1 << 20;
+    private static final Pattern SEGMENT_NAME = Pattern.compile("wal-(\\d{12})\\.log");
+
+    private final Path directory;
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private volatile FileChannel channel;
+    private volatile long segment;
+    private volatile long appendedBytes;
+    private volatile long syncedBytes;
+
+    WriteAheadLog(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+            this.segment = segments().stream().mapToLong(Long::longValue).max().orElse(0) + 1;
+            this.channel = open(segment);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open the write-ahead log in " + directory, e);
+        }
+    }
+
+    /**
+     * Reads every record left by earlier runs, oldest first. Segments written by this instance are skipped.
+     */
+    List<PendingTaskWrite> recover() {
+        List<PendingTaskWrite> writes = new ArrayList<>();
+        try {
+            for (long number : segments()) {
+                if (number < segment) {
+                    readSegment(path(number), writes);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read the write-ahead log in " + directory, e);
+        }
+        return writes;
+    }
+
+    /**
+     * Appends the writes and returns the log position that {@link #sync} must reach for them to be durable.
+     */
+    long append(List<PendingTaskWrite> writes) {
+        ByteBuffer records = ByteBuffer.wrap(encode(writes));
+        appendLock.lock();
+        try {
+            int length = records.remaining();
+            while (records.hasRemaining()) {
+                channel.write(records);
+            }
+            appendedBytes += length;
+            return appendedBytes;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot append to the write-ahead log", e);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Returns once everything up to the position is on disk. The caller that finds the log unsynced forces it
+     * once for every append made so far, so writers queued behind it usually return without an fsync of their own.
+     */
+    void sync(long position) {
+        if (syncedBytes >= position) {
+            return;
+        }
+        syncLock.lock();
+        try {
+            if (syncedBytes >= position) {
+                return;
+            }
+            long target = appendedBytes;
+            channel.force(false);
+            syncedBytes = Math.max(syncedBytes, target);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot sync the write-ahead log", e);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * Closes the current segment after forcing it to disk and continues in a new one.
+     * Returns the number of the closed segment, for {@link #deleteThrough}.
+     */
+    long rotate() {
+        appendLock.lock();
+        syncLock.lock();
+        try {
+            channel.force(false);
+            channel.close();
+            syncedBytes = appendedBytes;
+            long closed = segment;
+            channel = open(closed + 1);
+            segment = closed + 1;
+            return closed;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot rotate the write-ahead log", e);
+        } finally {
+            syncLock.unlock();
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Deletes every closed segment up to and including the given number.
+     */
+    void deleteThrough(long number) {
+        try {
+            for (long existing : segments()) {
+                if (existing <= number && existing != segment) {
+                    Files.deleteIfExists(path(existing));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot delete write-ahead log segments", e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        appendLock.lock();
+        try {
+            channel.force(false);
+            channel.close();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private FileChannel open(long number) throws IOException {
+        return FileChannel.open(path(number), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    private Path path(long number) {
+        return directory.resolve(String.format("wal-%012d.log", number));
+    }
+
+    private List<Long> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> SEGMENT_NAME.matcher(file.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .map(matcher -> Long.parseLong(matcher.group(1)))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static void readSegment(Path file, List<PendingTaskWrite> writes) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            while (true) {
+                byte[] payload;
+                try {
+                    int length = in.readInt();
+                    int checksum = in.readInt();
+                    if (length <= 0 || length > MAX_RECORD_BYTES) {
+                        return;
+                    }
+                    payload = in.readNBytes(length);
+                    if (payload.length < length || checksum(payload) != checksum) {
+                        return;
+                    }
+                } catch (EOFException e) {
+                    return;
+                }
+                writes.add(decode(payload));
+            }
+        }
+    }
+
+    private static byte[] encode(List<PendingTaskWrite> writes) {
+        try {
+            ByteArrayOutputStream records = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(records);
+            for (PendingTaskWrite write : writes) {
+                byte[] payload = payload(write);
+                out.writeInt(payload.length);
+                out.writeInt(checksum(payload));
+                out.write(payload);
+            }
+            return records.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] payload(PendingTaskWrite write) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(write.getKind().ordinal());
+        out.writeLong(write.getId());
+        Task task = write.getTask();
+        if (task != null) {
+            writeString(out, task.getTitle());
+            writeString(out, task.getDescription());
+            LocalDateTime creationDate = task.getCreationDate();
+            out.writeBoolean(creationDate != null);
+            if (creationDate != null) {
+                out.writeLong(creationDate.toEpochSecond(ZoneOffset.UTC));
+                out.writeInt(creationDate.getNano());
+            }
+            out.writeByte(task.getCompleted() == null ? 2 : task.getCompleted() ? 1 : 0);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static PendingTaskWrite decode(byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        PendingTaskWrite.Kind kind = PendingTaskWrite.Kind.values()[in.readByte()];
+        long id = in.readLong();
+        if (kind == PendingTaskWrite.Kind.DELETE) {
+            return PendingTaskWrite.delete(id);
+        }
+        String title = readString(in);
+        String description = readString(in);
+        LocalDateTime creationDate = in.readBoolean()
+                ? LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC)
+                : null;
+        byte completed = in.readByte();
+        Task task = new Task(id, title, description, creationDate, completed == 2 ? null : completed == 1);
+        return kind == PendingTaskWrite.Kind.INSERT ? PendingTaskWrite.insert(task) : PendingTaskWrite.update(task);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        return length < 0 ? null : new String(in.readNBytes(length), StandardCharsets.UTF_8);
+    }
+
+    private static int checksum(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,579 @@
+package com.hexagonal.todo.infrastructure.repositories;
+
+import com.hexagonal.todo.domain.exceptions.TaskStoreOverloadedException;
+import com.hexagonal.todo.domain.models.Task;
+import com.hexagonal.todo.domain.models.TaskCursor;
+import com.hexagonal.todo.domain.models.TaskFilter;
+import com.hexagonal.todo.domain.models.TaskSort;
+import com.hexagonal.todo.domain.ports.out.TaskRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Write-behind decorator for another {@link TaskRepositoryPort}.
+ * <p>
+ * Creates, updates, completions and single deletes are appended to a local {@link WriteAheadLog} and
+ * acknowledged once the log is on disk; a background thread writes them to the database through a
+ * {@link TaskBatchWriter}, in one transaction per batch of up to batchSize tasks or every flushInterval.
+ * Writes to the same id coalesce, so a task updated ten times between flushes is written once.
+ * New tasks take their ids from blocks reserved from the database sequence, so callers get the final id at once.
+ * Writes the writer says the database would reject are refused before they are logged. When a batch still breaks a
+ * constraint, it is split until the offending writes are isolated; those are logged as dead letters and dropped, so
+ * one bad row cannot hold back the rest.
+ * <p>
+ * Reads by id see pending writes. Listings, pages, exports and set-based writes first wait until everything
+ * accepted so far is flushed, then go to the delegate. When maxPending tasks are waiting, writers block for up to
+ * maxWait and then fail with {@link TaskStoreOverloadedException}. Writes left in the log by a crash are applied
+ * again on the next start. The log is local, so only one instance may use a log directory.
+ */
+public class WriteBehindTaskRepositoryAdapter implements TaskRepositoryPort, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(WriteBehindTaskRepositoryAdapter.class);
+
+    private final TaskRepositoryPort delegate;
+    private final TaskBatchWriter writer;
+    private final WriteAheadLog writeAheadLog;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final int maxPending;
+    private final long maxWaitNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition flushRequested = lock.newCondition();
+    private final Condition flushed = lock.newCondition();
+    private Map<Long, PendingTaskWrite> pending = new LinkedHashMap<>();
+    private Map<Long, PendingTaskWrite> flushing = Map.of();
+    private long acceptedWrites;
+    private long flushedWrites;
+    private boolean flushWanted;
+    private boolean closed;
+
+    private final ReentrantLock idLock = new ReentrantLock();
+    private final Deque<Long> reservedIds = new ArrayDeque<>();
+
+    private final LongAdder flushedBatches = new LongAdder();
+    private final LongAdder failedFlushes = new LongAdder();
+    private final LongAdder rejectedWrites = new LongAdder();
+    private final LongAdder deadLetteredWrites = new LongAdder();
+    private final Thread flusher;
+
+    public WriteBehindTaskRepositoryAdapter(TaskRepositoryPort delegate, TaskBatchWriter writer, Path logDirectory,
+                                            int batchSize, Duration flushInterval, int maxPending, Duration maxWait) {
+        this.delegate = delegate;
+        this.writer = writer;
+        this.writeAheadLog = new WriteAheadLog(logDirectory);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.maxPending = maxPending;
+        this.maxWaitNanos = maxWait.toNanos();
+        for (PendingTaskWrite write : writeAheadLog.recover()) {
+            pending.merge(write.getId(), write, PendingTaskWrite::then);
+            acceptedWrites++;
+        }
+        if (!pending.isEmpty()) {
+            logger.info("Replaying {} task writes from the write-ahead log in {}", pending.size(), logDirectory);
+        }
+        this.flusher = new Thread(this::runFlusher, "task-write-behind");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /**
+     * Tasks accepted but not yet committed to the database, including the batch being flushed.
+     */
+    public int getPendingWrites() {
+        lock.lock();
+        try {
+            return pending.size() + flushing.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getFlushedBatches() {
+        return flushedBatches.sum();
+    }
+
+    public long getFailedFlushes() {
+        return failedFlushes.sum();
+    }
+
+    public long getRejectedWrites() {
+        return rejectedWrites.sum();
+    }
+
+    /**
+     * Acknowledged writes the database rejected for a constraint and that were dropped.
+     */
+    public long getDeadLetteredWrites() {
+        return deadLetteredWrites.sum();
+    }
+
+    @Override
+    public Task save(Task task) {
+        Long id = task.getId() != null ? task.getId() : nextIds(1).get(0);
+        Task saved = new Task(id, task.getTitle(), task.getDescription(), task.getCreationDate(), task.getCompleted());
+        submit(List.of(PendingTaskWrite.insert(saved)));
+        return saved;
+    }
+
+    /**
+     * Accepts the whole batch with a single log append and fsync.
+     */
+    @Override
+    public List<Task> saveAll(List<Task> tasks) {
+        List<Long> ids = nextIds(tasks.size());
+        List<Task> saved = new ArrayList<>(tasks.size());
+        List<PendingTaskWrite> writes = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            Task withId = new Task(ids.get(i), task.getTitle(), task.getDescription(),
+                    task.getCreationDate(), task.getCompleted());
+            saved.add(withId);
+            writes.add(PendingTaskWrite.insert(withId));
+        }
+        submit(writes);
+        return saved;
+    }
+
+    @Override
+    public Optional<Task> findById(Long id) {
+        PendingTaskWrite latest = latest(id);
+        if (latest != null) {
+            return Optional.ofNullable(latest.getTask());
+        }
+        return delegate.findById(id);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        PendingTaskWrite latest = latest(id);
+        return latest != null ? !latest.isDelete() : delegate.existsById(id);
+    }
+
+    @Override
+    public Set<Long> findExistingIds(Collection<Long> ids) {
+        Set<Long> existing = new HashSet<>();
+        List<Long> unknown = new ArrayList<>();
+        lock.lock();
+        try {
+            for (Long id : ids) {
+                PendingTaskWrite latest = latestLocked(id);
+                if (latest == null) {
+                    unknown.add(id);
+                } else if (!latest.isDelete()) {
+                    existing.add(id);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (!unknown.isEmpty()) {
+            existing.addAll(delegate.findExistingIds(unknown));
+        }
+        return existing;
+    }
+
+    @Override
+    public List<Task> findAll() {
+        flush();
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Task> findPage(TaskFilter filter, TaskSort sort, TaskCursor after, int limit) {
+        flush();
+        return delegate.findPage(filter, sort, after, limit);
+    }
+
+    @Override
+    public void streamAll(Consumer<Task> consumer) {
+        flush();
+        delegate.streamAll(consumer);
+    }
+
+    /**
+     * Replaces title, description and completed; the creation date is kept.
+     */
+    @Override
+    public Optional<Task> update(Long id, Task task) {
+        return writeExisting(id, current -> PendingTaskWrite.update(new Task(id, task.getTitle(),
+                task.getDescription(), current.getCreationDate(), task.getCompleted())))
+                .map(PendingTaskWrite::getTask);
+    }
+
+    @Override
+    public Optional<Task> markCompleted(Long id) {
+        return writeExisting(id, current -> PendingTaskWrite.update(new Task(id, current.getTitle(),
+                current.getDescription(), current.getCreationDate(), true)))
+                .map(PendingTaskWrite::getTask);
+    }
+
+    @Override
+    public long completeAll(TaskFilter filter) {
+        flush();
+        return delegate.completeAll(filter);
+    }
+
+    @Override
+    public Boolean deleteById(Long id) {
+        return writeExisting(id, current -> PendingTaskWrite.delete(id)).isPresent();
+    }
+
+    @Override
+    public long deleteAllById(Collection<Long> ids) {
+        flush();
+        return delegate.deleteAllById(ids);
+    }
+
+    @Override
+    public long deleteAll(TaskFilter filter) {
+        flush();
+        return delegate.deleteAll(filter);
+    }
+
+    /**
+     * Waits until every write accepted before the call is in the database.
+     */
+    public void flush() {
+        lock.lock();
+        try {
+            long target = acceptedWrites;
+            long remaining = maxWaitNanos;
+            while (flushedWrites < target) {
+                requestFlush();
+                if (remaining <= 0) {
+                    throw new TaskStoreOverloadedException("Pending task writes could not be flushed in time");
+                }
+                remaining = flushed.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TaskStoreOverloadedException("Interrupted while waiting for pending task writes");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops accepting writes, flushes what is pending and closes the log. Writes that cannot be flushed
+     * within maxWait stay in the log for the next start.
+     */
+    @Override
+    public void close() throws IOException, InterruptedException {
+        lock.lock();
+        try {
+            closed = true;
+            requestFlush();
+        } finally {
+            lock.unlock();
+        }
+        flusher.join(TimeUnit.NANOSECONDS.toMillis(maxWaitNanos) + 1);
+        flusher.interrupt();
+        flusher.join();
+        writeAheadLog.close();
+    }
+
+    /**
+     * Applies a write to an existing task, reading the current state from the pending writes or the delegate.
+     * Returns the accepted write, or empty when the task does not exist.
+     */
+    private Optional<PendingTaskWrite> writeExisting(Long id, Function<Task, PendingTaskWrite> change) {
+        while (true) {
+            PendingTaskWrite known;
+            long flushedBefore;
+            lock.lock();
+            try {
+                known = latestLocked(id);
+                flushedBefore = flushedWrites;
+            } finally {
+                lock.unlock();
+            }
+            Task current = known != null ? known.getTask() : delegate.findById(id).orElse(null);
+            long position;
+            PendingTaskWrite write;
+            lock.lock();
+            try {
+                awaitCapacity(1);
+                if (latestLocked(id) != known || known == null && flushedWrites != flushedBefore) {
+                    // another write to this id got in, or was even flushed, while the delegate was read
+                    continue;
+                }
+                if (current == null) {
+                    return Optional.empty();
+                }
+                write = change.apply(current);
+                validate(List.of(write));
+                position = acceptLocked(List.of(write));
+            } finally {
+                lock.unlock();
+            }
+            writeAheadLog.sync(position);
+            return Optional.of(write);
+        }
+    }
+
+    /**
+     * Logs and buffers the writes, then returns once the log is durable.
+     */
+    private void submit(List<PendingTaskWrite> writes) {
+        validate(writes);
+        long position;
+        lock.lock();
+        try {
+            awaitCapacity(writes.size());
+            position = acceptLocked(writes);
+        } finally {
+            lock.unlock();
+        }
+        writeAheadLog.sync(position);
+    }
+
+    private void validate(List<PendingTaskWrite> writes) {
+        for (PendingTaskWrite write : writes) {
+            if (!write.isDelete()) {
+                writer.validate(write.getTask());
+            }
+        }
+    }
+
+    private long acceptLocked(List<PendingTaskWrite> writes) {
+        long position = writeAheadLog.append(writes);
+        for (PendingTaskWrite write : writes) {
+            pending.merge(write.getId(), write, PendingTaskWrite::then);
+        }
+        acceptedWrites += writes.size();
+        if (pending.size() >= batchSize) {
+            requestFlush();
+        }
+        return position;
+    }
+
+    /**
+     * Blocks while the buffer is full. A batch larger than maxPending is let in once the buffer is empty.
+     */
+    private void awaitCapacity(int writes) {
+        if (closed) {
+            throw new IllegalStateException("The task repository is shut down");
+        }
+        long remaining = maxWaitNanos;
+        try {
+            while (pending.size() + flushing.size() > 0 && pending.size() + flushing.size() + writes > maxPending) {
+                requestFlush();
+                if (remaining <= 0) {
+                    rejectedWrites.increment();
+                    throw new TaskStoreOverloadedException("Too many task writes are waiting for the database");
+                }
+                remaining = flushed.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TaskStoreOverloadedException("Interrupted while waiting for room in the write buffer");
+        }
+    }
+
+    /**
+     * Wakes the flusher, or makes it skip its next wait if it is busy. Called with the lock held.
+     */
+    private void requestFlush() {
+        flushWanted = true;
+        flushRequested.signal();
+    }
+
+    private PendingTaskWrite latest(Long id) {
+        lock.lock();
+        try {
+            return latestLocked(id);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private PendingTaskWrite latestLocked(Long id) {
+        PendingTaskWrite write = pending.get(id);
+        return write != null ? write : flushing.get(id);
+    }
+
+    private List<Long> nextIds(int count) {
+        idLock.lock();
+        try {
+            if (reservedIds.size() < count) {
+                reservedIds.addAll(writer.reserveIds(Math.max(batchSize, count - reservedIds.size())));
+            }
+            List<Long> ids = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                ids.add(reservedIds.poll());
+            }
+            return ids;
+        } finally {
+            idLock.unlock();
+        }
+    }
+
+    private void runFlusher() {
+        while (true) {
+            Map<Long, PendingTaskWrite> batch;
+            long batchEnd;
+            long segment;
+            lock.lock();
+            try {
+                long remaining = flushIntervalNanos;
+                while (!closed && !flushWanted && pending.size() < batchSize && remaining > 0) {
+                    remaining = flushRequested.awaitNanos(remaining);
+                }
+                flushWanted = false;
+                if (pending.isEmpty()) {
+                    if (closed) {
+                        return;
+                    }
+                    continue;
+                }
+                segment = writeAheadLog.rotate();
+                batch = pending;
+                batchEnd = acceptedWrites;
+                pending = new LinkedHashMap<>();
+                flushing = batch;
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                failedFlushes.increment();
+                logger.warn("Could not rotate the write-ahead log; retrying", e);
+                batch = null;
+                batchEnd = 0;
+                segment = 0;
+            } finally {
+                lock.unlock();
+            }
+            if ((batch == null || !writeBatch(batch, batchEnd, segment)) && awaitRetry()) {
+                return;
+            }
+        }
+    }
+
+    private boolean writeBatch(Map<Long, PendingTaskWrite> batch, long batchEnd, long segment) {
+        try {
+            writeIsolatingRejected(new ArrayList<>(batch.values()));
+        } catch (RuntimeException e) {
+            failedFlushes.increment();
+            logger.warn("Flushing {} task writes failed; they stay buffered and logged", batch.size(), e);
+            lock.lock();
+            try {
+                // writes accepted meanwhile are newer than the failed batch
+                batch.forEach((id, write) -> pending.merge(id, write, (newer, older) -> older.then(newer)));
+                flushing = Map.of();
+                flushed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            return false;
+        }
+        lock.lock();
+        try {
+            flushing = Map.of();
+            flushedWrites = batchEnd;
+            flushed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        flushedBatches.increment();
+        try {
+            writeAheadLog.deleteThrough(segment);
+        } catch (RuntimeException e) {
+            // replaying flushed writes is harmless, so stale segments only cost startup time
+            logger.warn("Could not delete flushed write-ahead log segments", e);
+        }
+        return true;
+    }
+
+    /**
+     * Writes the batch in one transaction. When it breaks a constraint, writes each half on its own until the
+     * offending writes are isolated, and drops those: retrying them would fail the same way forever. Writes to
+     * different ids are independent and every write is idempotent, so halves that got in before another failure
+     * are simply written again on the retry.
+     */
+    private void writeIsolatingRejected(List<PendingTaskWrite> writes) {
+        try {
+            write(writes);
+        } catch (DataIntegrityViolationException e) {
+            if (writes.size() == 1) {
+                deadLetter(writes.get(0), e);
+                return;
+            }
+            int half = writes.size() / 2;
+            writeIsolatingRejected(writes.subList(0, half));
+            writeIsolatingRejected(writes.subList(half, writes.size()));
+        }
+    }
+
+    private void write(List<PendingTaskWrite> writes) {
+        List<Task> inserts = new ArrayList<>();
+        List<Task> updates = new ArrayList<>();
+        List<Long> deletes = new ArrayList<>();
+        for (PendingTaskWrite write : writes) {
+            switch (write.getKind()) {
+                case INSERT -> inserts.add(write.getTask());
+                case UPDATE -> updates.add(write.getTask());
+                case DELETE -> deletes.add(write.getId());
+            }
+        }
+        writer.write(inserts, updates, deletes);
+    }
+
+    /**
+     * Logs the full write, so it can be repaired and applied by hand.
+     */
+    private void deadLetter(PendingTaskWrite write, DataIntegrityViolationException e) {
+        deadLetteredWrites.increment();
+        Task task = write.getTask();
+        if (task == null) {
+            logger.error("Dropping {} of task {} rejected by the database: {}",
+                    write.getKind(), write.getId(), e.getMostSpecificCause().getMessage());
+        } else {
+            logger.error("Dropping {} of task {} rejected by the database: {}; title={}, description={}, "
+                            + "creationDate={}, completed={}", write.getKind(), write.getId(),
+                    e.getMostSpecificCause().getMessage(), task.getTitle(), task.getDescription(),
+                    task.getCreationDate(), task.getCompleted());
+        }
+    }
+
+    /**
+     * Backs off for one flush interval after a failure. Returns true when the flusher should stop instead.
+     */
+    private boolean awaitRetry() {
+        lock.lock();
+        try {
+            if (closed) {
+                return true;
+            }
+        } finally {
+            lock.unlock();
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(flushIntervalNanos);
+            return false;
+        } catch (InterruptedException e) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+-- Schema as previously generated by Hibernate's ddl-auto. Databases created that way are baselined at this version.
+create table if not exists tasks (
+    id            bigint generated by default as identity primary key,
+    title         varchar(255),
+    description   varchar(255),
+    creation_date timestamp(6),
+    completed     boolean
+);
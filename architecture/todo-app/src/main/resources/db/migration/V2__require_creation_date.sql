@@ -0,0 +1,4 @@
+-- Keyset pagination by creation date cannot reach rows without one.
+update tasks set creation_date = now() where creation_date is null;
+
+alter table tasks alter column creation_date set not null;
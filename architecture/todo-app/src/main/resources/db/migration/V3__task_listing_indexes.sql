@@ -0,0 +1,10 @@
+-- Built concurrently so existing tables stay writable; Flyway runs these statements outside a transaction.
+
+-- completed filter with creation date range and order; id makes the keyset cursor unique
+create index concurrently if not exists tasks_completed_creation_date_idx on tasks (completed, creation_date, id);
+
+-- creation date range and order without a completed filter
+create index concurrently if not exists tasks_creation_date_idx on tasks (creation_date, id);
+
+-- title prefix: byte-wise ordering lets the ~>=~ / ~<~ range run as an index scan under any collation
+create index concurrently if not exists tasks_title_pattern_idx on tasks (title text_pattern_ops);
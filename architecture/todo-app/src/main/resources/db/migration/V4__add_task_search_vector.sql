@@ -0,0 +1,22 @@
+-- A plain nullable column is added without rewriting the table; V5 fills existing rows in batches.
+-- From here on a trigger keeps it in sync on every insert and update, whichever adapter writes the row.
+alter table tasks add column if not exists search_vector tsvector;
+
+-- Title words weigh more than description words when ranking.
+create or replace function task_search_vector(title text, description text) returns tsvector
+    language sql immutable as $$
+        select setweight(to_tsvector('english', coalesce(title, '')), 'A')
+            || setweight(to_tsvector('english', coalesce(description, '')), 'B')
+    $$;
+
+create or replace function tasks_search_vector_update() returns trigger
+    language plpgsql as $$
+        begin
+            new.search_vector := task_search_vector(new.title, new.description);
+            return new;
+        end
+    $$;
+
+drop trigger if exists tasks_search_vector_update on tasks;
+create trigger tasks_search_vector_update before insert or update of title, description on tasks
+    for each row execute function tasks_search_vector_update();
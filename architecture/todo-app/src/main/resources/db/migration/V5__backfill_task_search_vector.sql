@@ -0,0 +1,17 @@
+-- Fills rows written before V4 in id ranges, committing after each so row locks stay short.
+-- Rows above the last id seen are written after V4 and already have a vector from the trigger.
+do $$
+    declare
+        batch_size constant bigint := 5000;
+        last_id bigint := 0;
+        max_id bigint;
+    begin
+        select coalesce(max(id), 0) into max_id from tasks;
+        while last_id < max_id loop
+            update tasks set search_vector = task_search_vector(title, description)
+                where id > last_id and id <= last_id + batch_size and search_vector is null;
+            last_id := last_id + batch_size;
+            commit;
+        end loop;
+    end
+$$;
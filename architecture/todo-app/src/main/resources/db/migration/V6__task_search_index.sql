@@ -0,0 +1,2 @@
+-- Built concurrently after the backfill, so existing tables stay writable and the index is built once.
+create index concurrently if not exists tasks_search_vector_idx on tasks using gin (search_vector);
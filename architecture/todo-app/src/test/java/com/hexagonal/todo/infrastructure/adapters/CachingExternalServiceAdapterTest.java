@@ -0,0 +1,76 @@
+package com.hexagonal.todo.infrastructure.adapters;
+
+import com.hexagonal.todo.domain.models.AdditionalTaskInfo;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachingExternalServiceAdapterTest {
+
+    private StubExternalService stub;
+    private ExecutorService executor;
+    private CloseableHttpAsyncClient httpClient;
+    private CachingExternalServiceAdapter adapter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = new StubExternalService();
+        executor = Executors.newFixedThreadPool(4);
+        httpClient = ExternalServiceAdapter.createHttpClient(Duration.ofSeconds(1), Duration.ofSeconds(2), 10);
+        adapter = new CachingExternalServiceAdapter(
+                new ExternalServiceAdapter(httpClient, stub.baseUri(), JsonMapper.builder().build(), 10, executor),
+                100, Duration.ofMinutes(10), Duration.ofMinutes(1), Duration.ofMinutes(5));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        httpClient.close();
+        stub.close();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void coalescesConcurrentLookupsOfTheSameTask() {
+        stub.setDelay(Duration.ofMillis(200));
+        List<CompletableFuture<Optional<AdditionalTaskInfo>>> lookups = new ArrayList<>();
+
+        for (int i = 0; i < 50; i++) {
+            lookups.add(adapter.getAdditionalTaskInfoAsync(1L));
+        }
+
+        assertThat(lookups).allSatisfy(lookup -> assertThat(lookup.join()).isPresent());
+        assertThat(stub.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void cachesMissingInfo() {
+        stub.markMissing(2L);
+
+        assertThat(adapter.getAdditionalTaskInfo(2L)).isEmpty();
+        assertThat(adapter.getAdditionalTaskInfo(2L)).isEmpty();
+        assertThat(stub.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void cancellingOneLookupDoesNotCancelTheSharedCall() {
+        stub.setDelay(Duration.ofMillis(200));
+        CompletableFuture<Optional<AdditionalTaskInfo>> cancelled = adapter.getAdditionalTaskInfoAsync(3L);
+        CompletableFuture<Optional<AdditionalTaskInfo>> waiting = adapter.getAdditionalTaskInfoAsync(3L);
+
+        cancelled.cancel(true);
+
+        assertThat(waiting.join()).isPresent();
+    }
+}
@@ -0,0 +1,158 @@
+package com.hexagonal.todo.infrastructure.adapters;
+
+import com.hexagonal.todo.domain.exceptions.ExternalServiceException;
+import com.hexagonal.todo.domain.models.AdditionalTaskInfo;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExternalServiceAdapterTest {
+
+    private StubExternalService stub;
+    private ExecutorService executor;
+    private CloseableHttpAsyncClient httpClient;
+    private ExternalServiceAdapter adapter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = new StubExternalService();
+        executor = Executors.newFixedThreadPool(4);
+        httpClient = ExternalServiceAdapter.createHttpClient(Duration.ofSeconds(1), Duration.ofMillis(500), 50);
+        adapter = new ExternalServiceAdapter(httpClient, stub.baseUri(), JsonMapper.builder().build(), 10, executor);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        httpClient.close();
+        stub.close();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void mapsResponseToAdditionalTaskInfo() {
+        Optional<AdditionalTaskInfo> info = adapter.getAdditionalTaskInfo(7L);
+
+        assertThat(info).isPresent();
+        assertThat(info.get().getUserId()).isEqualTo(7L);
+        assertThat(info.get().getUserName()).isEqualTo("user-7");
+        assertThat(info.get().getUserEmail()).isEqualTo("user-7@example.com");
+    }
+
+    @Test
+    void returnsEmptyWhenServiceHasNoInfo() {
+        stub.markMissing(8L);
+
+        assertThat(adapter.getAdditionalTaskInfo(8L)).isEmpty();
+    }
+
+    @Test
+    void failsOnServerError() {
+        stub.markFailing(9L);
+
+        assertThatThrownBy(() -> adapter.getAdditionalTaskInfo(9L))
+                .isInstanceOf(ExternalServiceException.class);
+    }
+
+    @Test
+    void failsWhenReadTimeoutElapses() {
+        stub.setDelay(Duration.ofSeconds(2));
+
+        assertThatThrownBy(() -> adapter.getAdditionalTaskInfo(10L))
+                .isInstanceOf(ExternalServiceException.class);
+    }
+
+    @Test
+    void boundsInFlightRequestsOfABatch() {
+        stub.setDelay(Duration.ofMillis(20));
+        stub.markMissing(3L);
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            ids.add(id);
+        }
+
+        Map<Long, CompletableFuture<Optional<AdditionalTaskInfo>>> lookups = adapter.getAdditionalTaskInfoAsync(ids);
+
+        assertThat(lookups).hasSize(100);
+        assertThat(lookups.get(1L).join()).isPresent();
+        assertThat(lookups.get(3L).join()).isEmpty();
+        CompletableFuture.allOf(lookups.values().toArray(CompletableFuture[]::new)).join();
+        assertThat(stub.getMaxConcurrentRequests()).isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    void failsEveryLookupOfABatchWhenTheCallbackExecutorRejects() {
+        adapter = new ExternalServiceAdapter(httpClient, stub.baseUri(), JsonMapper.builder().build(), 10,
+                command -> {
+                    throw new RejectedExecutionException("shutting down");
+                });
+
+        Map<Long, CompletableFuture<Optional<AdditionalTaskInfo>>> lookups =
+                adapter.getAdditionalTaskInfoAsync(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L, 12L));
+
+        assertThat(lookups.values()).allSatisfy(lookup -> assertThat(lookup)
+                .failsWithin(Duration.ofSeconds(5))
+                .withThrowableThat()
+                .havingRootCause()
+                .isInstanceOf(RejectedExecutionException.class));
+    }
+
+    @Test
+    void failsEveryLookupOfABatchWhenTheClientIsClosed() throws Exception {
+        httpClient.close();
+
+        Map<Long, CompletableFuture<Optional<AdditionalTaskInfo>>> lookups =
+                adapter.getAdditionalTaskInfoAsync(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L, 12L));
+
+        assertThat(lookups.values()).allSatisfy(lookup -> assertThat(lookup).failsWithin(Duration.ofSeconds(5)));
+    }
+
+    @Test
+    void cancellingABatchLookupAbortsItsRequest() throws Exception {
+        // a single pooled connection, so the next call only gets through once the cancelled exchange releases it
+        httpClient.close();
+        httpClient = ExternalServiceAdapter.createHttpClient(Duration.ofSeconds(1), Duration.ofSeconds(10), 1);
+        adapter = new ExternalServiceAdapter(httpClient, stub.baseUri(), JsonMapper.builder().build(), 1, executor);
+        stub.setDelay(Duration.ofSeconds(5));
+
+        CompletableFuture<Optional<AdditionalTaskInfo>> lookup =
+                adapter.getAdditionalTaskInfoAsync(List.of(1L)).get(1L);
+        Thread.sleep(200);
+        lookup.cancel(true);
+        stub.setDelay(Duration.ZERO);
+
+        assertThat(adapter.getAdditionalTaskInfo(2L)).isPresent();
+    }
+
+    @Test
+    void servesConcurrentLoadOverPooledConnections() throws Exception {
+        // the whole burst is queued at once, so pool acquisition needs more headroom than the default test client
+        httpClient.close();
+        httpClient = ExternalServiceAdapter.createHttpClient(Duration.ofSeconds(10), Duration.ofSeconds(10), 50);
+        adapter = new ExternalServiceAdapter(httpClient, stub.baseUri(), JsonMapper.builder().build(), 50, executor);
+        int requests = 2000;
+        List<CompletableFuture<Optional<AdditionalTaskInfo>>> calls = new ArrayList<>(requests);
+
+        for (int i = 0; i < requests; i++) {
+            calls.add(adapter.getAdditionalTaskInfoAsync((long) i));
+        }
+
+        CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).join();
+        assertThat(calls).allSatisfy(call -> assertThat(call.join()).isPresent());
+        assertThat(stub.getMaxConcurrentRequests()).isLessThanOrEqualTo(50);
+    }
+}
@@ -0,0 +1,121 @@
+package com.hexagonal.todo.infrastructure.adapters;
+
+import com.hexagonal.todo.domain.exceptions.ExternalServiceException;
+import com.hexagonal.todo.domain.exceptions.ExternalServiceUnavailableException;
+import com.hexagonal.todo.domain.models.AdditionalTaskInfo;
+import com.hexagonal.todo.domain.ports.out.ExternalServicePort;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResilientExternalServiceAdapterTest {
+
+    private static final AdditionalTaskInfo INFO = new AdditionalTaskInfo(1L, "user", "user@example.com");
+
+    private final AtomicInteger delegateCalls = new AtomicInteger();
+
+    @Test
+    void rejectsCallsBeyondTheBulkhead() {
+        CompletableFuture<Optional<AdditionalTaskInfo>> pending = new CompletableFuture<>();
+        ResilientExternalServiceAdapter adapter = adapter(taskId -> pending, 2, Duration.ofSeconds(10));
+
+        adapter.getAdditionalTaskInfoAsync(1L);
+        adapter.getAdditionalTaskInfoAsync(2L);
+
+        assertThatThrownBy(() -> adapter.getAdditionalTaskInfo(3L))
+                .isInstanceOf(ExternalServiceUnavailableException.class);
+        assertThat(adapter.getBulkheadRejections()).isEqualTo(1);
+
+        pending.complete(Optional.of(INFO));
+        assertThat(adapter.getAvailablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    void failsCallsThatExceedTheDeadline() {
+        CompletableFuture<Optional<AdditionalTaskInfo>> never = new CompletableFuture<>();
+        ResilientExternalServiceAdapter adapter = adapter(taskId -> never, 10, Duration.ofSeconds(10));
+
+        assertThatThrownBy(() -> adapter.getAdditionalTaskInfo(1L))
+                .isInstanceOf(ExternalServiceException.class)
+                .hasMessageContaining("deadline");
+        assertThat(adapter.getDeadlineExceeded()).isEqualTo(1);
+    }
+
+    @Test
+    void opensAfterFailuresAndFailsFast() {
+        ResilientExternalServiceAdapter adapter = adapter(
+                taskId -> CompletableFuture.failedFuture(new ExternalServiceException("down")), 10, Duration.ofSeconds(10));
+
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> adapter.getAdditionalTaskInfo(1L)).isInstanceOf(ExternalServiceException.class);
+        }
+
+        assertThat(adapter.getState()).isEqualTo(ResilientExternalServiceAdapter.State.OPEN);
+        assertThatThrownBy(() -> adapter.getAdditionalTaskInfo(1L))
+                .isInstanceOf(ExternalServiceUnavailableException.class);
+        assertThat(delegateCalls.get()).isEqualTo(4);
+        assertThat(adapter.getBreakerRejections()).isEqualTo(1);
+    }
+
+    @Test
+    void closesAgainAfterSuccessfulProbes() throws InterruptedException {
+        AtomicInteger failuresLeft = new AtomicInteger(4);
+        ResilientExternalServiceAdapter adapter = adapter(taskId -> failuresLeft.getAndDecrement() > 0
+                ? CompletableFuture.failedFuture(new ExternalServiceException("down"))
+                : CompletableFuture.completedFuture(Optional.of(INFO)), 10, Duration.ofMillis(50));
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> adapter.getAdditionalTaskInfo(1L)).isInstanceOf(ExternalServiceException.class);
+        }
+
+        Thread.sleep(100);
+
+        assertThat(adapter.getAdditionalTaskInfo(1L)).contains(INFO);
+        assertThat(adapter.getState()).isEqualTo(ResilientExternalServiceAdapter.State.HALF_OPEN);
+        assertThat(adapter.getAdditionalTaskInfo(1L)).contains(INFO);
+        assertThat(adapter.getState()).isEqualTo(ResilientExternalServiceAdapter.State.CLOSED);
+    }
+
+    @Test
+    void recoversFromBatchLookupsAlone() throws InterruptedException {
+        AtomicInteger failuresLeft = new AtomicInteger(4);
+        ResilientExternalServiceAdapter adapter = adapter(taskId -> failuresLeft.getAndDecrement() > 0
+                ? CompletableFuture.failedFuture(new ExternalServiceException("down"))
+                : CompletableFuture.completedFuture(Optional.of(INFO)), 10, Duration.ofMillis(50));
+        adapter.getAdditionalTaskInfoAsync(List.of(1L, 2L, 3L, 4L)).values()
+                .forEach(lookup -> assertThat(lookup).isCompletedExceptionally());
+        assertThat(adapter.getState()).isEqualTo(ResilientExternalServiceAdapter.State.OPEN);
+        assertThat(adapter.getAdditionalTaskInfoAsync(List.of(5L)).get(5L)).isCompletedExceptionally();
+
+        Thread.sleep(100);
+
+        Map<Long, CompletableFuture<Optional<AdditionalTaskInfo>>> probes =
+                adapter.getAdditionalTaskInfoAsync(List.of(6L, 7L, 8L));
+        assertThat(probes).containsOnlyKeys(6L, 7L, 8L);
+        assertThat(probes.get(6L)).isCompletedWithValue(Optional.of(INFO));
+        assertThat(probes.get(7L)).isCompletedWithValue(Optional.of(INFO));
+        assertThat(probes.get(8L)).isCompletedExceptionally();
+        assertThat(adapter.getState()).isEqualTo(ResilientExternalServiceAdapter.State.CLOSED);
+
+        adapter.getAdditionalTaskInfoAsync(List.of(9L, 10L)).values()
+                .forEach(lookup -> assertThat(lookup).isCompletedWithValue(Optional.of(INFO)));
+        assertThat(delegateCalls.get()).isEqualTo(8);
+    }
+
+    private ResilientExternalServiceAdapter adapter(ExternalServicePort delegate, int maxConcurrentCalls,
+                                                    Duration openDuration) {
+        ExternalServicePort counting = taskId -> {
+            delegateCalls.incrementAndGet();
+            return delegate.getAdditionalTaskInfoAsync(taskId);
+        };
+        return new ResilientExternalServiceAdapter(counting, maxConcurrentCalls, Duration.ofMillis(100),
+                Duration.ofSeconds(1), 0.5, 4, openDuration, 2);
+    }
+}
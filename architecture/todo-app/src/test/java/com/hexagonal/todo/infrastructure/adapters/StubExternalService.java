@@ -0,0 +1,115 @@
+package com.hexagonal.todo.infrastructure.adapters;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local stand-in for the external user service, serving GET /tasks/{id}/info.
+ * Ids can be marked missing (404) or failing (500), and every response can be delayed.
+ */
+public class StubExternalService implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Set<Long> missingIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> failingIds = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxConcurrentRequests = new AtomicInteger();
+    private volatile Duration delay = Duration.ZERO;
+
+    public StubExternalService() throws IOException {
+        this(64);
+    }
+
+    public StubExternalService(int threads) throws IOException {
+        // without TCP_NODELAY delayed ACKs dominate the latency of small keep-alive responses
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        executor = Executors.newFixedThreadPool(threads);
+        server.setExecutor(executor);
+        server.createContext("/tasks/", this::handle);
+        server.start();
+    }
+
+    public URI baseUri() {
+        return URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/");
+    }
+
+    public void markMissing(long id) {
+        missingIds.add(id);
+    }
+
+    public void markFailing(long id) {
+        failingIds.add(id);
+    }
+
+    public void setDelay(Duration delay) {
+        this.delay = delay;
+    }
+
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        maxConcurrentRequests.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try (exchange) {
+            String[] segments = exchange.getRequestURI().getPath().split("/");
+            if (segments.length != 4 || !"info".equals(segments[3])) {
+                send(exchange, 404, "{}");
+                return;
+            }
+            long id = Long.parseLong(segments[2]);
+            if (!delay.isZero()) {
+                Thread.sleep(delay.toMillis());
+            }
+            if (missingIds.contains(id)) {
+                send(exchange, 404, "{}");
+                return;
+            }
+            if (failingIds.contains(id)) {
+                send(exchange, 500, "{}");
+                return;
+            }
+            send(exchange, 200, "{\"userId\":" + id + ",\"userName\":\"user-" + id
+                    + "\",\"userEmail\":\"user-" + id + "@example.com\"}");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
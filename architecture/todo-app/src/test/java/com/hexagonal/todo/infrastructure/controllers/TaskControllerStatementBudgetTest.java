@@ -0,0 +1,204 @@
+package com.hexagonal.todo.infrastructure.controllers;
+
+import com.hexagonal.todo.infrastructure.adapters.StubExternalService;
+import com.hexagonal.todo.infrastructure.repositories.SqlStatementCounter;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.assertj.MockMvcTester;
+import org.springframework.test.web.servlet.assertj.MvcTestResult;
+import org.springframework.test.web.servlet.assertj.MvcTestResultAssert;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts the SQL statements each TaskController endpoint sends to a real Postgres and fails when one goes over its
+ * budget, so a removed round trip cannot silently come back. A JDBC batch counts as one statement, and a read
+ * served by the task cache issues none, so budgets are upper bounds. Statements are read from
+ * {@link SqlStatementCounter#total()}, since exports and batch lookups finish on async request threads.
+ * Skipped when Docker is unavailable.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Testcontainers(disabledWithoutDocker = true)
+class TaskControllerStatementBudgetTest {
+
+    private static final int SEEDED_TASKS = 20;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine");
+
+    static StubExternalService externalService = startExternalService();
+
+    @DynamicPropertySource
+    static void externalServiceProperties(DynamicPropertyRegistry registry) {
+        registry.add("todo.external-service.base-url", () -> externalService.baseUri().toString());
+    }
+
+    @Autowired
+    private MockMvcTester mvc;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private List<Long> ids;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute("truncate tasks");
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate("insert into tasks (title, description, creation_date, completed) values (?, ?, ?, ?)",
+                IntStream.range(0, SEEDED_TASKS)
+                        .mapToObj(i -> new Object[] {"Task " + i, "Seeded task", now, i % 2 == 0})
+                        .toList());
+        ids = jdbcTemplate.queryForList("select id from tasks order by id", Long.class);
+    }
+
+    @AfterAll
+    static void stopExternalService() {
+        externalService.close();
+    }
+
+    @Test
+    void createTask() {
+        assertStatements(1, mvc.post().uri("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"Buy milk\",\"description\":\"Two litres\"}"))
+                .hasStatus(HttpStatus.CREATED);
+    }
+
+    @Test
+    void createTasksSendsOneBatch() {
+        assertStatements(1, mvc.post().uri("/api/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"title\":\"a\"},{\"title\":\"b\"},{\"title\":\"c\"}]"))
+                .hasStatus(HttpStatus.CREATED);
+    }
+
+    @Test
+    void listTasks() {
+        assertStatements(1, mvc.get().uri("/api/tasks?completed=false&titlePrefix=Task&limit=5"))
+                .hasStatusOk();
+    }
+
+    @Test
+    void searchTasks() {
+        assertStatements(1, mvc.get().uri("/api/tasks/search?q=seeded&limit=5"))
+                .hasStatusOk();
+    }
+
+    @Test
+    void exportTasks() {
+        assertStatements(1, mvc.get().uri("/api/tasks/export"))
+                .hasStatusOk();
+    }
+
+    @Test
+    void getTask() {
+        assertStatements(1, mvc.get().uri("/api/tasks/{id}", ids.get(0)))
+                .hasStatusOk();
+    }
+
+    @Test
+    void updateTask() {
+        assertStatements(1, mvc.put().uri("/api/tasks/{id}", ids.get(0))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"Renamed\",\"description\":\"Changed\",\"completed\":true}"))
+                .hasStatusOk();
+    }
+
+    @Test
+    void updateMissingTask() {
+        assertStatements(1, mvc.put().uri("/api/tasks/{id}", Long.MAX_VALUE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"Renamed\"}"))
+                .hasStatus(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void deleteTask() {
+        assertStatements(1, mvc.delete().uri("/api/tasks/{id}", ids.get(0)))
+                .hasStatus(HttpStatus.NO_CONTENT);
+    }
+
+    @Test
+    void deleteTasksById() {
+        assertStatements(1, mvc.delete().uri("/api/tasks/batch?ids={ids}", join(ids.subList(0, 10))))
+                .hasStatusOk();
+    }
+
+    @Test
+    void deleteTasksByFilter() {
+        assertStatements(1, mvc.delete().uri("/api/tasks?completed=true"))
+                .hasStatusOk();
+    }
+
+    @Test
+    void markTaskAsCompleted() {
+        assertStatements(1, mvc.patch().uri("/api/tasks/{id}/complete", ids.get(1)))
+                .hasStatusOk();
+    }
+
+    @Test
+    void markMissingTaskAsCompleted() {
+        assertStatements(1, mvc.patch().uri("/api/tasks/{id}/complete", Long.MAX_VALUE))
+                .hasStatus(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void markTasksAsCompleted() {
+        assertStatements(1, mvc.patch().uri("/api/tasks/complete?titlePrefix=Task"))
+                .hasStatusOk();
+    }
+
+    @Test
+    void getAdditionalTaskInfo() {
+        assertStatements(1, mvc.get().uri("/api/tasks/{id}/info", ids.get(0)))
+                .hasStatusOk();
+    }
+
+    @Test
+    void getAdditionalTaskInfoBatch() {
+        assertStatements(1, mvc.get().uri("/api/tasks/info?ids={ids}", join(ids)))
+                .hasStatusOk();
+    }
+
+    private static MvcTestResultAssert assertStatements(int budget, MockMvcTester.MockMvcRequestBuilder request) {
+        long before = SqlStatementCounter.total();
+        MvcTestResult result = request.exchange();
+        assertThat(SqlStatementCounter.total() - before).as("SQL statements").isLessThanOrEqualTo(budget);
+        return assertThat(result);
+    }
+
+    private static String join(List<Long> ids) {
+        return ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    private static StubExternalService startExternalService() {
+        try {
+            return new StubExternalService();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.hexagonal.todo.infrastructure.jfr;
+
+import com.hexagonal.todo.domain.models.Task;
+import com.hexagonal.todo.infrastructure.metrics.MeteredTaskRepositoryAdapter;
+import com.hexagonal.todo.infrastructure.repositories.InMemoryTaskRepositoryAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FlightRecordingManagerTest {
+
+    private final FlightRecordingManager manager = new FlightRecordingManager();
+
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    void closeManager() {
+        manager.close();
+    }
+
+    @Test
+    void recordsPortEventsWithTheirTaskIdUntilStopped() throws Exception {
+        MeteredTaskRepositoryAdapter repository =
+                new MeteredTaskRepositoryAdapter(new InMemoryTaskRepositoryAdapter(), new SimpleMeterRegistry());
+
+        assertThat(manager.start(Duration.ZERO, Duration.ofMinutes(1), 10_000_000)).isPresent();
+        Task saved = repository.save(new Task(null, "Buy milk", null, LocalDateTime.now(), false));
+        repository.findById(saved.getId());
+        Path file = directory.resolve("recording.jfr");
+        try (InputStream data = manager.stop().orElseThrow()) {
+            Files.copy(data, file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("com.hexagonal.todo.Port"))
+                .toList();
+        assertThat(events)
+                .anySatisfy(event -> {
+                    assertThat(event.getString("component")).isEqualTo("TaskRepositoryPort");
+                    assertThat(event.getString("operation")).isEqualTo("findById");
+                    assertThat(event.getLong("taskId")).isEqualTo(saved.getId());
+                    assertThat(event.getString("outcome")).isEqualTo("success");
+                    assertThat(event.getLong("statementCount")).isZero();
+                });
+        assertThat(manager.current()).isEmpty();
+        assertThat(manager.stop()).isEmpty();
+    }
+
+    @Test
+    void startsOnlyOneRecordingAtATime() {
+        assertThat(manager.start(Duration.ofMillis(1), Duration.ofMinutes(1), 10_000_000)).isPresent();
+
+        assertThat(manager.start(Duration.ZERO, Duration.ofMinutes(1), 10_000_000)).isEmpty();
+        assertThat(manager.current()).isPresent();
+    }
+
+    @Test
+    void recordsOnlyTheTaskEvents() throws Exception {
+        MeteredTaskRepositoryAdapter repository =
+                new MeteredTaskRepositoryAdapter(new InMemoryTaskRepositoryAdapter(), new SimpleMeterRegistry());
+
+        assertThat(manager.start(Duration.ZERO, Duration.ofMinutes(1), 10_000_000)).isPresent();
+        repository.findAll();
+        Path file = directory.resolve("dump.jfr");
+        try (InputStream data = manager.dump().orElseThrow()) {
+            Files.copy(data, file);
+        }
+
+        assertThat(RecordingFile.readAllEvents(file))
+                .isNotEmpty()
+                .allSatisfy(event -> assertThat(event.getEventType().getName()).startsWith("com.hexagonal.todo."));
+        assertThat(manager.current()).isPresent();
+    }
+
+    @Test
+    void rejectsANonPositiveMaxSize() {
+        assertThatThrownBy(() -> manager.start(Duration.ZERO, Duration.ofMinutes(1), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
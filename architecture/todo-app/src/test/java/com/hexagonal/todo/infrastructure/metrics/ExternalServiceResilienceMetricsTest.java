@@ -0,0 +1,46 @@
+package com.hexagonal.todo.infrastructure.metrics;
+
+import com.hexagonal.todo.domain.exceptions.ExternalServiceException;
+import com.hexagonal.todo.domain.exceptions.ExternalServiceUnavailableException;
+import com.hexagonal.todo.infrastructure.adapters.ResilientExternalServiceAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExternalServiceResilienceMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void publishesTheBreakerStateAndItsRejections() {
+        ResilientExternalServiceAdapter adapter = new ResilientExternalServiceAdapter(
+                taskId -> CompletableFuture.failedFuture(new ExternalServiceException("down")),
+                10, Duration.ofMillis(100), Duration.ofSeconds(1), 0.5, 4, Duration.ofSeconds(10), 2);
+        new ExternalServiceResilienceMetrics(adapter).bindTo(registry);
+        assertThat(state("closed")).isEqualTo(1);
+
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> adapter.getAdditionalTaskInfo(1L)).isInstanceOf(ExternalServiceException.class);
+        }
+        assertThatThrownBy(() -> adapter.getAdditionalTaskInfo(1L))
+                .isInstanceOf(ExternalServiceUnavailableException.class);
+
+        assertThat(state("closed")).isZero();
+        assertThat(state("open")).isEqualTo(1);
+        assertThat(registry.get("todo.external.rejections").tag("reason", "circuit_open").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(registry.get("todo.external.rejections").tag("reason", "bulkhead").functionCounter().count())
+                .isZero();
+        assertThat(registry.get("todo.external.deadline.exceeded").functionCounter().count()).isZero();
+        assertThat(registry.get("todo.external.bulkhead.available").gauge().value()).isEqualTo(10);
+    }
+
+    private double state(String state) {
+        return registry.get("todo.external.circuit.state").tag("state", state).gauge().value();
+    }
+}
@@ -0,0 +1,49 @@
+package com.hexagonal.todo.infrastructure.metrics;
+
+import com.hexagonal.todo.domain.exceptions.ExternalServiceUnavailableException;
+import com.hexagonal.todo.domain.models.AdditionalTaskInfo;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MeteredExternalServiceAdapterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void timesLookupsUntilTheirFuturesComplete() {
+        CompletableFuture<Optional<AdditionalTaskInfo>> pending = new CompletableFuture<>();
+        MeteredExternalServiceAdapter adapter = new MeteredExternalServiceAdapter(taskId -> pending, registry);
+
+        adapter.getAdditionalTaskInfoAsync(1L);
+        assertThat(timer("getAdditionalTaskInfo", "success", "none").count()).isZero();
+
+        pending.complete(Optional.empty());
+        assertThat(timer("getAdditionalTaskInfo", "success", "none").count()).isEqualTo(1);
+    }
+
+    @Test
+    void recordsEachFailedLookupOfABatch() {
+        MeteredExternalServiceAdapter adapter = new MeteredExternalServiceAdapter(taskId -> taskId == 2L
+                ? CompletableFuture.failedFuture(new ExternalServiceUnavailableException("down"))
+                : CompletableFuture.completedFuture(Optional.empty()), registry);
+
+        adapter.getAdditionalTaskInfoAsync(List.of(1L, 2L, 3L));
+
+        assertThat(timer("getAdditionalTaskInfoBatch", "success", "none").count()).isEqualTo(2);
+        assertThat(timer("getAdditionalTaskInfoBatch", "error", "ExternalServiceUnavailableException").count())
+                .isEqualTo(1);
+    }
+
+    private Timer timer(String method, String outcome, String exception) {
+        return registry.get("todo.port")
+                .tags("port", "ExternalServicePort", "method", method, "outcome", outcome, "exception", exception)
+                .timer();
+    }
+}
@@ -0,0 +1,54 @@
+package com.hexagonal.todo.infrastructure.metrics;
+
+import com.hexagonal.todo.domain.exceptions.TaskStoreOverloadedException;
+import com.hexagonal.todo.domain.models.Task;
+import com.hexagonal.todo.infrastructure.repositories.InMemoryTaskRepositoryAdapter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MeteredTaskRepositoryAdapterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void recordsSuccessfulCallsPerMethod() {
+        MeteredTaskRepositoryAdapter adapter =
+                new MeteredTaskRepositoryAdapter(new InMemoryTaskRepositoryAdapter(), registry);
+
+        Task saved = adapter.save(new Task(null, "Buy milk", null, LocalDateTime.now(), false));
+        adapter.findById(saved.getId());
+        adapter.findById(saved.getId() + 1);
+
+        assertThat(timer("save", "success", "none").count()).isEqualTo(1);
+        assertThat(timer("findById", "success", "none").count()).isEqualTo(2);
+        assertThat(timer("deleteById", "success", "none").count()).isZero();
+    }
+
+    @Test
+    void recordsFailuresByExceptionAndRethrows() {
+        MeteredTaskRepositoryAdapter adapter = new MeteredTaskRepositoryAdapter(new InMemoryTaskRepositoryAdapter() {
+            @Override
+            public Task save(Task task) {
+                throw new TaskStoreOverloadedException("full");
+            }
+        }, registry);
+
+        assertThatThrownBy(() -> adapter.save(new Task(null, "a", null, LocalDateTime.now(), false)))
+                .isInstanceOf(TaskStoreOverloadedException.class);
+
+        assertThat(timer("save", "error", "TaskStoreOverloadedException").count()).isEqualTo(1);
+        assertThat(timer("save", "success", "none").count()).isZero();
+    }
+
+    private Timer timer(String method, String outcome, String exception) {
+        return registry.get("todo.port")
+                .tags("port", "TaskRepositoryPort", "method", method, "outcome", outcome, "exception", exception)
+                .timer();
+    }
+}
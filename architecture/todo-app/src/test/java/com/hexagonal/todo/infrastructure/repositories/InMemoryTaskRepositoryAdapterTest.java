@@ -0,0 +1,77 @@
+package com.hexagonal.todo.infrastructure.repositories;
+
+import com.hexagonal.todo.domain.models.Task;
+import com.hexagonal.todo.domain.ports.out.TaskRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryTaskRepositoryAdapterTest extends TaskRepositoryPortContractTest {
+
+    private InMemoryTaskRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new InMemoryTaskRepositoryAdapter();
+    }
+
+    @Override
+    protected TaskRepositoryPort repository() {
+        return adapter;
+    }
+
+    @Test
+    void concurrentSavesGetDistinctIds() throws Exception {
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                writers.add(executor.submit(() -> {
+                    for (int j = 0; j < 1000; j++) {
+                        ids.add(adapter.save(new Task(null, "t", null, LocalDateTime.now(), false)).getId());
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(ids).hasSize(8000);
+        assertThat(adapter.findAll()).hasSize(8000);
+    }
+
+    @Test
+    void returnedTasksAreCopies() {
+        Task saved = adapter.save(new Task(null, "original", null, LocalDateTime.now(), false));
+
+        saved.setTitle("changed");
+        adapter.findById(saved.getId()).orElseThrow().setTitle("changed again");
+
+        assertThat(adapter.findById(saved.getId()).orElseThrow().getTitle()).isEqualTo("original");
+    }
+
+    @Test
+    void searchRanksTitleMatchesFirst() {
+        Task inDescription = adapter.save(new Task(null, "Errands", "buy milk", LocalDateTime.now(), false));
+        Task inTitle = adapter.save(new Task(null, "Milk run", null, LocalDateTime.now(), false));
+        adapter.save(new Task(null, "Report", "quarterly", LocalDateTime.now(), false));
+
+        assertThat(adapter.search("milk", 0, 10)).extracting(Task::getId)
+                .containsExactly(inTitle.getId(), inDescription.getId());
+        assertThat(adapter.search("milk", 1, 10)).extracting(Task::getId).containsExactly(inDescription.getId());
+    }
+}
@@ -0,0 +1,136 @@
+package com.hexagonal.todo.infrastructure.repositories;
+
+import com.hexagonal.todo.application.usecases.SearchTasksUseCaseImpl;
+import com.hexagonal.todo.domain.models.Task;
+import com.hexagonal.todo.domain.models.TaskPage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the ranked search and the V4-V6 search_vector migrations against a real Postgres. Skipped when Docker is
+ * unavailable.
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+class JdbcTaskSearchAdapterTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2024, 3, 1, 12, 0);
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private JdbcTaskSearchAdapter adapter;
+    private SearchTasksUseCaseImpl useCase;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("truncate tasks restart identity");
+        adapter = new JdbcTaskSearchAdapter(jdbcTemplate);
+        useCase = new SearchTasksUseCaseImpl(adapter);
+    }
+
+    @Test
+    void ranksTitleMatchesAboveDescriptionMatches() {
+        long inDescription = insert("Weekly chores", "pay the invoice");
+        long inTitle = insert("Pay invoice", "before Friday");
+        insert("Water plants", null);
+
+        assertThat(ids(adapter.search("invoice", 0, 10))).containsExactly(inTitle, inDescription);
+    }
+
+    @Test
+    void acceptsWebSearchSyntax() {
+        long paintFence = insert("Paint fence", null);
+        long fencePaint = insert("Fence paint shopping", null);
+        long garage = insert("Tidy garage", null);
+
+        assertThat(ids(adapter.search("\"paint fence\"", 0, 10))).containsExactly(paintFence);
+        assertThat(ids(adapter.search("fence -shopping", 0, 10))).containsExactly(paintFence);
+        assertThat(ids(adapter.search("garage or shopping", 0, 10))).containsExactlyInAnyOrder(fencePaint, garage);
+        assertThat(adapter.search("\"unbalanced (( or -", 0, 10)).isEmpty();
+    }
+
+    @Test
+    void pagesVisitEveryMatchOnceInRankOrder() {
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            expected.add(insert("Quarterly report " + i, null));
+        }
+        List<Long> tied = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            tied.add(insert("Chore " + i, "finish the report"));
+        }
+        insert("Unrelated", null);
+        expected.addAll(tied);
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            TaskPage page = useCase.searchTasks("report", cursor, 10);
+            seen.addAll(ids(page.getTasks()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(seen).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void triggerKeepsTheVectorCurrentOnInsertAndUpdate() {
+        long id = insert("Call dentist", null);
+        assertThat(ids(adapter.search("dentist", 0, 10))).containsExactly(id);
+
+        jdbcTemplate.update("update tasks set title = ? where id = ?", "Call plumber", id);
+        assertThat(adapter.search("dentist", 0, 10)).isEmpty();
+        assertThat(ids(adapter.search("plumber", 0, 10))).containsExactly(id);
+
+        jdbcTemplate.update("update tasks set description = ? where id = ?", "leaking sink", id);
+        assertThat(ids(adapter.search("sink", 0, 10))).containsExactly(id);
+    }
+
+    @Test
+    void backfillFillsVectorsOfRowsWrittenWithoutTheTrigger() throws IOException {
+        jdbcTemplate.execute("alter table tasks disable trigger tasks_search_vector_update");
+        long id;
+        try {
+            id = insert("Renew passport", null);
+        } finally {
+            jdbcTemplate.execute("alter table tasks enable trigger tasks_search_vector_update");
+        }
+        assertThat(adapter.search("passport", 0, 10)).isEmpty();
+
+        jdbcTemplate.execute(new ClassPathResource("db/migration/V5__backfill_task_search_vector.sql")
+                .getContentAsString(StandardCharsets.UTF_8));
+
+        assertThat(ids(adapter.search("passport", 0, 10))).containsExactly(id);
+    }
+
+    private long insert(String title, String description) {
+        return jdbcTemplate.queryForObject(
+                "insert into tasks (title, description, creation_date, completed) values (?, ?, ?, false) returning id",
+                Long.class, title, description, NOON);
+    }
+
+    private static List<Long> ids(List<Task> tasks) {
+        return tasks.stream().map(Task::getId).toList();
+    }
+}
@@ -0,0 +1,47 @@
+package com.hexagonal.todo.infrastructure.repositories;
+
+import com.hexagonal.todo.domain.ports.out.TaskRepositoryPort;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+/**
+ * Runs the repository contract against a real Postgres with the Flyway schema. Skipped when Docker is unavailable.
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+class JpaTaskRepositoryAdapterTest extends TaskRepositoryPortContractTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine");
+
+    @Autowired
+    private JpaTaskRepository jpaTaskRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private JpaTaskRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("truncate tasks restart identity");
+        adapter = new JpaTaskRepositoryAdapter(jpaTaskRepository, entityManager, jdbcTemplate, transactionManager);
+    }
+
+    @Override
+    protected TaskRepositoryPort repository() {
+        return adapter;
+    }
+}
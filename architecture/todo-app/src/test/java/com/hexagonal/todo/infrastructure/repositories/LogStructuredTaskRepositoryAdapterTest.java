@@ -0,0 +1,204 @@
+package com.hexagonal.todo.infrastructure.repositories;
+
+import com.hexagonal.todo.domain.models.Task;
+import com.hexagonal.todo.domain.models.TaskCursor;
+import com.hexagonal.todo.domain.models.TaskFilter;
+import com.hexagonal.todo.domain.models.TaskSort;
+import com.hexagonal.todo.domain.ports.out.TaskRepositoryPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LogStructuredTaskRepositoryAdapterTest extends TaskRepositoryPortContractTest {
+
+    private static final int SEGMENT_SIZE = 4096;
+    private static final Duration NEVER = Duration.ofMinutes(10);
+    private static final LocalDateTime NOON = LocalDateTime.of(2024, 3, 1, 12, 0);
+
+    @TempDir
+    private Path directory;
+
+    private LogStructuredTaskRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = open();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        adapter.close();
+    }
+
+    @Override
+    protected TaskRepositoryPort repository() {
+        return adapter;
+    }
+
+    @Test
+    void restartLoadsTheCheckpoint() throws Exception {
+        Task kept = adapter.save(task("kept"));
+        Task deleted = adapter.save(task("deleted"));
+        adapter.markCompleted(kept.getId());
+        adapter.deleteById(deleted.getId());
+
+        reopen();
+
+        assertThat(adapter.findAll()).singleElement().satisfies(found -> {
+            assertThat(found.getId()).isEqualTo(kept.getId());
+            assertThat(found.getCompleted()).isTrue();
+            assertThat(found.getCreationDate()).isEqualTo(NOON);
+        });
+        assertThat(adapter.save(task("next")).getId()).isGreaterThan(deleted.getId());
+    }
+
+    @Test
+    void restartWithoutACheckpointReplaysTheWholeLog() throws Exception {
+        adapter.saveAll(List.of(task("a"), task("b"), task("c")));
+        adapter.deleteById(2L);
+        adapter.close();
+        Files.delete(directory.resolve("index.checkpoint"));
+
+        adapter = open();
+
+        assertThat(adapter.findAll()).extracting(Task::getTitle).containsExactly("a", "c");
+    }
+
+    @Test
+    void replayStopsAtACorruptRecord() throws Exception {
+        Task first = task("first");
+        Task second = task("second");
+        adapter.saveAll(List.of(first, second, task("third")));
+        adapter.close();
+        Files.delete(directory.resolve("index.checkpoint"));
+        int third = TaskRecordCodec.put(new Task(1L, "first", null, NOON, false)).length
+                + TaskRecordCodec.put(new Task(2L, "second", null, NOON, false)).length;
+        try (FileChannel segment = FileChannel.open(directory.resolve("segment-000000000001.log"),
+                StandardOpenOption.WRITE)) {
+            segment.write(ByteBuffer.wrap(new byte[] {(byte) 0xFF}), third + TaskRecordCodec.HEADER_BYTES + 3);
+        }
+
+        adapter = open();
+
+        assertThat(adapter.findAll()).extracting(Task::getTitle).containsExactly("first", "second");
+        Task saved = adapter.save(task("after recovery"));
+        reopen();
+        assertThat(adapter.findById(saved.getId())).isPresent();
+    }
+
+    @Test
+    void compactionDropsSupersededRecordsAndKeepsLiveTasks() throws Exception {
+        Task task = adapter.save(task("v0"));
+        Task untouched = adapter.save(task("untouched"));
+        Task deleted = adapter.save(task("deleted"));
+        adapter.deleteById(deleted.getId());
+        for (int i = 1; i <= 500; i++) {
+            adapter.update(task.getId(), new Task(task.getId(), "v" + i, null, null, false));
+        }
+        assertThat(adapter.getSegmentCount()).isGreaterThan(2);
+        assertThat(adapter.getGarbageRatio()).isGreaterThan(0.9);
+
+        adapter.compact();
+
+        assertThat(adapter.getSegmentCount()).isEqualTo(1);
+        assertThat(adapter.getGarbageRatio()).isZero();
+        reopen();
+        assertThat(adapter.findAll()).extracting(Task::getTitle).containsExactly("v500", "untouched");
+        assertThat(adapter.existsById(deleted.getId())).isFalse();
+        assertThat(adapter.findById(untouched.getId())).isPresent();
+    }
+
+    @Test
+    void rejectsATaskLargerThanASegment() {
+        assertThatThrownBy(() -> adapter.save(new Task(null, "big", "x".repeat(SEGMENT_SIZE), NOON, false)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(adapter.findAll()).isEmpty();
+    }
+
+    @Test
+    void refusesADirectoryThatIsAlreadyOpen() throws Exception {
+        Task saved = adapter.save(task("a"));
+
+        assertThatThrownBy(this::open)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("already open");
+
+        reopen();
+        assertThat(adapter.findById(saved.getId())).isPresent();
+    }
+
+    @Test
+    void pagesInIdOrderSkipDeletedAndSparseIds() {
+        List<Task> saved = adapter.saveAll(List.of(task("a"), task("b"), task("c"), task("d"), task("e")));
+        adapter.deleteById(saved.get(1).getId());
+        adapter.markCompleted(saved.get(2).getId());
+        TaskFilter open = new TaskFilter(false, null, null, null, null);
+
+        List<Task> first = adapter.findPage(open, TaskSort.ID_ASC, null, 2);
+        List<Task> rest = adapter.findPage(open, TaskSort.ID_ASC,
+                new TaskCursor(NOON, first.get(1).getId()), 2);
+        assertThat(first).extracting(Task::getTitle).containsExactly("a", "d");
+        assertThat(rest).extracting(Task::getTitle).containsExactly("e");
+
+        adapter.save(new Task(1_000_000L, "far", null, NOON, false));
+        assertThat(adapter.findPage(open, TaskSort.ID_DESC, null, 2))
+                .extracting(Task::getTitle).containsExactly("far", "e");
+    }
+
+    @Test
+    void concurrentWritersAreAllDurable() throws Exception {
+        int writers = 8;
+        int tasksPerWriter = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int writer = 0; writer < writers; writer++) {
+                String prefix = "w" + writer + "-";
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < tasksPerWriter; i++) {
+                        adapter.save(task(prefix + i));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        reopen();
+
+        assertThat(adapter.findAll()).hasSize(writers * tasksPerWriter);
+    }
+
+    private void reopen() throws Exception {
+        adapter.close();
+        adapter = open();
+    }
+
+    private LogStructuredTaskRepositoryAdapter open() {
+        return new LogStructuredTaskRepositoryAdapter(directory, SEGMENT_SIZE, true, 0.5, NEVER);
+    }
+
+    private static Task task(String title) {
+        return new Task(null, title, null, NOON, false);
+    }
+}
@@ -0,0 +1,209 @@
+package com.hexagonal.todo.infrastructure.repositories;
+
+import com.hexagonal.todo.domain.models.Task;
+import com.hexagonal.todo.domain.models.TaskCursor;
+import com.hexagonal.todo.domain.models.TaskFilter;
+import com.hexagonal.todo.domain.models.TaskSort;
+import com.hexagonal.todo.domain.ports.out.TaskRepositoryPort;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Behaviour every {@link TaskRepositoryPort} implementation must share. Subclasses supply an empty repository.
+ */
+abstract class TaskRepositoryPortContractTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2024, 3, 1, 12, 0);
+    private static final TaskFilter NO_FILTER = new TaskFilter(null, null, null, null, null);
+
+    protected abstract TaskRepositoryPort repository();
+
+    @Test
+    void savedTaskCanBeFoundById() {
+        Task saved = repository().save(task("Buy milk", NOON, false));
+
+        assertThat(saved.getId()).isNotNull();
+        assertThat(repository().findById(saved.getId())).hasValueSatisfying(found -> {
+            assertThat(found.getTitle()).isEqualTo("Buy milk");
+            assertThat(found.getCreationDate()).isEqualTo(NOON);
+            assertThat(found.getCompleted()).isFalse();
+        });
+    }
+
+    @Test
+    void unknownIdIsNotFound() {
+        assertThat(repository().findById(42L)).isEmpty();
+        assertThat(repository().existsById(42L)).isFalse();
+    }
+
+    @Test
+    void saveAllReturnsTasksWithIncreasingIdsInInputOrder() {
+        List<Task> saved = repository().saveAll(List.of(
+                task("a", NOON, false), task("b", NOON, false), task("c", NOON, false)));
+
+        assertThat(saved).extracting(Task::getTitle).containsExactly("a", "b", "c");
+        assertThat(saved).extracting(Task::getId).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void findExistingIdsReturnsOnlyStoredIds() {
+        Task saved = repository().save(task("a", NOON, false));
+
+        assertThat(repository().existsById(saved.getId())).isTrue();
+        assertThat(repository().findExistingIds(List.of(saved.getId(), saved.getId() + 1000)))
+                .containsExactly(saved.getId());
+    }
+
+    @Test
+    void findAllAndStreamAllReturnTasksInIdOrder() {
+        List<Task> saved = saveNumbered(5);
+        List<Task> streamed = new ArrayList<>();
+
+        repository().streamAll(streamed::add);
+
+        assertThat(repository().findAll()).extracting(Task::getId).containsExactlyElementsOf(ids(saved));
+        assertThat(streamed).extracting(Task::getId).containsExactlyElementsOf(ids(saved));
+    }
+
+    @Test
+    void pagesByIdFollowTheCursor() {
+        List<Task> saved = saveNumbered(5);
+
+        List<Task> first = repository().findPage(NO_FILTER, TaskSort.ID_ASC, null, 2);
+        List<Task> second = repository().findPage(NO_FILTER, TaskSort.ID_ASC, cursor(first), 2);
+        List<Task> last = repository().findPage(NO_FILTER, TaskSort.ID_ASC, cursor(second), 2);
+
+        assertThat(first).extracting(Task::getId).containsExactlyElementsOf(ids(saved.subList(0, 2)));
+        assertThat(second).extracting(Task::getId).containsExactlyElementsOf(ids(saved.subList(2, 4)));
+        assertThat(last).extracting(Task::getId).containsExactlyElementsOf(ids(saved.subList(4, 5)));
+    }
+
+    @Test
+    void pagesByCreationDateDescendingBreakTiesById() {
+        Task older = repository().save(task("older", NOON.minusDays(1), false));
+        Task sameA = repository().save(task("same a", NOON, false));
+        Task sameB = repository().save(task("same b", NOON, false));
+
+        List<Task> first = repository().findPage(NO_FILTER, TaskSort.CREATION_DATE_DESC, null, 2);
+        List<Task> rest = repository().findPage(NO_FILTER, TaskSort.CREATION_DATE_DESC, cursor(first), 2);
+
+        assertThat(first).extracting(Task::getId).containsExactly(sameB.getId(), sameA.getId());
+        assertThat(rest).extracting(Task::getId).containsExactly(older.getId());
+    }
+
+    @Test
+    void pagesApplyEveryFilter() {
+        repository().save(task("Report draft", NOON.minusDays(2), false));
+        Task match = repository().save(task("Report final", NOON, false));
+        repository().save(task("Report done", NOON, true));
+        repository().save(task("Shopping", NOON, false));
+        repository().save(task("Report late", NOON.plusDays(2), false));
+
+        TaskFilter filter = new TaskFilter(false, NOON.minusDays(1), NOON.plusDays(1), "Report", null);
+
+        assertThat(repository().findPage(filter, TaskSort.ID_ASC, null, 10))
+                .extracting(Task::getId).containsExactly(match.getId());
+    }
+
+    @Test
+    void pagesFilterByIds() {
+        List<Task> saved = saveNumbered(4);
+        TaskFilter filter = new TaskFilter(null, null, null, null, List.of(saved.get(1).getId(), saved.get(3).getId()));
+
+        assertThat(repository().findPage(filter, TaskSort.ID_DESC, null, 10))
+                .extracting(Task::getId).containsExactly(saved.get(3).getId(), saved.get(1).getId());
+    }
+
+    @Test
+    void updateReplacesFieldsButKeepsCreationDate() {
+        Task saved = repository().save(task("old", NOON, false));
+
+        assertThat(repository().update(saved.getId(), new Task(saved.getId(), "new", "details", NOON.plusDays(5), true)))
+                .hasValueSatisfying(updated -> {
+                    assertThat(updated.getTitle()).isEqualTo("new");
+                    assertThat(updated.getDescription()).isEqualTo("details");
+                    assertThat(updated.getCompleted()).isTrue();
+                    assertThat(updated.getCreationDate()).isEqualTo(NOON);
+                });
+        assertThat(repository().findById(saved.getId()).orElseThrow().getTitle()).isEqualTo("new");
+    }
+
+    @Test
+    void updateAndCompleteOfUnknownIdAreEmpty() {
+        assertThat(repository().update(42L, task("new", NOON, false))).isEmpty();
+        assertThat(repository().markCompleted(42L)).isEmpty();
+    }
+
+    @Test
+    void markCompletedCompletesOneTask() {
+        Task saved = repository().save(task("a", NOON, false));
+
+        assertThat(repository().markCompleted(saved.getId())).hasValueSatisfying(
+                completed -> assertThat(completed.getCompleted()).isTrue());
+        assertThat(repository().findById(saved.getId()).orElseThrow().getCompleted()).isTrue();
+    }
+
+    @Test
+    void completeAllCountsOnlyTasksItChanged() {
+        repository().save(task("Report a", NOON, false));
+        repository().save(task("Report b", NOON, true));
+        Task other = repository().save(task("Other", NOON, false));
+
+        assertThat(repository().completeAll(new TaskFilter(null, null, null, "Report", null))).isEqualTo(1);
+        assertThat(repository().findById(other.getId()).orElseThrow().getCompleted()).isFalse();
+    }
+
+    @Test
+    void deleteByIdReportsWhetherTheTaskExisted() {
+        Task saved = repository().save(task("a", NOON, false));
+
+        assertThat(repository().deleteById(saved.getId())).isTrue();
+        assertThat(repository().deleteById(saved.getId())).isFalse();
+        assertThat(repository().findById(saved.getId())).isEmpty();
+    }
+
+    @Test
+    void deleteAllByIdCountsDeletedTasks() {
+        List<Task> saved = saveNumbered(3);
+
+        assertThat(repository().deleteAllById(List.of(saved.get(0).getId(), saved.get(2).getId(), 999_999L)))
+                .isEqualTo(2);
+        assertThat(repository().findAll()).extracting(Task::getId).containsExactly(saved.get(1).getId());
+    }
+
+    @Test
+    void deleteAllRemovesMatchingTasks() {
+        repository().save(task("a", NOON, true));
+        repository().save(task("b", NOON, true));
+        Task open = repository().save(task("c", NOON, false));
+
+        assertThat(repository().deleteAll(new TaskFilter(true, null, null, null, null))).isEqualTo(2);
+        assertThat(repository().findAll()).extracting(Task::getId).containsExactly(open.getId());
+    }
+
+    private List<Task> saveNumbered(int count) {
+        List<Task> saved = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            saved.add(repository().save(task("task " + i, NOON.plusMinutes(i), false)));
+        }
+        return saved;
+    }
+
+    private static Task task(String title, LocalDateTime creationDate, boolean completed) {
+        return new Task(null, title, null, creationDate, completed);
+    }
+
+    private static TaskCursor cursor(List<Task> page) {
+        Task last = page.get(page.size() - 1);
+        return new TaskCursor(last.getCreationDate(), last.getId());
+    }
+
+    private static List<Long> ids(List<Task> tasks) {
+        return tasks.stream().map(Task::getId).toList();
+    }
+}
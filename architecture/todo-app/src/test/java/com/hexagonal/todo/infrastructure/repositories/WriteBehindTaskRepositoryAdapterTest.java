@@ -0,0 +1,278 @@
+package com.hexagonal.todo.infrastructure.repositories;
+
+import com.hexagonal.todo.domain.exceptions.TaskStoreOverloadedException;
+import com.hexagonal.todo.domain.models.Task;
+import com.hexagonal.todo.domain.models.TaskFilter;
+import com.hexagonal.todo.domain.models.TaskSort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WriteBehindTaskRepositoryAdapterTest {
+
+    private static final Duration NEVER = Duration.ofMinutes(10);
+
+    @TempDir
+    private Path logDirectory;
+
+    private final InterceptingRepository database = new InterceptingRepository();
+    private final FakeBatchWriter writer = new FakeBatchWriter();
+    private WriteBehindTaskRepositoryAdapter adapter;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        writer.failing = false;
+        if (adapter != null) {
+            adapter.close();
+        }
+    }
+
+    @Test
+    void readsByIdSeeWritesBeforeTheyAreFlushed() {
+        adapter = adapter(100, NEVER, 100);
+
+        Task saved = adapter.save(task("Buy milk"));
+
+        assertThat(adapter.findById(saved.getId())).hasValueSatisfying(
+                found -> assertThat(found.getTitle()).isEqualTo("Buy milk"));
+        assertThat(adapter.existsById(saved.getId())).isTrue();
+        assertThat(database.findById(saved.getId())).isEmpty();
+    }
+
+    @Test
+    void coalescesRepeatedWritesToOneTask() {
+        adapter = adapter(100, NEVER, 100);
+        Task saved = adapter.save(task("v0"));
+
+        for (int i = 1; i <= 10; i++) {
+            adapter.update(saved.getId(), new Task(saved.getId(), "v" + i, null, null, false));
+        }
+        adapter.markCompleted(saved.getId());
+        adapter.flush();
+
+        assertThat(writer.writtenRows.get()).isEqualTo(1);
+        assertThat(database.findById(saved.getId())).hasValueSatisfying(stored -> {
+            assertThat(stored.getTitle()).isEqualTo("v10");
+            assertThat(stored.getCompleted()).isTrue();
+            assertThat(stored.getCreationDate()).isEqualTo(saved.getCreationDate());
+        });
+    }
+
+    @Test
+    void flushesOnceABatchIsFull() throws Exception {
+        adapter = adapter(10, NEVER, 100);
+
+        adapter.saveAll(List.of(task("a"), task("b"), task("c"), task("d"), task("e"),
+                task("f"), task("g"), task("h"), task("i"), task("j")));
+
+        for (int i = 0; i < 100 && adapter.getFlushedBatches() == 0; i++) {
+            Thread.sleep(50);
+        }
+        assertThat(adapter.getFlushedBatches()).isEqualTo(1);
+        assertThat(database.findAll()).hasSize(10);
+    }
+
+    @Test
+    void flushesAfterTheInterval() throws Exception {
+        adapter = adapter(100, Duration.ofMillis(50), 100);
+
+        Task saved = adapter.save(task("a"));
+
+        for (int i = 0; i < 100 && database.findById(saved.getId()).isEmpty(); i++) {
+            Thread.sleep(20);
+        }
+        assertThat(database.findById(saved.getId())).isPresent();
+    }
+
+    @Test
+    void listingsIncludePendingWrites() {
+        adapter = adapter(100, NEVER, 100);
+        Task saved = adapter.save(task("a"));
+
+        assertThat(adapter.findPage(new TaskFilter(null, null, null, null, null), TaskSort.ID_ASC, null, 10))
+                .extracting(Task::getId).containsExactly(saved.getId());
+    }
+
+    @Test
+    void deletesCancelPendingTasks() {
+        adapter = adapter(100, NEVER, 100);
+        Task saved = adapter.save(task("a"));
+
+        assertThat(adapter.deleteById(saved.getId())).isTrue();
+        assertThat(adapter.deleteById(saved.getId())).isFalse();
+        assertThat(adapter.findById(saved.getId())).isEmpty();
+        assertThat(adapter.update(saved.getId(), task("b"))).isEmpty();
+    }
+
+    @Test
+    void rejectsWritesWhileTheBufferStaysFull() {
+        writer.failing = true;
+        adapter = adapter(100, Duration.ofMillis(20), 3);
+        adapter.save(task("a"));
+        adapter.save(task("b"));
+        adapter.save(task("c"));
+
+        assertThatThrownBy(() -> adapter.save(task("d"))).isInstanceOf(TaskStoreOverloadedException.class);
+        assertThat(adapter.getRejectedWrites()).isEqualTo(1);
+    }
+
+    @Test
+    void refusesWritesTheDatabaseWouldRejectBeforeAcknowledgingThem() {
+        adapter = adapter(100, NEVER, 100);
+        Task saved = adapter.save(task("a"));
+
+        assertThatThrownBy(() -> adapter.save(task("x".repeat(FakeBatchWriter.MAX_TITLE_LENGTH + 1))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> adapter.update(saved.getId(),
+                task("x".repeat(FakeBatchWriter.MAX_TITLE_LENGTH + 1))))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(adapter.getPendingWrites()).isEqualTo(1);
+        assertThat(adapter.findById(saved.getId())).hasValueSatisfying(
+                found -> assertThat(found.getTitle()).isEqualTo("a"));
+    }
+
+    @Test
+    void deadLettersWritesThatBreakAConstraintAndFlushesTheRest() {
+        adapter = adapter(100, NEVER, 100);
+        List<Task> saved = adapter.saveAll(List.of(task("a"), task("b"), task(FakeBatchWriter.REJECTED_TITLE),
+                task("c"), task("d")));
+
+        adapter.flush();
+
+        assertThat(database.findAll()).extracting(Task::getTitle).containsExactlyInAnyOrder("a", "b", "c", "d");
+        assertThat(adapter.getDeadLetteredWrites()).isEqualTo(1);
+        assertThat(adapter.getPendingWrites()).isZero();
+        assertThat(adapter.findById(saved.get(2).getId())).isEmpty();
+
+        adapter.save(task("e"));
+        adapter.flush();
+        assertThat(database.findAll()).hasSize(5);
+    }
+
+    @Test
+    void doesNotApplyAChangeToAStateThatWasFlushedOverMeanwhile() {
+        adapter = adapter(100, NEVER, 100);
+        Task saved = adapter.save(task("a"));
+        adapter.flush();
+        database.afterNextRead = () -> {
+            adapter.update(saved.getId(), new Task(saved.getId(), "b", "newer", null, false));
+            adapter.flush();
+        };
+
+        adapter.markCompleted(saved.getId());
+        adapter.flush();
+
+        assertThat(database.findById(saved.getId())).hasValueSatisfying(stored -> {
+            assertThat(stored.getTitle()).isEqualTo("b");
+            assertThat(stored.getDescription()).isEqualTo("newer");
+            assertThat(stored.getCompleted()).isTrue();
+        });
+    }
+
+    @Test
+    void replaysLoggedWritesAfterARestart() throws Exception {
+        writer.failing = true;
+        adapter = adapter(100, Duration.ofMillis(20), 100);
+        Task saved = adapter.save(task("a"));
+        adapter.update(saved.getId(), new Task(saved.getId(), "b", null, null, true));
+        adapter.close();
+
+        writer.failing = false;
+        adapter = adapter(100, NEVER, 100);
+        assertThat(adapter.findById(saved.getId())).isPresent();
+        adapter.flush();
+
+        assertThat(database.findById(saved.getId())).hasValueSatisfying(stored -> {
+            assertThat(stored.getTitle()).isEqualTo("b");
+            assertThat(stored.getCompleted()).isTrue();
+        });
+    }
+
+    private WriteBehindTaskRepositoryAdapter adapter(int batchSize, Duration flushInterval, int maxPending) {
+        return new WriteBehindTaskRepositoryAdapter(database, writer, logDirectory, batchSize, flushInterval,
+                maxPending, Duration.ofMillis(200));
+    }
+
+    private static Task task(String title) {
+        return new Task(null, title, null, LocalDateTime.of(2024, 3, 1, 12, 0), false);
+    }
+
+    /**
+     * Runs a hook once right after a read by id returned, to let another write in between the read and its use.
+     */
+    private static class InterceptingRepository extends InMemoryTaskRepositoryAdapter {
+
+        private Runnable afterNextRead;
+
+        @Override
+        public Optional<Task> findById(Long id) {
+            Optional<Task> found = super.findById(id);
+            Runnable hook = afterNextRead;
+            afterNextRead = null;
+            if (hook != null) {
+                hook.run();
+            }
+            return found;
+        }
+    }
+
+    /**
+     * Applies flushed batches to the in-memory repository that the adapter reads from.
+     */
+    private class FakeBatchWriter implements TaskBatchWriter {
+
+        static final int MAX_TITLE_LENGTH = 20;
+        /**
+         * Passes validation but breaks a constraint when written, like a row hitting a rule only the database knows.
+         */
+        static final String REJECTED_TITLE = "rejected";
+
+        private final AtomicLong sequence = new AtomicLong();
+        private final AtomicInteger writtenRows = new AtomicInteger();
+        private volatile boolean failing;
+
+        @Override
+        public List<Long> reserveIds(int count) {
+            return LongStream.rangeClosed(1, count)
+                    .mapToObj(i -> sequence.incrementAndGet())
+                    .toList();
+        }
+
+        @Override
+        public void validate(Task task) {
+            if (task.getTitle() != null && task.getTitle().length() > MAX_TITLE_LENGTH) {
+                throw new IllegalArgumentException("title too long");
+            }
+        }
+
+        @Override
+        public void write(List<Task> inserts, List<Task> updates, List<Long> deletes) {
+            if (failing) {
+                throw new IllegalStateException("database unavailable");
+            }
+            if (Stream.concat(inserts.stream(), updates.stream())
+                    .anyMatch(task -> REJECTED_TITLE.equals(task.getTitle()))) {
+                throw new DataIntegrityViolationException("check constraint violated");
+            }
+            inserts.forEach(database::save);
+            updates.forEach(task -> database.update(task.getId(), task));
+            deletes.forEach(database::deleteById);
+            writtenRows.addAndGet(inserts.size() + updates.size() + deletes.size());
+        }
+    }
+}